@@ -0,0 +1,15 @@
+#!/bin/sh
+# 벤치마크용 WebM 픽스처 생성 (브라우저 MediaRecorder와 같은 48kHz 모노 Opus)
+# 사용법: ./src/jmh/generate-fixtures.sh  (backend/ddaratalk에서 실행)
+set -e
+
+out="$(dirname "$0")/resources/fixtures"
+mkdir -p "$out"
+
+for seconds in 1 5 15; do
+	ffmpeg -hide_banner -loglevel error -y \
+		-f lavfi -i "sine=frequency=220:sample_rate=48000:duration=$seconds" \
+		-ac 1 -c:a libopus -b:a 32k \
+		"$out/tone-${seconds}s.webm"
+	echo "생성: $out/tone-${seconds}s.webm"
+done
@@ -0,0 +1,62 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * WebM → WAV 변환 벤치마크
+ * file: 임시 파일 경유, pipe: ffmpeg stdin/stdout 스트리밍, pipe-pooled: 미리 띄워둔 ffmpeg 사용
+ */
+@State(Scope.Benchmark)
+public class AudioConversionBenchmark {
+
+	@Param({"1", "5", "15"})
+	private int seconds;
+
+	@Param({"file", "pipe", "pipe-pooled"})
+	private String variant;
+
+	private Path sharedDirectory;
+	private ConfigurableApplicationContext context;
+	private AudioConversionService audioConversionService;
+	private AudioConversionService.ConversionMode mode;
+	private byte[] webm;
+
+	@Setup
+	public void setUp() throws IOException, InterruptedException {
+		webm = WebmFixtures.load(seconds);
+		mode = variant.equals("file")
+			? AudioConversionService.ConversionMode.FILE
+			: AudioConversionService.ConversionMode.PIPE;
+
+		sharedDirectory = Files.createTempDirectory("ddaratalk-bench-");
+		context = BenchmarkContext.start(sharedDirectory,
+			"--app.ffmpeg.pool-size=" + (variant.equals("pipe-pooled") ? 4 : 0),
+			// 측정 스레드 수만큼 동시 변환을 허용 (입장 제한 자체는 측정 대상이 아님)
+			"--app.admission.conversion.max-concurrent=64");
+		audioConversionService = context.getBean(AudioConversionService.class);
+	}
+
+	@Benchmark
+	public String convert() throws IOException, InterruptedException {
+		String wavFilePath = audioConversionService.convertWebmToWav(new ByteArrayInputStream(webm), mode);
+		audioConversionService.cleanupTempFile(wavFilePath);
+		return wavFilePath;
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		context.close();
+		BenchmarkContext.deleteRecursively(sharedDirectory);
+	}
+}
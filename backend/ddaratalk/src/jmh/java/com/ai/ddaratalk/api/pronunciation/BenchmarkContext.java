@@ -0,0 +1,57 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.ai.ddaratalk.DdaratalkApplication;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트
+ * 웹 서버 없이 실제 빈 구성을 그대로 띄우고, 공유 디렉토리는 벤치마크마다 임시 디렉토리를 사용한다.
+ */
+final class BenchmarkContext {
+
+	private BenchmarkContext() {
+	}
+
+	/**
+	 * @param sharedDirectory 공유 디렉토리 (input/output 생성됨)
+	 * @param properties 추가 설정 (--key=value)
+	 */
+	static ConfigurableApplicationContext start(Path sharedDirectory, String... properties) throws IOException {
+		Files.createDirectories(sharedDirectory.resolve("input"));
+		Files.createDirectories(sharedDirectory.resolve("output"));
+
+		List<String> args = new ArrayList<>(List.of(
+			"--app.shared.directory=" + sharedDirectory,
+			"--spring.main.web-application-type=none",
+			"--spring.main.banner-mode=off",
+			// 요청마다 남는 INFO 로그가 측정값을 흐리지 않도록
+			"--logging.level.root=WARN",
+			// 같은 픽스처를 반복 분석하므로 캐시를 끄지 않으면 모델 경로가 측정되지 않음
+			"--app.analysis.cache.enabled=false"));
+		args.addAll(List.of(properties));
+
+		return new SpringApplicationBuilder(DdaratalkApplication.class)
+			.run(args.toArray(String[]::new));
+	}
+
+	static void deleteRecursively(Path directory) throws IOException {
+		if (directory == null || !Files.exists(directory)) {
+			return;
+		}
+		try (Stream<Path> paths = Files.walk(directory)) {
+			for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+				Files.deleteIfExists(path);
+			}
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.ai.ddaratalk.api.pronunciation.dto.PronunciationResult;
+
+/**
+ * 업로드부터 결과까지 전체 파이프라인 벤치마크
+ * 변환 → 요청 파일 → (스텁 모델 즉시 응답) → 결과 감시 → 파싱 경로의 백엔드 오버헤드를 측정한다.
+ * 동시 요청 수는 build.gradle의 jmh { threads } 설정으로 조절한다.
+ */
+@State(Scope.Benchmark)
+public class EndToEndBenchmark {
+
+	@Param({"5"})
+	private int seconds;
+
+	@Param({"file", "batch"})
+	private String transport;
+
+	@Param({"file", "pipe"})
+	private String conversionMode;
+
+	private Path sharedDirectory;
+	private ConfigurableApplicationContext context;
+	private StubModelPeer stubModelPeer;
+	private PronunciationPipeline pronunciationPipeline;
+	private byte[] webm;
+
+	@Setup
+	public void setUp() throws IOException, InterruptedException {
+		webm = WebmFixtures.load(seconds);
+
+		sharedDirectory = Files.createTempDirectory("ddaratalk-bench-");
+		stubModelPeer = new StubModelPeer(sharedDirectory);
+		context = BenchmarkContext.start(sharedDirectory,
+			"--app.analysis.transport=" + transport,
+			"--app.audio.conversion-mode=" + conversionMode,
+			"--app.admission.conversion.max-concurrent=64",
+			"--app.admission.analysis.max-concurrent=256",
+			"--app.admission.analysis.per-language-max-concurrent=256",
+			// 끝난 작업을 오래 보관하지 않도록 (측정 중 힙 증가 방지)
+			"--app.analysis.jobs.retention-seconds=1");
+		pronunciationPipeline = context.getBean(PronunciationPipeline.class);
+	}
+
+	@Benchmark
+	public PronunciationResult analyze() {
+		return pronunciationPipeline.submit(webm, "en", "The quick brown fox jumps over the lazy dog.", null)
+			.getResultFuture()
+			.join();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		context.close();
+		stubModelPeer.close();
+		BenchmarkContext.deleteRecursively(sharedDirectory);
+	}
+}
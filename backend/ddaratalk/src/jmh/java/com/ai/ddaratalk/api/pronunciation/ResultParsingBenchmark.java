@@ -0,0 +1,69 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.ai.ddaratalk.api.pronunciation.dto.PronunciationResult;
+
+/**
+ * 모델 결과 JSON → PronunciationResult 변환 벤치마크
+ * minimal: 점수만 있는 결과, full: 전사·운율 점수, 단어별 정확도, 상세 분석 정보와 모델 메타데이터가 포함된 결과
+ */
+@State(Scope.Benchmark)
+public class ResultParsingBenchmark {
+
+	private static final String MINIMAL_RESULT = """
+		{"status": "success", "score": 3.7, "timestamp": 1718000000000}""";
+
+	private static final String FULL_RESULT = """
+		{"status": "success", "score": 3.7, "timestamp": 1718000000000, "language": "en",
+		 "model_type": "original_ai_hub", "processing_time": 0.842,
+		 "transcription": "the quick brown fox jumps over the lazy dog",
+		 "prosody_score": 4.1,
+		 "word_accuracies": [
+		  {"word": "quick", "expected_pronunciation": "kwɪk", "actual_pronunciation": "kwɪk", "accuracy": 0.97, "status": "correct"},
+		  {"word": "brown", "expected_pronunciation": "braʊn", "actual_pronunciation": "bɹaʊn", "accuracy": 0.81, "status": "correct"},
+		  {"word": "jumps", "expected_pronunciation": "dʒʌmps", "actual_pronunciation": "dʒʌm", "accuracy": 0.42, "status": "incorrect",
+		   "suggestion": "끝의 -ps 발음"}],
+		 "analysis_details": {"total_words": 9, "correct_words": 8, "word_accuracy_rate": 0.89,
+		  "audio_info": {"duration": 3.2, "sample_rate": 16000, "channels": 1}},
+		 "file_info": {"wav_file": "a1b2c3d4.wav", "target_text": "The quick brown fox jumps over the lazy dog."}}""";
+
+	@Param({"minimal", "full"})
+	private String shape;
+
+	private Path sharedDirectory;
+	private ConfigurableApplicationContext context;
+	private PronunciationAnalysisService pronunciationAnalysisService;
+	private byte[] resultJson;
+
+	@Setup
+	public void setUp() throws IOException {
+		resultJson = (shape.equals("full") ? FULL_RESULT : MINIMAL_RESULT).getBytes(StandardCharsets.UTF_8);
+
+		sharedDirectory = Files.createTempDirectory("ddaratalk-bench-");
+		context = BenchmarkContext.start(sharedDirectory);
+		pronunciationAnalysisService = context.getBean(PronunciationAnalysisService.class);
+	}
+
+	@Benchmark
+	public PronunciationResult parse() {
+		return pronunciationAnalysisService.parseAnalysisResult(resultJson, "en");
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		context.close();
+		BenchmarkContext.deleteRecursively(sharedDirectory);
+	}
+}
@@ -0,0 +1,112 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 모델 없이 요청 파일에 즉시 응답하는 스텁 (shared_data/correct_ai_monitor.py와 같은 파일 규약)
+ * input/*.request → output/uuid.wav.result, input/*.batch → output/batchId.batch.result
+ * 모델 추론 시간을 빼고 백엔드 경로의 오버헤드만 측정하기 위해 사용한다.
+ */
+final class StubModelPeer implements AutoCloseable {
+
+	private final Path inputDirectory;
+	private final Path outputDirectory;
+	private final WatchService watchService;
+	private final Thread worker;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	StubModelPeer(Path sharedDirectory) throws IOException {
+		inputDirectory = sharedDirectory.resolve("input");
+		outputDirectory = sharedDirectory.resolve("output");
+		Files.createDirectories(inputDirectory);
+		Files.createDirectories(outputDirectory);
+
+		watchService = inputDirectory.getFileSystem().newWatchService();
+		inputDirectory.register(watchService, ENTRY_CREATE);
+
+		worker = new Thread(this::watchLoop, "stub-model-peer");
+		worker.setDaemon(true);
+		worker.start();
+	}
+
+	private void watchLoop() {
+		while (true) {
+			WatchKey key;
+			try {
+				key = watchService.take();
+			} catch (InterruptedException | ClosedWatchServiceException e) {
+				return;
+			}
+			for (WatchEvent<?> event : key.pollEvents()) {
+				if (event.context() instanceof Path fileName) {
+					respond(inputDirectory.resolve(fileName));
+				}
+			}
+			key.reset();
+		}
+	}
+
+	private void respond(Path requestPath) {
+		String fileName = requestPath.getFileName().toString();
+		try {
+			if (fileName.endsWith(".request")) {
+				String id = fileName.substring(0, fileName.length() - ".request".length());
+				writeAtomically(outputDirectory.resolve(id + ".wav.result"), result());
+			} else if (fileName.endsWith(".batch")) {
+				JsonNode manifest = objectMapper.readTree(requestPath.toFile());
+				List<Map<String, Object>> results = new ArrayList<>();
+				for (JsonNode item : manifest.path("items")) {
+					Map<String, Object> itemResult = result();
+					itemResult.put("id", item.path("id").asText());
+					results.add(itemResult);
+				}
+				Map<String, Object> batchResult = new LinkedHashMap<>();
+				batchResult.put("batch_id", manifest.path("batch_id").asText());
+				batchResult.put("results", results);
+				writeAtomically(outputDirectory.resolve(manifest.path("batch_id").asText() + ".batch.result"),
+					batchResult);
+			}
+		} catch (IOException e) {
+			// 요청 파일이 이미 정리된 경우 등, 해당 요청은 백엔드 쪽에서 시간 초과로 처리됨
+		}
+	}
+
+	private Map<String, Object> result() {
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("status", "success");
+		result.put("score", 3.8);
+		result.put("timestamp", System.currentTimeMillis());
+		result.put("language", "en");
+		result.put("model_type", "stub");
+		result.put("processing_time", 0.0);
+		return result;
+	}
+
+	private void writeAtomically(Path target, Object content) throws IOException {
+		Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+		objectMapper.writeValue(temp.toFile(), content);
+		Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	@Override
+	public void close() throws IOException {
+		watchService.close();
+		worker.interrupt();
+	}
+}
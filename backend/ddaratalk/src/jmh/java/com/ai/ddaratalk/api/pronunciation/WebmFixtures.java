@@ -0,0 +1,48 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 벤치마크용 WebM 녹음 픽스처
+ * src/jmh/resources/fixtures/tone-{N}s.webm (브라우저 MediaRecorder와 같은 48kHz 모노 Opus)을 사용하며,
+ * 체크인된 파일이 없으면 ffmpeg lavfi로 같은 조건의 파일을 임시 디렉토리에 생성한다.
+ * 체크인용 파일은 src/jmh/generate-fixtures.sh로 만든다.
+ */
+final class WebmFixtures {
+
+	private WebmFixtures() {
+	}
+
+	static byte[] load(int seconds) throws IOException, InterruptedException {
+		String resource = "/fixtures/tone-" + seconds + "s.webm";
+		try (InputStream in = WebmFixtures.class.getResourceAsStream(resource)) {
+			if (in != null) {
+				return in.readAllBytes();
+			}
+		}
+		return generate(seconds);
+	}
+
+	private static byte[] generate(int seconds) throws IOException, InterruptedException {
+		Path output = Files.createTempFile("tone-" + seconds + "s-", ".webm");
+		try {
+			Process process = new ProcessBuilder(
+				"ffmpeg", "-hide_banner", "-loglevel", "error", "-y",
+				"-f", "lavfi", "-i", "sine=frequency=220:sample_rate=48000:duration=" + seconds,
+				"-ac", "1", "-c:a", "libopus", "-b:a", "32k",
+				output.toString())
+				.redirectErrorStream(true)
+				.start();
+			String log = new String(process.getInputStream().readAllBytes());
+			if (process.waitFor() != 0) {
+				throw new IllegalStateException("WebM 픽스처 생성 실패 (" + seconds + "초): " + log);
+			}
+			return Files.readAllBytes(output);
+		} finally {
+			Files.deleteIfExists(output);
+		}
+	}
+}
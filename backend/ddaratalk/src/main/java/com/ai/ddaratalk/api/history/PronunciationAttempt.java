@@ -0,0 +1,100 @@
+package com.ai.ddaratalk.api.history;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.hibernate.annotations.BatchSize;
+
+import com.ai.ddaratalk.api.pronunciation.PronunciationResultCache;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 발음 분석 시도 이력
+ * 저장은 PronunciationHistoryWriter가 JDBC 배치로 수행하며, 엔티티는 조회와 스키마 정의에만 사용한다.
+ */
+@Entity
+@Table(name = "pronunciation_attempt", indexes = {
+	// 사용자 + 언어 + 목표 텍스트별 최근 N건
+	@Index(name = "idx_attempt_user_lang_text", columnList = "user_id, language, target_text_hash, created_at"),
+	// 사용자별 최근 N건
+	@Index(name = "idx_attempt_user_created", columnList = "user_id, created_at"),
+	// 보관 기간 정리
+	@Index(name = "idx_attempt_created", columnList = "created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PronunciationAttempt {
+
+	@Id
+	@Column(length = 36)
+	private String id;
+
+	@Column(name = "user_id", length = 64)
+	private String userId;
+
+	@Column(nullable = false, length = 8)
+	private String language;
+
+	@Column(name = "target_text", length = 1000)
+	private String targetText;
+
+	/**
+	 * 정규화한 목표 텍스트의 SHA-256 (대소문자·문장부호가 달라도 같은 문장으로 조회)
+	 */
+	@Column(name = "target_text_hash", nullable = false, length = 64)
+	private String targetTextHash;
+
+	private Double score;
+
+	@Column(name = "prosody_score")
+	private Double prosodyScore;
+
+	@Column(length = 1000)
+	private String transcription;
+
+	/**
+	 * 모델 처리 시간 (밀리초)
+	 */
+	@Column(name = "processing_time")
+	private Long processingTime;
+
+	@Column(name = "model_info", length = 100)
+	private String modelInfo;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+
+	@OneToMany(mappedBy = "attempt", fetch = FetchType.LAZY)
+	@OrderBy("wordIndex")
+	@BatchSize(size = 100)
+	private List<WordAccuracyRecord> wordAccuracies = new ArrayList<>();
+
+	/**
+	 * 목표 텍스트 조회 키 (정규화 후 SHA-256, 목표 텍스트가 없으면 빈 문자열의 해시)
+	 */
+	public static String hashTargetText(String targetText) {
+		try {
+			String normalized = PronunciationResultCache.normalizeText(targetText);
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(normalized.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(hash);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+		}
+	}
+}
@@ -0,0 +1,19 @@
+package com.ai.ddaratalk.api.history;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 분석 이력 조회 (단어 정확도는 @BatchSize로 한 번에 로딩)
+ */
+public interface PronunciationAttemptRepository extends JpaRepository<PronunciationAttempt, String> {
+
+	List<PronunciationAttempt> findByUserIdAndLanguageAndTargetTextHashOrderByCreatedAtDesc(
+		String userId, String language, String targetTextHash, Limit limit);
+
+	List<PronunciationAttempt> findByUserIdAndLanguageOrderByCreatedAtDesc(String userId, String language, Limit limit);
+
+	List<PronunciationAttempt> findByUserIdOrderByCreatedAtDesc(String userId, Limit limit);
+}
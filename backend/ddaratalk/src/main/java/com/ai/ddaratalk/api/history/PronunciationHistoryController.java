@@ -0,0 +1,36 @@
+package com.ai.ddaratalk.api.history;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ai.ddaratalk.api.history.dto.PronunciationAttemptResponse;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/pronunciation/history")
+@RequiredArgsConstructor
+public class PronunciationHistoryController {
+
+	private final PronunciationHistoryService historyService;
+
+	/**
+	 * 사용자의 최근 분석 이력 조회
+	 * lang, text를 지정하면 해당 언어/문장의 시도만 최신순으로 반환한다.
+	 * 분석 직후의 결과는 저장 대기열을 거치므로 잠시 뒤에 조회된다.
+	 */
+	@GetMapping
+	public ResponseEntity<List<PronunciationAttemptResponse>> getRecentAttempts(
+		@RequestParam("userId") String userId,
+		@RequestParam(value = "lang", required = false) String lang,
+		@RequestParam(value = "text", required = false) String targetText,
+		@RequestParam(value = "limit", defaultValue = "20") int limit) {
+
+		return ResponseEntity.ok(historyService.findRecentAttempts(userId, lang, targetText, limit));
+	}
+}
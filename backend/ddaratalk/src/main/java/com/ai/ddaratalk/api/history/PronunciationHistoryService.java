@@ -0,0 +1,81 @@
+package com.ai.ddaratalk.api.history;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ai.ddaratalk.api.history.dto.PronunciationAttemptResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 발음 분석 이력 조회 및 보관 기간 관리
+ */
+@Service
+@RequiredArgsConstructor
+public class PronunciationHistoryService {
+
+	private static final Logger logger = LoggerFactory.getLogger(PronunciationHistoryService.class);
+
+	public static final int MAX_LIMIT = 100;
+
+	private final PronunciationAttemptRepository attemptRepository;
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${app.history.retention-days:90}")
+	private int retentionDays;
+
+	/**
+	 * 최근 분석 이력 조회 (최신순)
+	 * @param userId 사용자 ID
+	 * @param language 언어 코드 (선택적)
+	 * @param targetText 목표 텍스트 (선택적, 언어와 함께 지정, 대소문자·문장부호 무시)
+	 * @param limit 최대 건수 (1 ~ MAX_LIMIT)
+	 */
+	@Transactional(readOnly = true)
+	public List<PronunciationAttemptResponse> findRecentAttempts(String userId, String language, String targetText,
+		int limit) {
+		Limit max = Limit.of(Math.min(Math.max(limit, 1), MAX_LIMIT));
+
+		List<PronunciationAttempt> attempts;
+		if (language != null && targetText != null) {
+			attempts = attemptRepository.findByUserIdAndLanguageAndTargetTextHashOrderByCreatedAtDesc(
+				userId, language, PronunciationAttempt.hashTargetText(targetText), max);
+		} else if (language != null) {
+			attempts = attemptRepository.findByUserIdAndLanguageOrderByCreatedAtDesc(userId, language, max);
+		} else {
+			attempts = attemptRepository.findByUserIdOrderByCreatedAtDesc(userId, max);
+		}
+
+		return attempts.stream()
+			.map(PronunciationAttemptResponse::from)
+			.toList();
+	}
+
+	/**
+	 * 보관 기간(retention-days)이 지난 이력 삭제
+	 */
+	@Scheduled(cron = "${app.history.retention-cron:0 30 3 * * *}")
+	@Transactional
+	public void purgeExpiredAttempts() {
+		Timestamp threshold = Timestamp.valueOf(LocalDateTime.now().minusDays(retentionDays));
+
+		int words = jdbcTemplate.update("""
+			DELETE FROM pronunciation_word_accuracy
+			WHERE attempt_id IN (SELECT id FROM pronunciation_attempt WHERE created_at < ?)""", threshold);
+		int attempts = jdbcTemplate.update("DELETE FROM pronunciation_attempt WHERE created_at < ?", threshold);
+
+		if (attempts > 0) {
+			logger.info("보관 기간 지난 분석 이력 삭제: {}건 (단어 {}건, 기준 {}일)", attempts, words, retentionDays);
+		}
+	}
+}
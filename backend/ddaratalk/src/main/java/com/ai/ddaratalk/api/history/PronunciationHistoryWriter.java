@@ -0,0 +1,233 @@
+package com.ai.ddaratalk.api.history;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ai.ddaratalk.api.pronunciation.PronunciationAnalyzedEvent;
+import com.ai.ddaratalk.api.pronunciation.dto.PronunciationResult;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 분석 이력 write-behind 저장기
+ * 분석 완료 이벤트는 메모리 대기열에 넣기만 하고 즉시 반환하며 (분석 응답 지연 없음),
+ * 전용 스레드가 batch-size 건 또는 flush-interval-ms마다 모아 JDBC 배치 INSERT로 저장한다.
+ * 대기열이 가득 차면 이력을 버리고 카운터만 올린다.
+ */
+@Component
+public class PronunciationHistoryWriter {
+
+	private static final Logger logger = LoggerFactory.getLogger(PronunciationHistoryWriter.class);
+
+	private static final String INSERT_ATTEMPT = """
+		INSERT INTO pronunciation_attempt
+			(id, user_id, language, target_text, target_text_hash, score, prosody_score,
+			 transcription, processing_time, model_info, created_at)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+
+	private static final String INSERT_WORD_ACCURACY = """
+		INSERT INTO pronunciation_word_accuracy
+			(attempt_id, word_index, word, expected_pronunciation, actual_pronunciation, accuracy, status, suggestion)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?)""";
+
+	private static final int[] ATTEMPT_TYPES = {
+		Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.DOUBLE, Types.DOUBLE,
+		Types.VARCHAR, Types.BIGINT, Types.VARCHAR, Types.TIMESTAMP
+	};
+
+	private static final int[] WORD_ACCURACY_TYPES = {
+		Types.VARCHAR, Types.INTEGER, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.DOUBLE, Types.VARCHAR,
+		Types.VARCHAR
+	};
+
+	@Value("${app.history.enabled:true}")
+	private boolean enabled;
+
+	@Value("${app.history.queue-capacity:10000}")
+	private int queueCapacity;
+
+	@Value("${app.history.batch-size:200}")
+	private int batchSize;
+
+	@Value("${app.history.flush-interval-ms:500}")
+	private long flushIntervalMillis;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final MeterRegistry meterRegistry;
+
+	private BlockingQueue<PendingAttempt> queue;
+	private Thread writerThread;
+	private volatile boolean running;
+
+	private Counter droppedCounter;
+	private Counter failedCounter;
+	private Timer writeTimer;
+
+	/**
+	 * 저장 대기 중인 이력 (id는 단어 정확도 행과 연결하기 위해 미리 생성)
+	 */
+	private record PendingAttempt(String id, PronunciationAnalyzedEvent event) {
+	}
+
+	public PronunciationHistoryWriter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+		MeterRegistry meterRegistry) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+		this.meterRegistry = meterRegistry;
+	}
+
+	@PostConstruct
+	public void start() {
+		queue = new LinkedBlockingQueue<>(queueCapacity);
+		Gauge.builder("pronunciation.history.queue.depth", queue, BlockingQueue::size)
+			.description("저장 대기 중인 분석 이력 수")
+			.register(meterRegistry);
+		droppedCounter = Counter.builder("pronunciation.history.dropped")
+			.description("대기열 초과로 버려진 분석 이력 수")
+			.register(meterRegistry);
+		failedCounter = Counter.builder("pronunciation.history.failed")
+			.description("저장 실패한 분석 이력 수")
+			.register(meterRegistry);
+		writeTimer = Timer.builder("pronunciation.history.write")
+			.description("이력 배치 저장 시간")
+			.register(meterRegistry);
+
+		if (!enabled) {
+			logger.info("분석 이력 저장 비활성화");
+			return;
+		}
+
+		running = true;
+		writerThread = new Thread(this::writeLoop, "history-writer");
+		writerThread.setDaemon(true);
+		writerThread.start();
+	}
+
+	/**
+	 * 종료 시 남은 이력을 모두 저장
+	 */
+	@PreDestroy
+	public void stop() throws InterruptedException {
+		// 저장 중인 JDBC 호출을 끊지 않도록 인터럽트 대신 플래그로 종료 (최대 flush-interval-ms 후 반영)
+		running = false;
+		if (writerThread != null) {
+			writerThread.join(TimeUnit.SECONDS.toMillis(10));
+		}
+	}
+
+	@EventListener
+	public void onAnalyzed(PronunciationAnalyzedEvent event) {
+		if (!enabled || event.result() == null) {
+			return;
+		}
+		if (!queue.offer(new PendingAttempt(UUID.randomUUID().toString(), event))) {
+			droppedCounter.increment();
+			logger.warn("분석 이력 대기열이 가득 차 이력을 저장하지 못했습니다 (용량: {})", queueCapacity);
+		}
+	}
+
+	private void writeLoop() {
+		List<PendingAttempt> batch = new ArrayList<>(batchSize);
+		while (running || !queue.isEmpty()) {
+			try {
+				PendingAttempt first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+			} catch (InterruptedException e) {
+				running = false;
+			}
+			queue.drainTo(batch, batchSize - batch.size());
+			if (!batch.isEmpty()) {
+				write(batch);
+				batch.clear();
+			}
+		}
+	}
+
+	private void write(List<PendingAttempt> batch) {
+		List<Object[]> attemptRows = new ArrayList<>(batch.size());
+		List<Object[]> wordRows = new ArrayList<>();
+		for (PendingAttempt pending : batch) {
+			attemptRows.add(attemptRow(pending));
+			addWordRows(pending, wordRows);
+		}
+
+		try {
+			writeTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+				jdbcTemplate.batchUpdate(INSERT_ATTEMPT, attemptRows, ATTEMPT_TYPES);
+				if (!wordRows.isEmpty()) {
+					jdbcTemplate.batchUpdate(INSERT_WORD_ACCURACY, wordRows, WORD_ACCURACY_TYPES);
+				}
+			}));
+			logger.debug("분석 이력 저장: {}건 (단어 {}건)", attemptRows.size(), wordRows.size());
+		} catch (RuntimeException e) {
+			failedCounter.increment(batch.size());
+			logger.error("분석 이력 저장 실패: {}건", batch.size(), e);
+		}
+	}
+
+	private Object[] attemptRow(PendingAttempt pending) {
+		PronunciationAnalyzedEvent event = pending.event();
+		PronunciationResult result = event.result();
+		PronunciationResult.AnalysisDetails details = result.getAnalysisDetails();
+		return new Object[] {
+			pending.id(),
+			truncate(event.userId(), 64),
+			truncate(event.language(), 8),
+			truncate(event.targetText(), 1000),
+			PronunciationAttempt.hashTargetText(event.targetText()),
+			result.getScore(),
+			result.getProsodyScore(),
+			truncate(result.getTranscription(), 1000),
+			details != null ? details.getProcessingTime() : null,
+			details != null ? truncate(details.getModelInfo(), 100) : null,
+			Timestamp.valueOf(event.analyzedAt())
+		};
+	}
+
+	private void addWordRows(PendingAttempt pending, List<Object[]> wordRows) {
+		List<PronunciationResult.WordAccuracy> words = pending.event().result().getWordAccuracies();
+		if (words == null) {
+			return;
+		}
+		for (int i = 0; i < words.size(); i++) {
+			PronunciationResult.WordAccuracy word = words.get(i);
+			wordRows.add(new Object[] {
+				pending.id(),
+				i,
+				truncate(word.getWord(), 100),
+				truncate(word.getExpectedPronunciation(), 200),
+				truncate(word.getActualPronunciation(), 200),
+				word.getAccuracy(),
+				truncate(word.getStatus(), 20),
+				truncate(word.getSuggestion(), 500)
+			});
+		}
+	}
+
+	private static String truncate(String value, int maxLength) {
+		return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+	}
+}
@@ -0,0 +1,58 @@
+package com.ai.ddaratalk.api.history;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 분석 시도별 단어 정확도 이력
+ */
+@Entity
+@Table(name = "pronunciation_word_accuracy", indexes = {
+	@Index(name = "idx_word_accuracy_attempt", columnList = "attempt_id, word_index")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WordAccuracyRecord {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "attempt_id", nullable = false)
+	private PronunciationAttempt attempt;
+
+	/**
+	 * 문장 내 단어 순서 (0부터)
+	 */
+	@Column(name = "word_index", nullable = false)
+	private Integer wordIndex;
+
+	@Column(length = 100)
+	private String word;
+
+	@Column(name = "expected_pronunciation", length = 200)
+	private String expectedPronunciation;
+
+	@Column(name = "actual_pronunciation", length = 200)
+	private String actualPronunciation;
+
+	private Double accuracy;
+
+	@Column(length = 20)
+	private String status;
+
+	@Column(length = 500)
+	private String suggestion;
+}
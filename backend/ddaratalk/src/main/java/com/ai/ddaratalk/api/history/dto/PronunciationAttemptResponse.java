@@ -0,0 +1,105 @@
+package com.ai.ddaratalk.api.history.dto;
+
+import java.time.ZoneId;
+import java.util.List;
+
+import com.ai.ddaratalk.api.history.PronunciationAttempt;
+import com.ai.ddaratalk.api.history.WordAccuracyRecord;
+import com.ai.ddaratalk.api.pronunciation.dto.PronunciationResult;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 발음 분석 이력 DTO
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PronunciationAttemptResponse {
+
+	/**
+	 * 이력 ID
+	 */
+	private String id;
+
+	/**
+	 * 언어 코드
+	 */
+	private String language;
+
+	/**
+	 * 목표 텍스트
+	 */
+	private String targetText;
+
+	/**
+	 * 발음 점수 (0.0 ~ 5.0)
+	 */
+	private Double score;
+
+	/**
+	 * 점수 백분율 (0 ~ 100)
+	 */
+	private Double scorePercentage;
+
+	/**
+	 * 점수 등급 (A, B, C, D, F)
+	 */
+	private String grade;
+
+	/**
+	 * 운율(prosody) 점수
+	 */
+	private Double prosodyScore;
+
+	/**
+	 * STT 결과
+	 */
+	private String transcription;
+
+	/**
+	 * 단어별 정확도
+	 */
+	private List<PronunciationResult.WordAccuracy> wordAccuracies;
+
+	/**
+	 * 분석 시각 (타임스탬프)
+	 */
+	private Long analyzedAt;
+
+	public static PronunciationAttemptResponse from(PronunciationAttempt attempt) {
+		// 점수 백분율/등급 계산은 분석 결과 DTO와 같은 규칙 사용
+		PronunciationResult scored = new PronunciationResult();
+		scored.setScore(attempt.getScore());
+
+		PronunciationAttemptResponse response = new PronunciationAttemptResponse();
+		response.setId(attempt.getId());
+		response.setLanguage(attempt.getLanguage());
+		response.setTargetText(attempt.getTargetText());
+		response.setScore(attempt.getScore());
+		response.setScorePercentage(scored.getScoreAsPercentage());
+		response.setGrade(scored.getScoreGrade());
+		response.setProsodyScore(attempt.getProsodyScore());
+		response.setTranscription(attempt.getTranscription());
+		response.setAnalyzedAt(attempt.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+		if (!attempt.getWordAccuracies().isEmpty()) {
+			response.setWordAccuracies(attempt.getWordAccuracies().stream()
+				.map(PronunciationAttemptResponse::toWordAccuracy)
+				.toList());
+		}
+		return response;
+	}
+
+	private static PronunciationResult.WordAccuracy toWordAccuracy(WordAccuracyRecord record) {
+		PronunciationResult.WordAccuracy word = new PronunciationResult.WordAccuracy();
+		word.setWord(record.getWord());
+		word.setExpectedPronunciation(record.getExpectedPronunciation());
+		word.setActualPronunciation(record.getActualPronunciation());
+		word.setAccuracy(record.getAccuracy());
+		word.setStatus(record.getStatus());
+		word.setSuggestion(record.getSuggestion());
+		return word;
+	}
+}
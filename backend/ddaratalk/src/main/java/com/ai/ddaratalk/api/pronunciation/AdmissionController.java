@@ -0,0 +1,177 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 분석 파이프라인 입장 제어
+ * 단계(변환, 모델 분석)별 동시 실행 수와 언어별 모델 분석 동시 실행 수를 세마포어로 제한한다.
+ * 지원하지 않는 언어는 하나(other)로 묶어 한도와 지표를 공유한다.
+ * 자리가 나기를 max-wait-ms 동안만 기다리고, 그래도 없으면 바로 거절하여
+ * 모든 요청이 함께 시간 초과되는 대신 일부 요청만 빠르게 실패하도록 한다.
+ */
+@Component
+public class AdmissionController {
+
+	private static final Logger logger = LoggerFactory.getLogger(AdmissionController.class);
+
+	private static final String OTHER_LANGUAGE = "other";
+
+	/**
+	 * 입장 제어 단계
+	 */
+	public enum Stage {
+		CONVERSION, ANALYSIS
+	}
+
+	@Value("${app.admission.max-wait-ms:200}")
+	private long maxWaitMillis;
+
+	@Value("${app.admission.retry-after-seconds:2}")
+	private long retryAfterSeconds;
+
+	@Value("${app.admission.analysis.per-language-max-concurrent:16}")
+	private int defaultPerLanguageLimit;
+
+	private final Environment environment;
+	private final MeterRegistry meterRegistry;
+
+	private final Map<Stage, Semaphore> stagePermits;
+	private final Map<String, Semaphore> languagePermits = new ConcurrentHashMap<>();
+
+	/**
+	 * 입장 허가 (사용 후 반드시 close)
+	 */
+	public interface Permit extends AutoCloseable {
+		@Override
+		void close();
+	}
+
+	public AdmissionController(Environment environment, MeterRegistry meterRegistry,
+		@Value("${app.admission.conversion.max-concurrent:4}") int conversionLimit,
+		@Value("${app.admission.analysis.max-concurrent:32}") int analysisLimit) {
+		this.environment = environment;
+		this.meterRegistry = meterRegistry;
+		this.stagePermits = Map.of(
+			Stage.CONVERSION, new Semaphore(conversionLimit, true),
+			Stage.ANALYSIS, new Semaphore(analysisLimit, true));
+
+		registerInUseGauge(Stage.CONVERSION, conversionLimit);
+		registerInUseGauge(Stage.ANALYSIS, analysisLimit);
+	}
+
+	/**
+	 * 단계 입장 허가 획득
+	 * @param stage 입장할 단계
+	 * @param language 언어 코드 (ANALYSIS 단계에서 언어별 한도 적용, CONVERSION은 null 허용)
+	 * @return 입장 허가
+	 * @throws AnalysisRejectedException max-wait-ms 안에 자리가 나지 않은 경우
+	 */
+	public Permit acquire(Stage stage, String language) {
+		long startedAt = System.nanoTime();
+		Semaphore stageSemaphore = stagePermits.get(stage);
+		Semaphore languageSemaphore = stage == Stage.ANALYSIS ? languageSemaphore(language) : null;
+
+		try {
+			if (!stageSemaphore.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+				throw reject(stage, language, HttpStatus.SERVICE_UNAVAILABLE,
+					"서버가 혼잡합니다. 잠시 후 다시 시도해주세요.");
+			}
+
+			long remainingNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis) - (System.nanoTime() - startedAt);
+			if (languageSemaphore != null
+				&& !languageSemaphore.tryAcquire(Math.max(remainingNanos, 0), TimeUnit.NANOSECONDS)) {
+				stageSemaphore.release();
+				throw reject(stage, language, HttpStatus.TOO_MANY_REQUESTS,
+					"해당 언어(" + language + ")의 분석 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AnalysisRejectedException("입장 대기 중 인터럽트 발생", retryAfterSeconds);
+		} finally {
+			waitTimer(stage).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+		}
+
+		return new Permit() {
+			private boolean released;
+
+			@Override
+			public synchronized void close() {
+				if (released) {
+					return;
+				}
+				released = true;
+				if (languageSemaphore != null) {
+					languageSemaphore.release();
+				}
+				stageSemaphore.release();
+			}
+		};
+	}
+
+	/**
+	 * 대기 없이 여유 용량만 확인 (비동기 요청 접수 시 빠른 거절용)
+	 * @throws AnalysisRejectedException 해당 단계 또는 언어의 자리가 남아있지 않은 경우
+	 */
+	public void ensureCapacity(Stage stage, String language) {
+		if (stagePermits.get(stage).availablePermits() == 0) {
+			throw reject(stage, language, HttpStatus.SERVICE_UNAVAILABLE, "서버가 혼잡합니다. 잠시 후 다시 시도해주세요.");
+		}
+		if (stage == Stage.ANALYSIS && languageSemaphore(language).availablePermits() == 0) {
+			throw reject(stage, language, HttpStatus.TOO_MANY_REQUESTS,
+				"해당 언어(" + language + ")의 분석 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+		}
+	}
+
+	private Semaphore languageSemaphore(String language) {
+		return languagePermits.computeIfAbsent(languageKey(language), lang -> {
+			int limit = environment.getProperty(
+				"app.admission.analysis.languages." + lang + ".max-concurrent", Integer.class, defaultPerLanguageLimit);
+			return new Semaphore(limit, true);
+		});
+	}
+
+	/**
+	 * 언어별 세마포어와 지표 태그의 키 (검증되지 않은 값이 늘어나지 않도록 지원 언어 외에는 other)
+	 */
+	private static String languageKey(String language) {
+		return AnalysisRequest.isSupportedLanguage(language) ? language : OTHER_LANGUAGE;
+	}
+
+	private AnalysisRejectedException reject(Stage stage, String language, HttpStatus status, String message) {
+		logger.warn("입장 거절: 단계={}, 언어={}, 상태={}", stage, language, status.value());
+		Counter.builder("pronunciation.admission.rejected")
+			.tag("stage", stage.name().toLowerCase())
+			.tag("lang", language != null ? languageKey(language) : "none")
+			.register(meterRegistry)
+			.increment();
+		return new AnalysisRejectedException(message, retryAfterSeconds, status);
+	}
+
+	private Timer waitTimer(Stage stage) {
+		return Timer.builder("pronunciation.admission.wait")
+			.description("입장 허가를 기다린 시간")
+			.tag("stage", stage.name().toLowerCase())
+			.register(meterRegistry);
+	}
+
+	private void registerInUseGauge(Stage stage, int limit) {
+		Gauge.builder("pronunciation.admission.in.use", stagePermits.get(stage), semaphore -> limit - semaphore.availablePermits())
+			.tag("stage", stage.name().toLowerCase())
+			.register(meterRegistry);
+	}
+}
@@ -0,0 +1,93 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.ai.ddaratalk.api.pronunciation.dto.AnalysisProgressEvent;
+
+/**
+ * 분석 진행 이벤트 SSE 전송기
+ * 연결 하나로 여러 작업의 진행 이벤트를 함께 전달하며, 모든 작업이 끝나면 스트림을 닫는다.
+ */
+@Component
+public class AnalysisEventStreamer {
+
+	private static final Logger logger = LoggerFactory.getLogger(AnalysisEventStreamer.class);
+
+	@Value("${app.analysis.events.timeout-ms:120000}")
+	private long emitterTimeoutMillis;
+
+	/**
+	 * 작업들의 진행 이벤트를 전달하는 SSE 스트림 생성
+	 * @param jobs 구독할 작업 목록 (비어있지 않아야 함)
+	 * @return SSE 스트림
+	 */
+	public SseEmitter stream(List<AnalysisJob> jobs) {
+		return stream(jobs, false);
+	}
+
+	/**
+	 * 작업들의 진행 이벤트를 전달하는 SSE 스트림 생성
+	 * @param jobs 구독할 작업 목록 (비어있지 않아야 함)
+	 * @param cancelOnDisconnect 클라이언트 연결이 끊기면 남은 작업을 취소할지 여부
+	 * @return SSE 스트림
+	 */
+	public SseEmitter stream(List<AnalysisJob> jobs, boolean cancelOnDisconnect) {
+		SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+		AtomicInteger remainingJobs = new AtomicInteger(jobs.size());
+		List<Runnable> unsubscribers = new ArrayList<>();
+
+		Runnable cleanup = () -> unsubscribers.forEach(Runnable::run);
+		Runnable disconnect = () -> {
+			cleanup.run();
+			if (cancelOnDisconnect) {
+				jobs.forEach(AnalysisJob::cancel);
+			}
+		};
+		emitter.onCompletion(cleanup);
+		emitter.onTimeout(cleanup);
+		emitter.onError(e -> disconnect.run());
+
+		for (AnalysisJob job : jobs) {
+			Consumer<AnalysisProgressEvent> listener = event -> {
+				if (!send(emitter, event)) {
+					disconnect.run();
+					return;
+				}
+				if (AnalysisStage.valueOf(event.getStage()).isTerminal() && remainingJobs.decrementAndGet() == 0) {
+					emitter.complete();
+				}
+			};
+			unsubscribers.add(() -> job.unsubscribe(listener));
+			job.subscribe(listener);
+		}
+
+		return emitter;
+	}
+
+	/**
+	 * @return 전송 성공 여부 (실패 시 클라이언트 연결 종료로 간주)
+	 */
+	private boolean send(SseEmitter emitter, AnalysisProgressEvent event) {
+		try {
+			emitter.send(SseEmitter.event()
+				.id(event.getJobId() + ":" + event.getStage())
+				.name(event.getStage())
+				.data(event));
+			return true;
+		} catch (IOException | IllegalStateException e) {
+			logger.debug("진행 이벤트 전송 실패: jobId={}, stage={}", event.getJobId(), event.getStage());
+			emitter.completeWithError(e);
+			return false;
+		}
+	}
+}
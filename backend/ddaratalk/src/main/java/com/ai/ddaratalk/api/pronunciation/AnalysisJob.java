@@ -0,0 +1,330 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import com.ai.ddaratalk.api.pronunciation.dto.AnalysisProgressEvent;
+import com.ai.ddaratalk.api.pronunciation.dto.PronunciationResult;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * 비동기 발음 분석 작업
+ */
+@Getter
+public class AnalysisJob {
+
+	public enum Status {
+		PENDING, RUNNING, COMPLETED, FAILED, CANCELLED
+	}
+
+	private final String id;
+	private final String language;
+	private final String targetText;
+	private final String userId;
+	private final long createdAt;
+
+	private volatile Status status = Status.PENDING;
+	private volatile String error;
+	private volatile Long completedAt;
+
+	/**
+	 * 시간 초과로 실패한 뒤 늦은 결과를 기다리는 중인지 여부 (도착하면 COMPLETED로 바뀜)
+	 */
+	private volatile boolean awaitingLateResult;
+
+	/**
+	 * 모델 요청 시 추정한 예상 완료 시각 (관측 표본이 부족하면 null)
+	 */
+	private volatile Long expectedCompletionAt;
+
+	/**
+	 * 모델 결과 마감 시각 (이 시각까지 결과가 없으면 시간 초과)
+	 */
+	private volatile Long deadlineAt;
+
+	/**
+	 * 시간 초과 후 늦게 도착한 결과
+	 */
+	@Getter(AccessLevel.NONE)
+	private volatile PronunciationResult lateResult;
+
+	/**
+	 * 작업 결과 (완료 또는 실패 시 완료됨)
+	 */
+	private final CompletableFuture<PronunciationResult> resultFuture = new CompletableFuture<>();
+
+	/**
+	 * 지금까지 발생한 진행 이벤트 (늦게 구독한 클라이언트에게 재전송)
+	 */
+	@Getter(AccessLevel.NONE)
+	private final List<AnalysisProgressEvent> events = new CopyOnWriteArrayList<>();
+
+	/**
+	 * 구독자 (이벤트 전달은 작업 잠금 밖에서 구독자별로 순서대로)
+	 */
+	@Getter(AccessLevel.NONE)
+	private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+	/**
+	 * 취소 시 실행할 작업 (변환 프로세스 종료, 모델 대기 해제 등)
+	 */
+	@Getter(AccessLevel.NONE)
+	private final List<Runnable> cancelHooks = new ArrayList<>();
+
+	public AnalysisJob(String id, String language, String targetText, String userId) {
+		this.id = id;
+		this.language = language;
+		this.targetText = targetText;
+		this.userId = userId;
+		this.createdAt = System.currentTimeMillis();
+	}
+
+	void markRunning() {
+		status = Status.RUNNING;
+	}
+
+	/**
+	 * 진행 단계 기록 및 구독자에게 전달
+	 */
+	void recordStage(AnalysisStage stage) {
+		synchronized (this) {
+			publish(AnalysisProgressEvent.of(id, stage.name()));
+		}
+		deliver();
+	}
+
+	/**
+	 * 예상 완료 시각과 마감 시각 기록 (이후 진행 이벤트에 포함됨)
+	 */
+	void recordEstimate(long expectedCompletionAt, long deadlineAt) {
+		this.expectedCompletionAt = expectedCompletionAt > 0 ? expectedCompletionAt : null;
+		this.deadlineAt = deadlineAt;
+	}
+
+	/**
+	 * 분석 서비스에 넘길 진행 수신자
+	 */
+	AnalysisProgressListener progressListener() {
+		return new AnalysisProgressListener() {
+			@Override
+			public void accept(AnalysisStage stage) {
+				recordStage(stage);
+			}
+
+			@Override
+			public void onEstimate(long expectedCompletionAt, long deadlineAt) {
+				recordEstimate(expectedCompletionAt, deadlineAt);
+			}
+		};
+	}
+
+	void complete(PronunciationResult result) {
+		synchronized (this) {
+			if (resultFuture.isDone()) {
+				return;
+			}
+			status = Status.COMPLETED;
+			completedAt = System.currentTimeMillis();
+
+			AnalysisProgressEvent event = AnalysisProgressEvent.of(id, AnalysisStage.DONE.name());
+			event.setResult(result);
+			publish(event);
+
+			resultFuture.complete(result);
+			cancelHooks.clear();
+		}
+		deliver();
+	}
+
+	void fail(Throwable e) {
+		synchronized (this) {
+			if (resultFuture.isDone()) {
+				return;
+			}
+			Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+			status = Status.FAILED;
+			error = cause.getMessage();
+			completedAt = System.currentTimeMillis();
+
+			AnalysisProgressEvent event = AnalysisProgressEvent.of(id, AnalysisStage.FAILED.name());
+			event.setError(error);
+			publish(event);
+
+			resultFuture.completeExceptionally(cause);
+			cancelHooks.clear();
+		}
+		deliver();
+	}
+
+	void awaitLateResult() {
+		awaitingLateResult = true;
+	}
+
+	/**
+	 * 시간 초과로 실패한 작업에 늦게 도착한 결과 기록 (COMPLETED로 전환 후 DONE 이벤트 전달)
+	 * @param result 늦게 도착한 결과, 유예 기간이 지나 포기했으면 null
+	 * @return 결과가 기록되었으면 true
+	 */
+	boolean recoverLateResult(PronunciationResult result) {
+		synchronized (this) {
+			awaitingLateResult = false;
+			if (result == null || status != Status.FAILED) {
+				return false;
+			}
+			status = Status.COMPLETED;
+			error = null;
+			lateResult = result;
+			completedAt = System.currentTimeMillis();
+
+			AnalysisProgressEvent event = AnalysisProgressEvent.of(id, AnalysisStage.DONE.name());
+			event.setResult(result);
+			publish(event);
+		}
+		deliver();
+		return true;
+	}
+
+	/**
+	 * 작업 취소
+	 * 진행 중인 변환/분석을 중단시키고 CANCELLED 이벤트를 전달한다.
+	 * @return 취소되었으면 true, 이미 끝난 작업이면 false
+	 */
+	public boolean cancel() {
+		List<Runnable> hooks;
+		synchronized (this) {
+			if (resultFuture.isDone()) {
+				return false;
+			}
+			status = Status.CANCELLED;
+			error = "분석이 취소되었습니다.";
+			completedAt = System.currentTimeMillis();
+
+			AnalysisProgressEvent event = AnalysisProgressEvent.of(id, AnalysisStage.CANCELLED.name());
+			event.setError(error);
+			publish(event);
+
+			resultFuture.cancel(false);
+			hooks = List.copyOf(cancelHooks);
+			cancelHooks.clear();
+		}
+		deliver();
+		hooks.forEach(Runnable::run);
+		return true;
+	}
+
+	/**
+	 * 취소 시 실행할 작업 등록 (이미 취소된 경우 즉시 실행)
+	 */
+	void onCancel(Runnable hook) {
+		synchronized (this) {
+			if (!resultFuture.isDone()) {
+				cancelHooks.add(hook);
+				return;
+			}
+			if (status != Status.CANCELLED) {
+				return;
+			}
+		}
+		hook.run();
+	}
+
+	/**
+	 * 진행 이벤트 구독
+	 * 구독 이전에 발생한 이벤트를 먼저 순서대로 전달한 뒤 이후 이벤트를 전달한다.
+	 * 구독자 호출(SSE 전송 등)은 작업 잠금 밖에서 이루어진다.
+	 */
+	public void subscribe(Consumer<AnalysisProgressEvent> listener) {
+		Subscription subscription = new Subscription(listener);
+		subscriptions.add(subscription);
+		subscription.drain();
+	}
+
+	public void unsubscribe(Consumer<AnalysisProgressEvent> listener) {
+		for (Subscription subscription : subscriptions) {
+			if (subscription.listener == listener) {
+				subscription.active = false;
+				subscriptions.remove(subscription);
+			}
+		}
+	}
+
+	/**
+	 * 이벤트 기록 (this로 동기화된 상태에서 호출, 전달은 잠금을 놓은 뒤 deliver로)
+	 */
+	private void publish(AnalysisProgressEvent event) {
+		if (!event.getStage().equals(AnalysisStage.DONE.name())) {
+			event.setExpectedCompletionAt(expectedCompletionAt);
+			event.setDeadlineAt(deadlineAt);
+		}
+		events.add(event);
+	}
+
+	/**
+	 * 기록된 이벤트 중 아직 받지 못한 이벤트를 각 구독자에게 전달
+	 */
+	private void deliver() {
+		subscriptions.forEach(Subscription::drain);
+	}
+
+	/**
+	 * 구독자 하나의 전달 위치
+	 * 여러 스레드가 동시에 drain해도 한 스레드만 전달하고, 나머지는 전달 중인 스레드가 이어서 처리하도록 표시만 한다.
+	 * events는 추가만 되므로 전달 위치까지의 순서가 구독자마다 보장된다.
+	 */
+	private final class Subscription {
+
+		private final Consumer<AnalysisProgressEvent> listener;
+		private final AtomicInteger pendingDrains = new AtomicInteger();
+		private volatile boolean active = true;
+
+		/**
+		 * 전달한 이벤트 수 (전달 중인 스레드만 접근)
+		 */
+		private int delivered;
+
+		private Subscription(Consumer<AnalysisProgressEvent> listener) {
+			this.listener = listener;
+		}
+
+		private void drain() {
+			if (pendingDrains.getAndIncrement() != 0) {
+				return;
+			}
+			int missed = 1;
+			try {
+				do {
+					while (active && delivered < events.size()) {
+						listener.accept(events.get(delivered++));
+					}
+					missed = pendingDrains.addAndGet(-missed);
+				} while (missed != 0);
+			} catch (RuntimeException e) {
+				// 실패한 구독자는 더 이상 전달하지 않음
+				active = false;
+				subscriptions.remove(this);
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * 완료된 결과 반환 (미완료 또는 실패 시 null)
+	 */
+	public PronunciationResult getResult() {
+		if (status != Status.COMPLETED) {
+			return null;
+		}
+		return lateResult != null ? lateResult : resultFuture.getNow(null);
+	}
+
+	public boolean isDone() {
+		return resultFuture.isDone();
+	}
+}
@@ -0,0 +1,71 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비동기 분석 작업 저장소
+ * 동시에 진행 중인 작업 수를 제한하고, 완료된 작업은 보관 기간이 지나면 제거한다.
+ */
+@Component
+public class AnalysisJobRegistry {
+
+	private static final Logger logger = LoggerFactory.getLogger(AnalysisJobRegistry.class);
+
+	@Value("${app.analysis.jobs.max-active:1000}")
+	private int maxActiveJobs;
+
+	@Value("${app.analysis.jobs.retention-seconds:300}")
+	private long retentionSeconds;
+
+	private final Map<String, AnalysisJob> jobs = new ConcurrentHashMap<>();
+	private final AtomicInteger activeJobs = new AtomicInteger();
+
+	/**
+	 * 새 작업 등록
+	 * @param userId 요청 사용자 (선택적)
+	 * @throws AnalysisRejectedException 진행 중인 작업 수가 상한에 도달한 경우
+	 */
+	public AnalysisJob register(String language, String targetText, String userId) {
+		if (activeJobs.incrementAndGet() > maxActiveJobs) {
+			activeJobs.decrementAndGet();
+			throw new AnalysisRejectedException("진행 중인 분석 작업이 너무 많습니다. 잠시 후 다시 시도해주세요.", 1);
+		}
+
+		AnalysisJob job = new AnalysisJob(UUID.randomUUID().toString(), language, targetText, userId);
+		jobs.put(job.getId(), job);
+		job.getResultFuture().whenComplete((result, e) -> activeJobs.decrementAndGet());
+		return job;
+	}
+
+	public Optional<AnalysisJob> find(String jobId) {
+		return Optional.ofNullable(jobs.get(jobId));
+	}
+
+	public int getActiveJobCount() {
+		return activeJobs.get();
+	}
+
+	/**
+	 * 보관 기간이 지난 완료 작업 제거
+	 */
+	@Scheduled(fixedDelayString = "${app.analysis.jobs.eviction-interval-ms:60000}")
+	public void evictExpiredJobs() {
+		long threshold = System.currentTimeMillis() - retentionSeconds * 1000;
+		int before = jobs.size();
+		jobs.values().removeIf(job -> job.getCompletedAt() != null && job.getCompletedAt() < threshold);
+		int evicted = before - jobs.size();
+		if (evicted > 0) {
+			logger.debug("만료된 분석 작업 제거: {}건", evicted);
+		}
+	}
+}
@@ -0,0 +1,17 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+/**
+ * 모델 분석 우선순위 (ModelJobScheduler는 높은 순위부터 모델에 전달)
+ */
+public enum AnalysisPriority {
+
+	/**
+	 * 사용자가 결과를 기다리는 발음 연습
+	 */
+	INTERACTIVE,
+
+	/**
+	 * 일괄 분석, 재채점 등 대량 요청
+	 */
+	BULK
+}
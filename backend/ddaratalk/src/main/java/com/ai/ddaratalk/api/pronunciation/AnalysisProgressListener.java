@@ -0,0 +1,19 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.util.function.Consumer;
+
+/**
+ * 분석 진행 수신자
+ * 진행 단계와 함께, 모델에 요청을 보낼 때 정한 예상 완료 시각과 마감 시각을 전달받는다.
+ */
+@FunctionalInterface
+public interface AnalysisProgressListener extends Consumer<AnalysisStage> {
+
+	/**
+	 * 모델 요청 직전 예상 완료 시각과 마감 시각
+	 * @param expectedCompletionAt 예상 완료 시각 (타임스탬프)
+	 * @param deadlineAt 이 시각까지 결과가 없으면 시간 초과 (타임스탬프)
+	 */
+	default void onEstimate(long expectedCompletionAt, long deadlineAt) {
+	}
+}
@@ -0,0 +1,34 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 분석 요청 거절 예외
+ * 처리 용량이 가득 차 새 요청을 받을 수 없을 때 발생하며, 재시도까지 권장 대기 시간을 함께 전달한다.
+ */
+public class AnalysisRejectedException extends RuntimeException {
+
+	private final long retryAfterSeconds;
+	private final HttpStatus status;
+
+	public AnalysisRejectedException(String message, long retryAfterSeconds) {
+		this(message, retryAfterSeconds, HttpStatus.SERVICE_UNAVAILABLE);
+	}
+
+	public AnalysisRejectedException(String message, long retryAfterSeconds, HttpStatus status) {
+		super(message);
+		this.retryAfterSeconds = retryAfterSeconds;
+		this.status = status;
+	}
+
+	public long getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+
+	/**
+	 * 응답 상태 (전체 용량 포화: 503, 언어별 한도 초과: 429)
+	 */
+	public HttpStatus getStatus() {
+		return status;
+	}
+}
@@ -0,0 +1,46 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 모델에 전달할 분석 요청
+ * @param id 요청 ID (WAV 파일명에서 확장자를 제외한 UUID)
+ * @param wavPath 16kHz 모노 s16le WAV 파일 경로
+ * @param language 분석할 언어 (en, de, es, fr, jp, ru, zh)
+ * @param targetText 목표 텍스트 (선택적)
+ * @param timeout 결과 대기 시간
+ */
+public record AnalysisRequest(String id, Path wavPath, String language, String targetText, Duration timeout) {
+
+	/**
+	 * 모델이 지원하는 언어
+	 */
+	public static final List<String> SUPPORTED_LANGUAGES = List.of("en", "de", "es", "fr", "jp", "ru", "zh");
+
+	public static boolean isSupportedLanguage(String language) {
+		return language != null && SUPPORTED_LANGUAGES.contains(language);
+	}
+
+	/**
+	 * 지원하지 않는 언어에 대한 안내 메시지
+	 */
+	public static String unsupportedLanguageMessage(String language) {
+		return "지원하지 않는 언어입니다: " + language + " (지원 언어: " + String.join(", ", SUPPORTED_LANGUAGES) + ")";
+	}
+
+	/**
+	 * 앞뒤 공백을 제거한 목표 텍스트 (비어있으면 null)
+	 */
+	public String trimmedTargetText() {
+		return targetText != null && !targetText.trim().isEmpty() ? targetText.trim() : null;
+	}
+
+	/**
+	 * 결과 대기 시간만 바꾼 요청 (스케줄러 대기열에서 보낸 시간만큼 줄일 때 사용)
+	 */
+	public AnalysisRequest withTimeout(Duration timeout) {
+		return new AnalysisRequest(id, wavPath, language, targetText, timeout);
+	}
+}
@@ -0,0 +1,22 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 분석 요청 처리 예외
+ * 스트림(SSE, NDJSON)을 반환하는 요청에서 스트림을 열기 전에 실패한 경우 응답 상태를 함께 전달한다.
+ * 잘못된 요청(400), 업로드 파일 읽기 실패(500) 등.
+ */
+public class AnalysisRequestException extends RuntimeException {
+
+	private final HttpStatus status;
+
+	public AnalysisRequestException(String message, HttpStatus status) {
+		super(message);
+		this.status = status;
+	}
+
+	public HttpStatus getStatus() {
+		return status;
+	}
+}
@@ -0,0 +1,82 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.io.IOException;
+
+import com.ai.ddaratalk.api.pronunciation.dto.PronunciationResult;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.deser.DeserializationProblemHandler;
+
+/**
+ * 모델 결과 JSON(.wav.result 등) → PronunciationResult 직접 바인딩
+ * 모델 측 snake_case 필드(prosody_score, word_accuracies, analysis_details, audio_info ...)를
+ * 중간 Map 없이 DTO와 중첩 객체에 바로 채운다.
+ * 최상위에 오는 모델 메타데이터(processing_time(초), language, model_type)는 analysisDetails로 옮긴다.
+ */
+final class AnalysisResultReader {
+
+	/**
+	 * 설정이 끝난 뒤에는 불변이므로 모든 요청이 공유
+	 */
+	private static final ObjectReader READER = createReader();
+
+	private AnalysisResultReader() {
+	}
+
+	static PronunciationResult read(byte[] resultJson) throws IOException {
+		return READER.readValue(resultJson);
+	}
+
+	private static ObjectReader createReader() {
+		ObjectMapper mapper = new ObjectMapper()
+			.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+			.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+			.addHandler(new ModelMetadataHandler());
+
+		// 최상위 메타데이터로 먼저 만든 analysisDetails를 analysis_details 필드가 덮어쓰지 않고 병합하도록
+		mapper.configOverride(PronunciationResult.AnalysisDetails.class).setMergeable(true);
+
+		return mapper.readerFor(PronunciationResult.class);
+	}
+
+	/**
+	 * DTO에 없는 최상위 모델 메타데이터를 analysisDetails에 기록
+	 */
+	private static final class ModelMetadataHandler extends DeserializationProblemHandler {
+
+		@Override
+		public boolean handleUnknownProperty(DeserializationContext ctxt, JsonParser p,
+			JsonDeserializer<?> deserializer, Object beanOrClass, String propertyName) throws IOException {
+			if (!(beanOrClass instanceof PronunciationResult result) || !p.currentToken().isScalarValue()) {
+				return false;
+			}
+
+			switch (propertyName) {
+				case "processing_time" -> {
+					if (p.currentToken() != JsonToken.VALUE_NULL) {
+						details(result).setProcessingTime(Math.round(p.getValueAsDouble() * 1000));
+					}
+				}
+				case "model_type" -> details(result).setModelInfo(p.getValueAsString());
+				case "language" -> details(result).setLanguage(p.getValueAsString());
+				default -> {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private PronunciationResult.AnalysisDetails details(PronunciationResult result) {
+			if (result.getAnalysisDetails() == null) {
+				result.setAnalysisDetails(new PronunciationResult.AnalysisDetails());
+			}
+			return result.getAnalysisDetails();
+		}
+	}
+}
@@ -0,0 +1,189 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 분석 결과 파일 감시기
+ * output 디렉토리를 WatchService 하나로 감시하다가 결과 파일(*.wav.result, *.batch.result)이 생성되면
+ * 해당 파일을 기다리는 요청의 CompletableFuture를 즉시 완료시킨다.
+ * 이벤트가 전달되지 않는 파일시스템(bind mount 등)을 위해 폴링 스레드 하나가 주기적인 존재 확인도 병행한다.
+ */
+@Component
+public class AnalysisResultWatcher {
+
+	private static final Logger logger = LoggerFactory.getLogger(AnalysisResultWatcher.class);
+
+	private static final String RESULT_SUFFIX = ".result";
+
+	@Value("${app.shared.directory:/tmp/shared_data}")
+	private String sharedDirectory;
+
+	@Value("${app.analysis.poll-interval-ms:1000}")
+	private long pollIntervalMillis;
+
+	/**
+	 * 결과 파일명별 대기 중인 Future
+	 */
+	private final Map<String, CompletableFuture<Path>> pendingResults = new ConcurrentHashMap<>();
+
+	private Path outputDirectory;
+	private WatchService watchService;
+	private ScheduledExecutorService poller;
+	private volatile boolean running;
+
+	public AnalysisResultWatcher() {
+	}
+
+	/**
+	 * 기본 공유 디렉토리가 아닌 모델 워커 스풀 감시용 (start/stop은 생성한 쪽에서 호출)
+	 */
+	AnalysisResultWatcher(String sharedDirectory, long pollIntervalMillis) {
+		this.sharedDirectory = sharedDirectory;
+		this.pollIntervalMillis = pollIntervalMillis;
+	}
+
+	/**
+	 * output 디렉토리 감시 시작
+	 */
+	@PostConstruct
+	public void start() {
+		outputDirectory = Paths.get(sharedDirectory, "output").toAbsolutePath();
+
+		// 대기 중인 모든 요청을 스레드 하나로 폴링
+		poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "analysis-result-poller");
+			thread.setDaemon(true);
+			return thread;
+		});
+		poller.scheduleWithFixedDelay(this::pollPendingResults,
+			pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+
+		try {
+			Files.createDirectories(outputDirectory);
+			watchService = outputDirectory.getFileSystem().newWatchService();
+			outputDirectory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+		} catch (IOException e) {
+			logger.warn("결과 디렉토리 감시 시작 실패, 폴링 방식으로만 동작합니다: {}", outputDirectory, e);
+			watchService = null;
+			return;
+		}
+
+		running = true;
+		Thread watcherThread = new Thread(this::watchLoop, "analysis-result-watcher");
+		watcherThread.setDaemon(true);
+		watcherThread.start();
+		logger.info("결과 디렉토리 감시 시작: {}", outputDirectory);
+	}
+
+	/**
+	 * 감시 종료
+	 */
+	@PreDestroy
+	public void stop() {
+		running = false;
+		poller.shutdownNow();
+		if (watchService != null) {
+			try {
+				watchService.close();
+			} catch (IOException e) {
+				logger.warn("WatchService 종료 실패", e);
+			}
+		}
+	}
+
+	/**
+	 * 결과 파일 생성 감시 등록
+	 * 생성 이벤트를 받으면 즉시 완료되며, 이벤트가 오지 않더라도 폴링 주기마다 파일 존재를 확인한다.
+	 * 대기하는 동안 호출 스레드를 점유하지 않는다.
+	 * @param resultFileName 결과 파일명 (uuid.wav.result 또는 batchId.batch.result)
+	 * @param timeout 최대 대기 시간 (초과 시 TimeoutException으로 완료)
+	 * @return 결과 파일 경로로 완료되는 Future (cancel 시 감시 등록도 해제됨)
+	 */
+	public CompletableFuture<Path> watchResult(String resultFileName, Duration timeout) {
+		// 시간 초과 직후 다시 기다리는 경우, 아직 제거되지 않은 이전 Future는 새로 교체
+		CompletableFuture<Path> future = pendingResults.compute(resultFileName,
+			(k, existing) -> existing == null || existing.isDone() ? new CompletableFuture<>() : existing);
+
+		// 등록 이전에 이미 생성된 경우 대비
+		completeIfExists(resultFileName, future);
+
+		future.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+		future.whenComplete((path, e) -> pendingResults.remove(resultFileName, future));
+		return future;
+	}
+
+	/**
+	 * 이벤트가 전달되지 않는 경우를 대비한 주기적 존재 확인
+	 */
+	private void pollPendingResults() {
+		pendingResults.forEach(this::completeIfExists);
+	}
+
+	/**
+	 * WatchService 이벤트 처리 루프
+	 */
+	private void watchLoop() {
+		while (running) {
+			WatchKey key;
+			try {
+				key = watchService.take();
+			} catch (InterruptedException | ClosedWatchServiceException e) {
+				break;
+			}
+
+			for (WatchEvent<?> event : key.pollEvents()) {
+				if (event.kind() == OVERFLOW) {
+					// 이벤트 유실 시 대기 중인 모든 항목 재확인
+					pollPendingResults();
+					continue;
+				}
+
+				String fileName = event.context().toString();
+				if (fileName.endsWith(RESULT_SUFFIX)) {
+					CompletableFuture<Path> future = pendingResults.get(fileName);
+					if (future != null) {
+						future.complete(outputDirectory.resolve(fileName));
+					}
+				}
+			}
+
+			if (!key.reset()) {
+				logger.warn("결과 디렉토리 감시 키가 무효화되었습니다. 폴링 방식으로 전환합니다: {}", outputDirectory);
+				break;
+			}
+		}
+	}
+
+	private void completeIfExists(String resultFileName, CompletableFuture<Path> future) {
+		Path resultFilePath = outputDirectory.resolve(resultFileName);
+		if (Files.exists(resultFilePath)) {
+			future.complete(resultFilePath);
+		}
+	}
+}
@@ -0,0 +1,46 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+/**
+ * 발음 분석 진행 단계
+ */
+public enum AnalysisStage {
+
+	/**
+	 * 업로드 수신 완료
+	 */
+	UPLOAD_RECEIVED,
+
+	/**
+	 * WAV 변환 완료
+	 */
+	WAV_CONVERTED,
+
+	/**
+	 * 분석 요청 파일 생성 완료
+	 */
+	REQUEST_WRITTEN,
+
+	/**
+	 * 모델 결과 파싱 완료
+	 */
+	RESULT_PARSED,
+
+	/**
+	 * 분석 완료 (최종 결과 포함)
+	 */
+	DONE,
+
+	/**
+	 * 분석 실패
+	 */
+	FAILED,
+
+	/**
+	 * 사용자 취소 또는 클라이언트 연결 종료로 중단
+	 */
+	CANCELLED;
+
+	public boolean isTerminal() {
+		return this == DONE || this == FAILED || this == CANCELLED;
+	}
+}
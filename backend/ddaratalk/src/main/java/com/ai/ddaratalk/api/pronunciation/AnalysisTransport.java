@@ -0,0 +1,45 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * 모델과의 분석 요청/결과 교환 방식
+ * 구현체는 app.analysis.transport 설정으로 선택한다. (file: 공유 디렉토리, batch: 배치 매니페스트, socket: Unix 도메인 소켓,
+ * routed: 여러 모델 워커로 분배)
+ */
+public interface AnalysisTransport {
+
+	/**
+	 * 분석 요청 전송 후 결과 수신
+	 * 대기 시간(request.timeout)을 넘기면 TimeoutException으로 완료되어야 한다.
+	 * 시간 초과된 요청은 모델이 계속 처리할 수 있으므로, 호출 측이 awaitLateResult 또는 abandon으로 마무리한다.
+	 * @param request 분석 요청
+	 * @param progressListener 진행 단계 수신자 (요청 전달 시 REQUEST_WRITTEN)
+	 * @return 모델이 반환한 결과 JSON으로 완료되는 Future
+	 */
+	CompletableFuture<byte[]> exchange(AnalysisRequest request, Consumer<AnalysisStage> progressListener);
+
+	/**
+	 * 시간 초과된 요청의 결과를 유예 기간 동안 계속 기다림
+	 * 결과 수신 또는 유예 만료 시 요청 관련 파일을 정리하며, 만료되면 abandon과 같이 모델 측에 알린다.
+	 * @return 늦게 도착한 결과 JSON으로 완료되는 Future, 지원하지 않는 전송 방식이면 null
+	 */
+	default CompletableFuture<byte[]> awaitLateResult(AnalysisRequest request, Duration gracePeriod) {
+		return null;
+	}
+
+	/**
+	 * 더 이상 결과를 기다리지 않는 요청을 모델 측에 알림 (아직 처리 전이면 건너뜀)
+	 */
+	default void abandon(AnalysisRequest request) {
+	}
+
+	/**
+	 * 모델별 회로 차단기를 전송 계층에서 직접 관리하는지 여부 (true면 서비스의 기본 차단기를 거치지 않음)
+	 */
+	default boolean managesModelHealth() {
+		return false;
+	}
+}
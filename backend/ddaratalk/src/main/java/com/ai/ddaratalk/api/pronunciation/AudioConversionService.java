@@ -1,15 +1,26 @@
 package com.ai.ddaratalk.api.pronunciation;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Future;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,43 +28,331 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import io.micrometer.observation.Observation;
+import lombok.RequiredArgsConstructor;
+
 @Service
+@RequiredArgsConstructor
 public class AudioConversionService {
 
 	private static final Logger logger = LoggerFactory.getLogger(AudioConversionService.class);
 
+	private final FFmpegProbe ffmpegProbe;
+	private final FFmpegProcessPool ffmpegProcessPool;
+	private final AdmissionController admissionController;
+	private final PronunciationMetrics pronunciationMetrics;
+	private final SharedDirectoryJanitor sharedDirectoryJanitor;
+	private final LateResultRegistry lateResults;
+
 	@Value("${app.shared.directory:/tmp/shared_data}")
 	private String sharedDirectory;
 
+	@Value("${app.audio.conversion-mode:file}")
+	private String conversionMode;
+
+	@Value("${app.audio.conversion-timeout-seconds:30}")
+	private long conversionTimeoutSeconds;
+
 	private static final String TEMP_DIR = System.getProperty("java.io.tmpdir");
 
+	private static final int SAMPLE_RATE = 16000;   // AI 모델 입력 샘플링 레이트
+	private static final int CHANNELS = 1;          // 모노
+	private static final int BITS_PER_SAMPLE = 16;  // s16le
+
+	/**
+	 * WAV 헤더 해석 후 ffmpeg로 되돌아갈 때까지 보관할 수 있는 최대 길이 (LIST 등 부가 청크 포함)
+	 * 헤더가 이보다 길면 Java로 처리하지 않고 ffmpeg로 변환한다.
+	 */
+	private static final int WAV_HEADER_MARK_LIMIT = 64 * 1024;
+
+	/**
+	 * WebM → WAV 변환 방식
+	 */
+	public enum ConversionMode {
+		/**
+		 * 임시 파일을 거쳐 변환 후 공유 폴더로 이동
+		 */
+		FILE,
+
+		/**
+		 * stdin/stdout 파이프로 공유 폴더 WAV에 직접 기록
+		 */
+		PIPE
+	}
+
 	/**
-	 * WebM 파일을 WAV로 변환하고 공유 폴더로 이동
-	 * @param webmFile 업로드된 WebM 파일
+	 * 업로드 파일을 WAV로 변환하고 공유 폴더로 이동
+	 * @param webmFile 업로드된 오디오 파일 (WebM, Ogg, WAV 등)
 	 * @return 공유 폴더 내 WAV 파일 경로
 	 */
 	public String convertWebmToWav(MultipartFile webmFile) throws IOException, InterruptedException {
+		return convertWebmToWav(webmFile.getInputStream());
+	}
+
+	/**
+	 * 업로드 스트림을 WAV로 변환하고 공유 폴더로 이동
+	 * @param webmStream 오디오 스트림 (WebM, Ogg, WAV 등)
+	 * @return 공유 폴더 내 WAV 파일 경로
+	 */
+	public String convertWebmToWav(InputStream webmStream) throws IOException, InterruptedException {
+		return convertWebmToWav(webmStream, ConversionMode.valueOf(conversionMode.toUpperCase()));
+	}
+
+	/**
+	 * 지정한 방식으로 업로드 스트림을 WAV로 변환 (벤치마크 비교용)
+	 * 형식은 파일 앞부분의 시그니처로 판별한다. PCM WAV는 ffmpeg 없이 처리하고
+	 * (16kHz 모노 16bit는 그대로 복사, 그 외는 Java로 다운믹스·리샘플링), WebM/Ogg 등 컨테이너만 ffmpeg로 변환한다.
+	 * @param webmStream 오디오 스트림 (WebM, Ogg, WAV 등)
+	 * @param mode ffmpeg 변환 방식
+	 * @return 공유 폴더 내 WAV 파일 경로
+	 */
+	public String convertWebmToWav(InputStream webmStream, ConversionMode mode)
+		throws IOException, InterruptedException {
+		BufferedInputStream input = new BufferedInputStream(webmStream, WAV_HEADER_MARK_LIMIT);
+		if (UploadFormat.detect(input) == UploadFormat.WAV) {
+			String wavFilePath = convertNativeWav(input);
+			if (wavFilePath != null) {
+				return wavFilePath;
+			}
+		}
+
 		// FFmpeg 설치 확인
 		checkFFmpegInstallation();
 
+		// 동시 변환 수 제한 (초과 시 AnalysisRejectedException)
+		try (AdmissionController.Permit permit = admissionController.acquire(AdmissionController.Stage.CONVERSION, null)) {
+			pronunciationMetrics.recordConversionPath("ffmpeg");
+			return convertWithPermit(input, mode);
+		}
+	}
+
+	/**
+	 * PCM WAV를 ffmpeg 없이 모델 입력 형식(16kHz 모노 s16le)으로 기록
+	 * @param input 스트림 처음 위치 (mark/reset 지원)
+	 * @return 공유 폴더 내 WAV 파일 경로, Java로 처리할 수 없는 WAV(압축 코덱, 특이 레이트)면 null (스트림은 처음 위치로 복귀)
+	 */
+	private String convertNativeWav(BufferedInputStream input) throws IOException {
+		input.mark(WAV_HEADER_MARK_LIMIT);
+		WavHeader.Format format;
+		try {
+			// 부가 청크를 건너뛰다 mark 범위를 넘으면 reset할 수 없으므로 헤더 해석은 범위 안에서만
+			format = WavHeader.readFormat(new MarkLimitedInputStream(input, WAV_HEADER_MARK_LIMIT));
+		} catch (IOException e) {
+			logger.debug("WAV 헤더 해석 실패, ffmpeg로 변환: {}", e.getMessage());
+			input.reset();
+			return null;
+		}
+
+		boolean passThrough = format.matches(SAMPLE_RATE, CHANNELS, BITS_PER_SAMPLE);
+		if (!passThrough && (!format.isLinearPcm() || !PcmResampler.supports(format.sampleRate(), SAMPLE_RATE))) {
+			logger.debug("Java로 처리할 수 없는 WAV, ffmpeg로 변환: {}", format);
+			input.reset();
+			return null;
+		}
+
+		createSharedDirectories();
+		String uuid = UUID.randomUUID().toString();
+		Path sharedWavPath = Paths.get(sharedDirectory, "input", uuid + ".wav").toAbsolutePath();
+		sharedDirectoryJanitor.track(uuid);
+
+		try {
+			pronunciationMetrics.stage(PronunciationMetrics.Stage.PCM_DECODE, uuid).observeChecked(() -> {
+				if (passThrough) {
+					copyPcm(input, format.dataLength(), sharedWavPath);
+				} else {
+					writePcm(toModelInput(input, format), sharedWavPath);
+				}
+			});
+		} catch (IOException | RuntimeException e) {
+			sharedDirectoryJanitor.release(uuid);
+			Files.deleteIfExists(sharedWavPath);
+			throw e;
+		}
+
+		pronunciationMetrics.recordConversionPath(passThrough ? "passthrough" : "resample");
+		logger.info("WAV {} 완료 ({}Hz {}ch {}bit): {}", passThrough ? "복사" : "리샘플링",
+			format.sampleRate(), format.channels(), format.bitsPerSample(), sharedWavPath);
+		return sharedWavPath.toString();
+	}
+
+	/**
+	 * mark 이후 limit 바이트까지만 읽을 수 있는 스트림 (넘으면 IOException)
+	 */
+	private static final class MarkLimitedInputStream extends FilterInputStream {
+
+		private long remaining;
+
+		private MarkLimitedInputStream(InputStream in, long limit) {
+			super(in);
+			this.remaining = limit;
+		}
+
+		@Override
+		public int read() throws IOException {
+			ensureRemaining();
+			int read = super.read();
+			if (read != -1) {
+				remaining--;
+			}
+			return read;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (len == 0) {
+				return 0;
+			}
+			ensureRemaining();
+			int read = super.read(b, off, (int) Math.min(len, remaining));
+			if (read > 0) {
+				remaining -= read;
+			}
+			return read;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			if (n <= 0) {
+				return 0;
+			}
+			ensureRemaining();
+			long skipped = super.skip(Math.min(n, remaining));
+			remaining -= skipped;
+			return skipped;
+		}
+
+		private void ensureRemaining() throws IOException {
+			if (remaining <= 0) {
+				throw new IOException("WAV 헤더가 너무 깁니다 (" + WAV_HEADER_MARK_LIMIT + "바이트 초과).");
+			}
+		}
+	}
+
+	/**
+	 * 이미 모델 입력 형식인 PCM을 표준 헤더와 함께 복사 (LIST 등 부가 청크 제거)
+	 */
+	private void copyPcm(InputStream pcm, long dataLength, Path wavPath) throws IOException {
+		try (FileChannel channel = FileChannel.open(wavPath,
+			StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			channel.write(WavHeader.create(SAMPLE_RATE, CHANNELS, BITS_PER_SAMPLE, 0));
+			// data 청크 뒤에 붙은 청크는 복사하지 않음 (길이를 모르면 끝까지)
+			OutputStream out = Channels.newOutputStream(channel);
+			long remaining = dataLength == WavHeader.UNKNOWN_LENGTH ? Long.MAX_VALUE : dataLength;
+			long written = 0;
+			byte[] buffer = new byte[8192];
+			int read;
+			while (remaining > 0 && (read = pcm.read(buffer, 0, (int) Math.min(buffer.length, remaining))) > 0) {
+				out.write(buffer, 0, read);
+				remaining -= read;
+				written += read;
+			}
+			written -= written % (BITS_PER_SAMPLE / 8);
+			channel.truncate(WavHeader.HEADER_SIZE + written);
+			channel.write(WavHeader.create(SAMPLE_RATE, CHANNELS, BITS_PER_SAMPLE, written), 0);
+		}
+	}
+
+	/**
+	 * PCM WAV를 디코딩해 모노로 다운믹스하고 16kHz로 리샘플링
+	 * @return -1.0 ~ 1.0 범위의 16kHz 모노 샘플
+	 */
+	private static float[] toModelInput(InputStream pcm, WavHeader.Format format) throws IOException {
+		byte[] data = format.dataLength() == WavHeader.UNKNOWN_LENGTH
+			? pcm.readAllBytes()
+			: pcm.readNBytes((int) Math.min(format.dataLength(), Integer.MAX_VALUE));
+
+		int bytesPerSample = format.bitsPerSample() / 8;
+		int channels = format.channels();
+		int frames = data.length / format.blockAlign();
+		ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+
+		float[] mono = new float[frames];
+		for (int frame = 0; frame < frames; frame++) {
+			double sum = 0;
+			for (int channel = 0; channel < channels; channel++) {
+				int offset = (frame * channels + channel) * bytesPerSample;
+				sum += decodeSample(buffer, offset, format.bitsPerSample(), format.isFloat());
+			}
+			mono[frame] = (float) (sum / channels);
+		}
+		return PcmResampler.resample(mono, format.sampleRate(), SAMPLE_RATE);
+	}
+
+	private static double decodeSample(ByteBuffer buffer, int offset, int bitsPerSample, boolean isFloat) {
+		if (isFloat) {
+			return bitsPerSample == 32 ? buffer.getFloat(offset) : buffer.getDouble(offset);
+		}
+		return switch (bitsPerSample) {
+			case 8 -> ((buffer.get(offset) & 0xFF) - 128) / 128.0;   // 8bit PCM은 부호 없음
+			case 16 -> buffer.getShort(offset) / 32768.0;
+			case 24 -> (((buffer.get(offset + 2) << 16) | ((buffer.get(offset + 1) & 0xFF) << 8)
+				| (buffer.get(offset) & 0xFF))) / 8388608.0;
+			default -> buffer.getInt(offset) / 2147483648.0;
+		};
+	}
+
+	/**
+	 * -1.0 ~ 1.0 샘플을 16kHz 모노 s16le WAV로 기록
+	 */
+	private static void writePcm(float[] samples, Path wavPath) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(WavHeader.HEADER_SIZE + samples.length * 2)
+			.order(ByteOrder.LITTLE_ENDIAN);
+		buffer.put(WavHeader.create(SAMPLE_RATE, CHANNELS, BITS_PER_SAMPLE, samples.length * 2L));
+		for (float sample : samples) {
+			buffer.putShort((short) Math.round(Math.max(-1f, Math.min(1f, sample)) * 32767));
+		}
+		buffer.flip();
+
+		try (FileChannel channel = FileChannel.open(wavPath,
+			StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		}
+	}
+
+	private String convertWithPermit(InputStream webmStream, ConversionMode mode)
+		throws IOException, InterruptedException {
+
 		// 공유 폴더 생성
 		createSharedDirectories();
 
-		// 임시 파일 생성
 		String uuid = UUID.randomUUID().toString();
-		Path tempWebmPath = Paths.get(TEMP_DIR, uuid + ".webm");
-		Path tempWavPath = Paths.get(TEMP_DIR, uuid + ".wav");
 
 		// 절대 경로로 공유 폴더 경로 구성
 		Path sharedWavPath = Paths.get(sharedDirectory, "input", uuid + ".wav").toAbsolutePath();
+		sharedDirectoryJanitor.track(uuid);
+
+		try {
+			return convertToSharedWav(uuid, webmStream, sharedWavPath, mode);
+		} catch (IOException | InterruptedException | RuntimeException e) {
+			sharedDirectoryJanitor.release(uuid);
+			throw e;
+		}
+	}
+
+	private String convertToSharedWav(String uuid, InputStream webmStream, Path sharedWavPath, ConversionMode mode)
+		throws IOException, InterruptedException {
+
+		if (mode == ConversionMode.PIPE) {
+			runFFmpeg(uuid, () -> convertWithPipe(webmStream, sharedWavPath));
+			logger.info("WAV 파이프 변환 완료: {}", sharedWavPath);
+			return sharedWavPath.toString();
+		}
+
+		// 임시 파일 생성
+		Path tempWebmPath = Paths.get(TEMP_DIR, uuid + ".webm");
+		Path tempWavPath = Paths.get(TEMP_DIR, uuid + ".wav");
 
 		try {
 			// WebM 파일을 임시 디렉토리에 저장
-			Files.copy(webmFile.getInputStream(), tempWebmPath, StandardCopyOption.REPLACE_EXISTING);
+			pronunciationMetrics.stage(PronunciationMetrics.Stage.UPLOAD_COPY, uuid).observeChecked(() -> {
+				Files.copy(webmStream, tempWebmPath, StandardCopyOption.REPLACE_EXISTING);
+			});
 			logger.info("WebM 파일 저장 완료: {}", tempWebmPath);
 
 			// FFmpeg로 변환 실행
-			executeFFmpegConversion(tempWebmPath.toString(), tempWavPath.toString());
+			runFFmpeg(uuid, () -> executeFFmpegConversion(tempWebmPath.toString(), tempWavPath.toString()));
 
 			// WAV 파일을 공유 폴더로 이동
 			Files.move(tempWavPath, sharedWavPath, StandardCopyOption.REPLACE_EXISTING);
@@ -67,6 +366,163 @@ public class AudioConversionService {
 		}
 	}
 
+	/**
+	 * 실시간 파이프 변환 시작 (청크 업로드용)
+	 * 녹음이 끝나기 전부터 WebM 청크를 ffmpeg stdin으로 흘려보내므로, 마지막 청크 이후에는
+	 * ffmpeg에 남은 꼬리 구간만 변환하면 WAV가 완성된다.
+	 * @return 청크를 받을 변환 (finish 또는 abort로 반드시 종료)
+	 */
+	public StreamingConversion openStreamingConversion() throws IOException {
+		checkFFmpegInstallation();
+		createSharedDirectories();
+
+		String uuid = UUID.randomUUID().toString();
+		Path sharedWavPath = Paths.get(sharedDirectory, "input", uuid + ".wav").toAbsolutePath();
+		Process process = startFFmpeg(ffmpegProcessPool::acquire);
+		sharedDirectoryJanitor.track(uuid);
+		try {
+			return new StreamingConversion(uuid, sharedWavPath, process);
+		} catch (IOException | RuntimeException e) {
+			sharedDirectoryJanitor.release(uuid);
+			process.destroyForcibly();
+			Files.deleteIfExists(sharedWavPath);
+			throw e;
+		}
+	}
+
+	/**
+	 * 청크 단위로 입력을 받는 ffmpeg 파이프 변환
+	 * stdout의 PCM은 받는 즉시 공유 폴더 WAV에 기록하고, WAV 헤더는 finish에서 실제 길이로 채운다.
+	 * write/finish/abort는 한 스레드에서 순서대로 호출해야 한다. (업로드 세션 단위로 직렬화)
+	 */
+	public final class StreamingConversion implements AutoCloseable {
+
+		private final String fileId;
+		private final Path wavPath;
+		private final Process process;
+		private final FileChannel channel;
+		private final ProcessScope scope;
+		private final OutputStream stdin;
+		private final Future<Long> written;
+		private final Future<byte[]> errorOutput;
+
+		private StreamingConversion(String fileId, Path wavPath, Process process) throws IOException {
+			this.fileId = fileId;
+			this.wavPath = wavPath;
+			this.process = process;
+			this.channel = FileChannel.open(wavPath,
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+			channel.write(WavHeader.create(SAMPLE_RATE, CHANNELS, BITS_PER_SAMPLE, 0));
+
+			this.scope = new ProcessScope(process);
+			this.stdin = process.getOutputStream();
+			this.written = scope.fork(() -> {
+				try (InputStream stdout = process.getInputStream()) {
+					return stdout.transferTo(Channels.newOutputStream(channel));
+				}
+			});
+			this.errorOutput = scope.fork(() -> process.getErrorStream().readAllBytes());
+		}
+
+		/**
+		 * WebM 청크 공급 (ffmpeg가 입력을 거부하고 종료했으면 IOException)
+		 */
+		public void write(byte[] chunk) throws IOException {
+			stdin.write(chunk);
+			stdin.flush();
+		}
+
+		/**
+		 * 입력을 닫고 남은 변환을 마친 뒤 WAV 경로 반환 (실패 시 WAV 삭제)
+		 */
+		public String finish() throws IOException, InterruptedException {
+			try {
+				runFFmpeg(fileId, () -> {
+					try {
+						stdin.close();
+					} catch (IOException e) {
+						logger.debug("FFmpeg stdin 닫기 실패: {}", e.getMessage());
+					}
+
+					int exitCode = scope.join(Duration.ofSeconds(conversionTimeoutSeconds));
+					long dataLength = written.resultNow();
+					if (exitCode != 0 || dataLength == 0) {
+						logger.error("FFmpeg 실시간 변환 실패: {}", new String(errorOutput.resultNow()));
+						pronunciationMetrics.recordFFmpegFailure(ConversionMode.PIPE);
+						throw new RuntimeException("FFmpeg 변환 실패. Exit code: " + exitCode);
+					}
+
+					channel.write(WavHeader.create(SAMPLE_RATE, CHANNELS, BITS_PER_SAMPLE, dataLength), 0);
+				});
+				close();
+				logger.info("WAV 실시간 변환 완료: {}", wavPath);
+				return wavPath.toString();
+
+			} catch (IOException | InterruptedException | RuntimeException e) {
+				abort();
+				throw e;
+			}
+		}
+
+		/**
+		 * 변환 중단 (ffmpeg 종료, WAV 삭제)
+		 */
+		public void abort() {
+			process.destroyForcibly();
+			close();
+			cleanupTempFiles(wavPath);
+			sharedDirectoryJanitor.release(fileId);
+		}
+
+		@Override
+		public void close() {
+			scope.close();
+			try {
+				channel.close();
+			} catch (IOException e) {
+				logger.debug("WAV 채널 닫기 실패: {}", e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * ffmpeg 실행 단계 (소요 시간 기록)
+	 */
+	private void runFFmpeg(String fileId, FFmpegStep step) throws IOException, InterruptedException {
+		Observation observation = pronunciationMetrics.stage(PronunciationMetrics.Stage.FFMPEG, fileId).start();
+		try (Observation.Scope scope = observation.openScope()) {
+			step.run();
+		} catch (IOException | InterruptedException | RuntimeException e) {
+			observation.error(e);
+			throw e;
+		} finally {
+			observation.stop();
+		}
+	}
+
+	/**
+	 * ffmpeg 프로세스 시작
+	 * 입력 오류나 시간 초과는 설치 상태와 무관하므로, 프로세스를 시작하지 못한 경우에만 설치 상태를 재확인한다.
+	 */
+	private Process startFFmpeg(FFmpegStarter starter) throws IOException {
+		try {
+			return starter.start();
+		} catch (IOException e) {
+			ffmpegProbe.onStartFailure();
+			throw e;
+		}
+	}
+
+	@FunctionalInterface
+	private interface FFmpegStep {
+		void run() throws IOException, InterruptedException;
+	}
+
+	@FunctionalInterface
+	private interface FFmpegStarter {
+		Process start() throws IOException;
+	}
+
 	/**
 	 * 공유 디렉토리 생성
 	 */
@@ -110,42 +566,115 @@ public class AudioConversionService {
 
 		logger.info("FFmpeg 명령어 실행: {}", String.join(" ", command));
 
-		Process process = processBuilder.start();
+		Process process = startFFmpeg(processBuilder::start);
+
+		try (ProcessScope scope = new ProcessScope(process)) {
+			// FFmpeg 출력 로깅 (변환과 함께 실행, 취소 시 프로세스와 함께 종료)
+			scope.fork(() -> {
+				try (BufferedReader reader = new BufferedReader(
+					new InputStreamReader(process.getInputStream()))) {
+					String line;
+					while ((line = reader.readLine()) != null) {
+						logger.debug("FFmpeg: {}", line);
+					}
+				}
+				return null;
+			});
 
-		// FFmpeg 출력 로깅
-		try (BufferedReader reader = new BufferedReader(
-			new InputStreamReader(process.getInputStream()))) {
-			String line;
-			while ((line = reader.readLine()) != null) {
-				logger.debug("FFmpeg: {}", line);
+			int exitCode = scope.join(Duration.ofSeconds(conversionTimeoutSeconds));
+			if (exitCode != 0) {
+				pronunciationMetrics.recordFFmpegFailure(ConversionMode.FILE);
+				throw new RuntimeException("FFmpeg 변환 실패. Exit code: " + exitCode);
 			}
 		}
+	}
 
-		int exitCode = process.waitFor();
-		if (exitCode != 0) {
-			throw new RuntimeException("FFmpeg 변환 실패. Exit code: " + exitCode);
+	/**
+	 * FFmpeg 파이프 변환
+	 * 업로드 스트림을 ffmpeg stdin으로 바로 흘려보내고, stdout의 16kHz 모노 s16le PCM을
+	 * 공유 폴더 WAV에 직접 기록한다. WAV 헤더는 변환이 끝난 뒤 실제 길이로 채운다.
+	 */
+	private void convertWithPipe(InputStream webmStream, Path wavPath) throws IOException, InterruptedException {
+		logger.info("FFmpeg 파이프 명령어 실행: {}", String.join(" ", FFmpegProcessPool.PIPE_COMMAND));
+
+		Process process = startFFmpeg(ffmpegProcessPool::acquire);
+
+		try (ProcessScope scope = new ProcessScope(process);
+			FileChannel channel = FileChannel.open(wavPath,
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+			// 길이를 모르므로 헤더 자리를 먼저 확보
+			channel.write(WavHeader.create(SAMPLE_RATE, CHANNELS, BITS_PER_SAMPLE, 0));
+
+			// stdin 공급, stdout → WAV 기록, stderr 수집을 동시에 실행 (어느 하나라도 멈추면 ffmpeg가 멈춤)
+			scope.fork(() -> {
+				feedStdin(webmStream, process.getOutputStream());
+				return null;
+			});
+			Future<Long> written = scope.fork(() -> {
+				try (InputStream stdout = process.getInputStream()) {
+					return stdout.transferTo(Channels.newOutputStream(channel));
+				}
+			});
+			Future<byte[]> errorOutput = scope.fork(() -> process.getErrorStream().readAllBytes());
+
+			int exitCode = scope.join(Duration.ofSeconds(conversionTimeoutSeconds));
+			long dataLength = written.resultNow();
+			if (exitCode != 0 || dataLength == 0) {
+				logger.error("FFmpeg 파이프 변환 실패: {}", new String(errorOutput.resultNow()));
+				pronunciationMetrics.recordFFmpegFailure(ConversionMode.PIPE);
+				throw new RuntimeException("FFmpeg 변환 실패. Exit code: " + exitCode);
+			}
+
+			channel.write(WavHeader.create(SAMPLE_RATE, CHANNELS, BITS_PER_SAMPLE, dataLength), 0);
+
+		} catch (IOException | InterruptedException | RuntimeException e) {
+			Files.deleteIfExists(wavPath);
+			throw e;
 		}
 	}
 
 	/**
-	 * FFmpeg 설치 확인
+	 * 업로드 스트림을 ffmpeg stdin으로 공급
+	 * ffmpeg가 입력을 다 읽기 전에 종료해 쓰기가 실패하면 공급만 멈추고 결과는 종료 코드로 판단하지만,
+	 * 업로드 읽기 실패(클라이언트 연결 끊김, 잘린 multipart 등)는 일부만 변환된 WAV를 분석하지 않도록 변환 실패로 전파한다.
 	 */
-	private void checkFFmpegInstallation() {
+	private static void feedStdin(InputStream webmStream, OutputStream stdin) throws IOException {
 		try {
-			ProcessBuilder pb = new ProcessBuilder("ffmpeg", "-version");
-			Process process = pb.start();
-			int exitCode = process.waitFor();
-
-			if (exitCode != 0) {
-				throw new RuntimeException("FFmpeg가 올바르게 설치되지 않았습니다.");
+			byte[] buffer = new byte[8192];
+			int read;
+			while (true) {
+				try {
+					read = webmStream.read(buffer);
+				} catch (IOException e) {
+					throw new IOException("업로드 읽기 실패: " + e.getMessage(), e);
+				}
+				if (read < 0) {
+					break;
+				}
+				try {
+					stdin.write(buffer, 0, read);
+				} catch (IOException e) {
+					logger.debug("FFmpeg stdin 공급 중단: {}", e.getMessage());
+					return;
+				}
+			}
+		} finally {
+			try {
+				stdin.close();
+			} catch (IOException e) {
+				logger.debug("FFmpeg stdin 닫기 실패: {}", e.getMessage());
 			}
-
-		} catch (IOException | InterruptedException e) {
-			throw new RuntimeException("FFmpeg가 설치되지 않았습니다. " +
-				"Ubuntu: 'apt install ffmpeg', macOS: 'brew install ffmpeg'로 설치해주세요.", e);
 		}
 	}
 
+	/**
+	 * FFmpeg 설치 확인 (기동 시 확인한 결과 사용)
+	 */
+	private void checkFFmpegInstallation() {
+		ffmpegProbe.ensureAvailable();
+	}
+
 	/**
 	 * 임시 파일들 정리
 	 */
@@ -164,14 +693,21 @@ public class AudioConversionService {
 
 	/**
 	 * 임시 파일 정리 (외부 호출용)
+	 * 공유 폴더 WAV라면 처리 중 등록도 해제한다. 시간 초과 후 늦은 결과를 기다리는 WAV는 보관소가 나중에 삭제한다.
 	 * @param filePath 삭제할 파일 경로
 	 */
 	public void cleanupTempFile(String filePath) {
+		if (lateResults.isParked(getFileNameWithoutExtension(filePath))) {
+			logger.debug("늦은 결과 대기 중인 파일 유지: {}", filePath);
+			return;
+		}
 		try {
 			Files.deleteIfExists(Paths.get(filePath));
 			logger.info("파일 삭제 완료: {}", filePath);
 		} catch (IOException e) {
 			logger.warn("파일 삭제 실패: {}", filePath, e);
+		} finally {
+			sharedDirectoryJanitor.release(getFileNameWithoutExtension(filePath));
 		}
 	}
 
@@ -0,0 +1,318 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 언어별 마이크로 배치 분석 요청 전달
+ * 대기 중인 요청을 언어별로 최대 linger-ms 동안 또는 max-size 건까지 모아 배치 매니페스트 하나로 전달하고,
+ * 배치 결과를 요청별로 나누어 돌려준다.
+ *
+ * 매니페스트: input/batchId.batch = {"batch_id", "lang", "items": [{"id", "wav_file", "target_text"}]}
+ * 결과: output/batchId.batch.result = {"batch_id", "results": [{"id", ...wav.result와 동일한 필드}]}
+ */
+@Component
+@ConditionalOnProperty(name = "app.analysis.transport", havingValue = "batch")
+public class BatchAnalysisTransport implements AnalysisTransport {
+
+	private static final Logger logger = LoggerFactory.getLogger(BatchAnalysisTransport.class);
+
+	@Value("${app.shared.directory:/tmp/shared_data}")
+	private String sharedDirectory;
+
+	@Value("${app.analysis.batch.max-size:8}")
+	private int maxBatchSize;
+
+	@Value("${app.analysis.batch.linger-ms:50}")
+	private long lingerMillis;
+
+	@Value("${app.analysis.batch.max-queue-depth:256}")
+	private int maxQueueDepth;
+
+	private final AnalysisResultWatcher resultWatcher;
+	private final Executor analysisExecutor;
+	private final MeterRegistry meterRegistry;
+	private final PronunciationMetrics pronunciationMetrics;
+	private final SharedDirectoryJanitor sharedDirectoryJanitor;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final Map<String, LanguageQueue> queues = new ConcurrentHashMap<>();
+	private final ScheduledExecutorService lingerScheduler;
+
+	private final DistributionSummary batchSizeSummary;
+	private final Timer lingerTimer;
+
+	/**
+	 * 배치에 포함될 대기 요청
+	 */
+	private record PendingItem(AnalysisRequest request, Consumer<AnalysisStage> progressListener,
+		CompletableFuture<byte[]> future, long enqueuedAt) {
+	}
+
+	/**
+	 * 언어별 대기열 (자신의 잠금으로 보호)
+	 */
+	private final class LanguageQueue {
+		private final String language;
+		private final List<PendingItem> items = new ArrayList<>();
+		private ScheduledFuture<?> lingerTask;
+
+		private LanguageQueue(String language) {
+			this.language = language;
+			Gauge.builder("pronunciation.batch.queue.depth", this, LanguageQueue::depth)
+				.tag("lang", language)
+				.register(meterRegistry);
+		}
+
+		private synchronized int depth() {
+			return items.size();
+		}
+	}
+
+	public BatchAnalysisTransport(AnalysisResultWatcher resultWatcher,
+		@Qualifier("analysisExecutor") Executor analysisExecutor, MeterRegistry meterRegistry,
+		PronunciationMetrics pronunciationMetrics, SharedDirectoryJanitor sharedDirectoryJanitor) {
+		this.resultWatcher = resultWatcher;
+		this.analysisExecutor = analysisExecutor;
+		this.meterRegistry = meterRegistry;
+		this.pronunciationMetrics = pronunciationMetrics;
+		this.sharedDirectoryJanitor = sharedDirectoryJanitor;
+		this.lingerScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "analysis-batch-linger");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.batchSizeSummary = DistributionSummary.builder("pronunciation.batch.size")
+			.description("배치 매니페스트당 요청 수")
+			.register(meterRegistry);
+		this.lingerTimer = Timer.builder("pronunciation.batch.linger")
+			.description("요청이 배치로 전달되기까지 대기한 시간")
+			.register(meterRegistry);
+	}
+
+	@PreDestroy
+	public void stop() {
+		lingerScheduler.shutdownNow();
+	}
+
+	@Override
+	public CompletableFuture<byte[]> exchange(AnalysisRequest request, Consumer<AnalysisStage> progressListener) {
+		CompletableFuture<byte[]> future = new CompletableFuture<>();
+		PendingItem item = new PendingItem(request, progressListener, future, System.nanoTime());
+		LanguageQueue queue = queues.computeIfAbsent(request.language(), LanguageQueue::new);
+
+		List<PendingItem> readyBatch = null;
+		synchronized (queue) {
+			if (queue.items.size() >= maxQueueDepth) {
+				throw new AnalysisRejectedException(
+					"분석 대기열이 가득 찼습니다 (언어: " + request.language() + "). 잠시 후 다시 시도해주세요.", 1);
+			}
+			queue.items.add(item);
+
+			if (queue.items.size() >= maxBatchSize) {
+				readyBatch = drain(queue);
+			} else if (queue.lingerTask == null) {
+				queue.lingerTask = lingerScheduler.schedule(() -> flush(queue), lingerMillis, TimeUnit.MILLISECONDS);
+			}
+		}
+
+		if (readyBatch != null) {
+			List<PendingItem> batch = readyBatch;
+			analysisExecutor.execute(() -> dispatch(queue.language, batch));
+		}
+
+		// 호출 측이 취소한 요청은 이미 배치로 전달되었더라도 모델이 건너뛰도록 표시
+		future.whenComplete((json, e) -> {
+			if (future.isCancelled()) {
+				abandon(request);
+			}
+		});
+		return future.orTimeout(request.timeout().toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 배치로 전달된 요청이라도 모델이 아직 처리하지 않았다면 취소 표시를 보고 건너뛴다.
+	 */
+	@Override
+	public void abandon(AnalysisRequest request) {
+		sharedDirectoryJanitor.markCancelled(request.id());
+	}
+
+	/**
+	 * linger 시간이 지난 대기열 전송
+	 */
+	private void flush(LanguageQueue queue) {
+		List<PendingItem> batch;
+		synchronized (queue) {
+			batch = drain(queue);
+		}
+		if (!batch.isEmpty()) {
+			analysisExecutor.execute(() -> dispatch(queue.language, batch));
+		}
+	}
+
+	/**
+	 * 대기열의 최대 max-size 건을 꺼냄 (queue 잠금 안에서 호출)
+	 */
+	private List<PendingItem> drain(LanguageQueue queue) {
+		if (queue.lingerTask != null) {
+			queue.lingerTask.cancel(false);
+			queue.lingerTask = null;
+		}
+
+		int size = Math.min(queue.items.size(), maxBatchSize);
+		List<PendingItem> batch = new ArrayList<>(queue.items.subList(0, size));
+		queue.items.subList(0, size).clear();
+
+		// 남은 요청은 다음 linger 주기에 전송
+		if (!queue.items.isEmpty()) {
+			queue.lingerTask = lingerScheduler.schedule(() -> flush(queue), lingerMillis, TimeUnit.MILLISECONDS);
+		}
+		return batch;
+	}
+
+	/**
+	 * 배치 매니페스트 생성 후 결과를 요청별로 분배
+	 */
+	private void dispatch(String language, List<PendingItem> batch) {
+		// 이미 시간 초과된 요청은 제외
+		List<PendingItem> liveItems = batch.stream().filter(item -> !item.future().isDone()).toList();
+		if (liveItems.isEmpty()) {
+			return;
+		}
+
+		String batchId = "batch-" + UUID.randomUUID();
+		long now = System.nanoTime();
+		liveItems.forEach(item -> lingerTimer.record(now - item.enqueuedAt(), TimeUnit.NANOSECONDS));
+		batchSizeSummary.record(liveItems.size());
+		sharedDirectoryJanitor.track(batchId);
+
+		try {
+			pronunciationMetrics.stage(PronunciationMetrics.Stage.REQUEST_WRITE, batchId)
+				.observeChecked(() -> writeManifest(batchId, language, liveItems));
+		} catch (IOException e) {
+			logger.error("배치 매니페스트 생성 실패: {}", batchId, e);
+			sharedDirectoryJanitor.release(batchId);
+			liveItems.forEach(item -> item.future().completeExceptionally(
+				new RuntimeException("분석 요청 파일 생성 실패: " + e.getMessage(), e)));
+			return;
+		}
+		liveItems.forEach(item -> item.progressListener().accept(AnalysisStage.REQUEST_WRITTEN));
+		logger.info("배치 분석 요청 전송: batchId={}, 언어={}, 건수={}", batchId, language, liveItems.size());
+
+		Duration timeout = liveItems.stream()
+			.map(item -> item.request().timeout())
+			.max(Duration::compareTo)
+			.orElseThrow();
+
+		resultWatcher.watchResult(batchId + ".batch.result", timeout)
+			.thenAcceptAsync(resultPath -> demultiplex(resultPath, liveItems), analysisExecutor)
+			.whenComplete((ignored, e) -> {
+				if (e != null) {
+					liveItems.forEach(item -> item.future().completeExceptionally(e));
+				}
+				cleanupBatchFiles(batchId);
+			});
+	}
+
+	private void writeManifest(String batchId, String language, List<PendingItem> items) throws IOException {
+		List<Map<String, Object>> manifestItems = new ArrayList<>();
+		for (PendingItem item : items) {
+			Map<String, Object> manifestItem = new HashMap<>();
+			manifestItem.put("id", item.request().id());
+			manifestItem.put("wav_file", item.request().id() + ".wav");
+			if (item.request().trimmedTargetText() != null) {
+				manifestItem.put("target_text", item.request().trimmedTargetText());
+			}
+			manifestItems.add(manifestItem);
+		}
+
+		Map<String, Object> manifest = new HashMap<>();
+		manifest.put("batch_id", batchId);
+		manifest.put("lang", language);
+		manifest.put("label_type1", "pron");
+		manifest.put("label_type2", "articulation");
+		manifest.put("timestamp", System.currentTimeMillis());
+		manifest.put("items", manifestItems);
+
+		// 모델 측 glob이 쓰는 중인 파일을 읽지 않도록 임시 파일에 쓴 뒤 이동
+		Path manifestPath = Paths.get(sharedDirectory, "input", batchId + ".batch");
+		Path tempPath = Paths.get(sharedDirectory, "input", batchId + ".batch.tmp");
+		objectMapper.writeValue(tempPath.toFile(), manifest);
+		Files.move(tempPath, manifestPath, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * 배치 결과를 요청 ID별로 나누어 각 대기자에게 전달
+	 */
+	private void demultiplex(Path resultPath, List<PendingItem> items) {
+		JsonNode results;
+		try {
+			results = objectMapper.readTree(resultPath.toFile()).path("results");
+		} catch (IOException e) {
+			throw new RuntimeException("배치 결과 파일 읽기 실패", e);
+		}
+
+		Map<String, JsonNode> resultsById = new HashMap<>();
+		for (JsonNode result : results) {
+			resultsById.put(result.path("id").asText(), result);
+		}
+
+		for (PendingItem item : items) {
+			JsonNode result = resultsById.get(item.request().id());
+			if (result == null) {
+				item.future().completeExceptionally(new RuntimeException("배치 결과에 요청 결과가 없습니다: " + item.request().id()));
+				continue;
+			}
+			try {
+				item.future().complete(objectMapper.writeValueAsBytes(result));
+			} catch (IOException e) {
+				item.future().completeExceptionally(e);
+			}
+		}
+	}
+
+	private void cleanupBatchFiles(String batchId) {
+		try {
+			Files.deleteIfExists(Paths.get(sharedDirectory, "input", batchId + ".batch"));
+			Files.deleteIfExists(Paths.get(sharedDirectory, "output", batchId + ".batch.result"));
+		} catch (IOException e) {
+			logger.warn("배치 파일 정리 실패: {}", batchId, e);
+		} finally {
+			sharedDirectoryJanitor.release(batchId);
+		}
+	}
+}
@@ -0,0 +1,158 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.io.IOException;
+import java.net.URI;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ai.ddaratalk.api.pronunciation.PronunciationController.ErrorResponse;
+import com.ai.ddaratalk.api.pronunciation.dto.AnalysisJobResponse;
+import com.ai.ddaratalk.api.pronunciation.dto.UploadSessionResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 청크 업로드 API
+ * 1. POST /uploads로 세션 생성
+ * 2. 녹음 중 PUT /uploads/{id}/chunks/{seq}로 WebM 청크를 순번대로 전송 (application/octet-stream)
+ * 3. 녹음이 끝나면 POST /uploads/{id}/complete → 202와 분석 작업 ID (이후는 /jobs/{jobId} API와 동일)
+ * 연결이 끊기면 GET /uploads/{id}의 nextChunk부터 다시 보내면 되고, 같은 청크의 재전송은 무시된다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/pronunciation/uploads")
+@RequiredArgsConstructor
+public class ChunkedUploadController {
+
+	private final ChunkedUploadService chunkedUploadService;
+	private final AdmissionController admissionController;
+	private final AnalysisJobRegistry jobRegistry;
+
+	@PostMapping
+	public ResponseEntity<?> createUpload(
+		@RequestParam(value = "lang", defaultValue = "en") String lang,
+		@RequestParam(value = "text", required = false) String targetText,
+		@RequestParam(value = "userId", required = false) String userId) {
+
+		if (!AnalysisRequest.isSupportedLanguage(lang)) {
+			return ResponseEntity.badRequest()
+				.body(new ErrorResponse(AnalysisRequest.unsupportedLanguageMessage(lang)));
+		}
+
+		try {
+			// 녹음이 끝난 뒤 거절되지 않도록 분석 용량부터 확인
+			admissionController.ensureCapacity(AdmissionController.Stage.ANALYSIS, lang);
+
+			UploadSession session = chunkedUploadService.create(lang, targetText, userId);
+			return ResponseEntity.created(URI.create("/api/pronunciation/uploads/" + session.getId()))
+				.body(UploadSessionResponse.from(session));
+
+		} catch (AnalysisRejectedException e) {
+			log.warn("청크 업로드 세션 생성 거절: {}", e.getMessage());
+			return rejected(e);
+		} catch (IOException e) {
+			log.error("실시간 변환 시작 중 오류 발생", e);
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+				.body(new ErrorResponse("오디오 변환을 시작하지 못했습니다."));
+		}
+	}
+
+	@GetMapping("/{uploadId}")
+	public ResponseEntity<?> getUpload(@PathVariable String uploadId) {
+		try {
+			return ResponseEntity.ok(UploadSessionResponse.from(chunkedUploadService.get(uploadId)));
+		} catch (UploadSessionException e) {
+			return failed(e);
+		}
+	}
+
+	@PutMapping(value = "/{uploadId}/chunks/{sequence}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+	public ResponseEntity<?> uploadChunk(
+		@PathVariable String uploadId,
+		@PathVariable int sequence,
+		@RequestBody byte[] chunk) {
+
+		try {
+			return ResponseEntity.ok(UploadSessionResponse.from(
+				chunkedUploadService.appendChunk(uploadId, sequence, chunk)));
+		} catch (UploadSessionException e) {
+			log.warn("청크 수신 실패: uploadId={}, seq={}, {}", uploadId, sequence, e.getMessage());
+			return failed(e);
+		}
+	}
+
+	/**
+	 * 업로드 완료 및 분석 작업 등록
+	 * totalChunks를 보내면 누락된 청크가 있을 때 409와 nextChunk를 반환한다.
+	 */
+	@PostMapping("/{uploadId}/complete")
+	public ResponseEntity<?> completeUpload(
+		@PathVariable String uploadId,
+		@RequestParam(value = "totalChunks", required = false) Integer totalChunks) {
+
+		try {
+			UploadSession session = chunkedUploadService.complete(uploadId, totalChunks);
+			AnalysisJob job = jobRegistry.find(session.getJobId()).orElse(null);
+			if (job == null) {
+				// 완료 후 보관 기간이 지나 작업이 제거된 경우
+				return ResponseEntity.ok(UploadSessionResponse.from(session));
+			}
+
+			return ResponseEntity.accepted()
+				.location(URI.create("/api/pronunciation/jobs/" + job.getId()))
+				.body(AnalysisJobResponse.from(job));
+
+		} catch (UploadSessionException e) {
+			log.warn("청크 업로드 완료 실패: uploadId={}, {}", uploadId, e.getMessage());
+			return failed(e);
+		} catch (AnalysisRejectedException e) {
+			log.warn("청크 업로드 분석 등록 거절: {}", e.getMessage());
+			return rejected(e);
+		} catch (IOException | InterruptedException e) {
+			log.error("실시간 변환 마무리 중 오류 발생", e);
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+				.body(new ErrorResponse("오디오 파일 처리 중 오류가 발생했습니다."));
+		} catch (RuntimeException e) {
+			log.error("실시간 변환 실패: uploadId={}", uploadId, e);
+			return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+				.body(new ErrorResponse("오디오 변환에 실패했습니다: " + e.getMessage()));
+		}
+	}
+
+	@DeleteMapping("/{uploadId}")
+	public ResponseEntity<?> abortUpload(@PathVariable String uploadId) {
+		try {
+			if (!chunkedUploadService.abort(uploadId)) {
+				return ResponseEntity.status(HttpStatus.CONFLICT)
+					.body(UploadSessionResponse.from(chunkedUploadService.get(uploadId)));
+			}
+			return ResponseEntity.ok(UploadSessionResponse.from(chunkedUploadService.get(uploadId)));
+		} catch (UploadSessionException e) {
+			return failed(e);
+		}
+	}
+
+	private ResponseEntity<ErrorResponse> failed(UploadSessionException e) {
+		return ResponseEntity.status(e.getStatus())
+			.body(new ErrorResponse(e.getMessage()));
+	}
+
+	private ResponseEntity<ErrorResponse> rejected(AnalysisRejectedException e) {
+		return ResponseEntity.status(e.getStatus())
+			.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+			.body(new ErrorResponse(e.getMessage()));
+	}
+}
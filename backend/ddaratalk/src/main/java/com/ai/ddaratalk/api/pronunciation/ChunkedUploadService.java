@@ -0,0 +1,202 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 청크 업로드 세션 관리
+ * 브라우저 MediaRecorder가 만드는 WebM 청크를 녹음 중에 받아 실시간 ffmpeg 변환에 공급한다.
+ * 연결이 끊겨도 세션은 idle-timeout-seconds 동안 유지되므로, 클라이언트는 세션 상태의 nextChunk부터 재전송하면 된다.
+ */
+@Service
+public class ChunkedUploadService {
+
+	private static final Logger logger = LoggerFactory.getLogger(ChunkedUploadService.class);
+
+	@Value("${app.upload.max-sessions:64}")
+	private int maxSessions;
+
+	@Value("${app.upload.max-chunk-bytes:1048576}")
+	private int maxChunkBytes;
+
+	@Value("${app.upload.max-session-bytes:52428800}")
+	private long maxSessionBytes;
+
+	@Value("${app.upload.max-pending-chunks:16}")
+	private int maxPendingChunks;
+
+	@Value("${app.upload.idle-timeout-seconds:60}")
+	private long idleTimeoutSeconds;
+
+	@Value("${app.upload.retention-seconds:300}")
+	private long retentionSeconds;
+
+	private final AudioConversionService audioConversionService;
+	private final PronunciationPipeline pronunciationPipeline;
+
+	private final Map<String, UploadSession> sessions = new ConcurrentHashMap<>();
+
+	/**
+	 * 열린 세션 수 (생성 전에 자리를 예약하고, 세션이 닫히면 반납)
+	 */
+	private final AtomicInteger openSessions = new AtomicInteger();
+
+	public ChunkedUploadService(AudioConversionService audioConversionService,
+		PronunciationPipeline pronunciationPipeline, MeterRegistry meterRegistry) {
+		this.audioConversionService = audioConversionService;
+		this.pronunciationPipeline = pronunciationPipeline;
+
+		Gauge.builder("pronunciation.upload.sessions", this, ChunkedUploadService::getOpenSessionCount)
+			.description("청크를 받고 있거나 분석 등록을 기다리는 업로드 세션 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 업로드 세션 생성 (실시간 변환 ffmpeg 시작)
+	 * @throws AnalysisRejectedException 열린 세션 수가 상한에 도달한 경우
+	 */
+	public UploadSession create(String language, String targetText, String userId) throws IOException {
+		reserveSession();
+
+		AudioConversionService.StreamingConversion conversion;
+		try {
+			conversion = audioConversionService.openStreamingConversion();
+		} catch (IOException | RuntimeException e) {
+			openSessions.decrementAndGet();
+			throw e;
+		}
+		UploadSession session = new UploadSession(UUID.randomUUID().toString(), language, targetText, userId,
+			conversion, openSessions::decrementAndGet);
+		sessions.put(session.getId(), session);
+		logger.info("청크 업로드 세션 시작: uploadId={}, 언어={}", session.getId(), language);
+		return session;
+	}
+
+	/**
+	 * 세션 조회
+	 * @throws UploadSessionException 세션이 없거나 만료된 경우 (404)
+	 */
+	public UploadSession get(String uploadId) {
+		UploadSession session = sessions.get(uploadId);
+		if (session == null) {
+			throw new UploadSessionException("업로드 세션을 찾을 수 없습니다: " + uploadId, HttpStatus.NOT_FOUND);
+		}
+		return session;
+	}
+
+	/**
+	 * 청크 수신 (같은 순번·같은 내용의 재전송은 무시하고 성공으로 처리)
+	 */
+	public UploadSession appendChunk(String uploadId, int sequence, byte[] data) {
+		if (sequence < 0) {
+			throw new UploadSessionException("청크 순번은 0 이상이어야 합니다: " + sequence, HttpStatus.BAD_REQUEST);
+		}
+		if (data == null || data.length == 0) {
+			throw new UploadSessionException("청크가 비어있습니다.", HttpStatus.BAD_REQUEST);
+		}
+		if (data.length > maxChunkBytes) {
+			throw new UploadSessionException("청크 최대 크기를 초과했습니다: " + data.length + " bytes",
+				HttpStatus.PAYLOAD_TOO_LARGE);
+		}
+
+		UploadSession session = get(uploadId);
+		if (!session.accept(sequence, data, maxPendingChunks, maxSessionBytes)) {
+			logger.debug("중복 청크 무시: uploadId={}, seq={}", uploadId, sequence);
+		}
+		return session;
+	}
+
+	/**
+	 * 업로드 완료: 남은 변환을 마치고 분석 작업 등록
+	 * 이미 등록된 세션이면 같은 작업 ID를 그대로 반환한다 (멱등).
+	 * @param totalChunks 전체 청크 수 (선택적, 누락 확인용)
+	 * @return 작업이 등록된 세션
+	 * @throws AnalysisRejectedException 분석 작업 저장소가 가득 찬 경우 (변환된 WAV는 유지되어 재시도 가능)
+	 */
+	public UploadSession complete(String uploadId, Integer totalChunks) throws IOException, InterruptedException {
+		UploadSession session = get(uploadId);
+		synchronized (session) {
+			if (session.getStatus() == UploadSession.Status.COMPLETED) {
+				return session;
+			}
+
+			String wavFilePath = session.finishConversion(totalChunks);
+			AnalysisJob job = pronunciationPipeline.submitConverted(wavFilePath, session.getLanguage(),
+				session.getTargetText(), session.getUserId());
+			session.markCompleted(job.getId());
+
+			logger.info("청크 업로드 완료: uploadId={}, {} bytes, jobId={}",
+				uploadId, session.getReceivedBytes(), job.getId());
+			return session;
+		}
+	}
+
+	/**
+	 * 업로드 중단
+	 * @return 열린 세션을 중단했으면 true
+	 */
+	public boolean abort(String uploadId) {
+		boolean aborted = get(uploadId).abort(audioConversionService);
+		if (aborted) {
+			logger.info("청크 업로드 중단: uploadId={}", uploadId);
+		}
+		return aborted;
+	}
+
+	public int getOpenSessionCount() {
+		return openSessions.get();
+	}
+
+	/**
+	 * 세션 자리 예약 (상한 확인과 예약을 한 번에)
+	 */
+	private void reserveSession() {
+		while (true) {
+			int current = openSessions.get();
+			if (current >= maxSessions) {
+				throw new AnalysisRejectedException("진행 중인 업로드가 너무 많습니다. 잠시 후 다시 시도해주세요.", 1);
+			}
+			if (openSessions.compareAndSet(current, current + 1)) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * 유휴 시간이 지난 열린 세션 중단, 보관 기간이 지난 닫힌 세션 제거
+	 */
+	@Scheduled(fixedDelayString = "${app.upload.sweep-interval-ms:10000}")
+	public void expireIdleSessions() {
+		long now = System.currentTimeMillis();
+		sessions.values().removeIf(session -> {
+			long idleMillis = now - session.getLastActivityAt();
+			if (session.getStatus().isOpen()) {
+				if (idleMillis > idleTimeoutSeconds * 1000 && session.abort(audioConversionService)) {
+					logger.info("유휴 시간 초과로 업로드 세션 중단: uploadId={}", session.getId());
+				}
+				return false;
+			}
+			return idleMillis > retentionSeconds * 1000;
+		});
+	}
+
+	@PreDestroy
+	public void stop() {
+		sessions.values().forEach(session -> session.abort(audioConversionService));
+		sessions.clear();
+	}
+}
@@ -0,0 +1,111 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * FFmpeg 설치 상태 확인
+ * 기동 시 한 번만 `ffmpeg -version`을 실행하고 결과를 캐시하며, ffmpeg 프로세스를 시작하지 못한 경우에만
+ * 백그라운드에서 다시 확인한다 (최대 10초에 한 번).
+ * 확인 결과는 actuator health(ffmpeg)로 노출된다.
+ */
+@Component("ffmpeg")
+public class FFmpegProbe implements HealthIndicator {
+
+	private static final Logger logger = LoggerFactory.getLogger(FFmpegProbe.class);
+
+	/**
+	 * 재확인 최소 간격 (시작 실패가 몰려도 ffmpeg -version을 반복 실행하지 않음)
+	 */
+	private static final long REPROBE_INTERVAL_MILLIS = 10_000;
+
+	private volatile boolean available;
+	private volatile String version;
+	private volatile long probedAt;
+	private final AtomicBoolean reprobing = new AtomicBoolean();
+
+	/**
+	 * FFmpeg 설치 확인 (기동 시 및 프로세스 시작 실패 후 호출)
+	 */
+	@PostConstruct
+	public synchronized void probe() {
+		try {
+			Process process = new ProcessBuilder("ffmpeg", "-version").redirectErrorStream(true).start();
+			String firstLine;
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+				firstLine = reader.readLine();
+				while (reader.readLine() != null) {
+					// 나머지 출력 소비
+				}
+			}
+			available = process.waitFor() == 0;
+			version = firstLine;
+		} catch (IOException e) {
+			available = false;
+			version = null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			available = false;
+			version = null;
+		}
+		probedAt = System.currentTimeMillis();
+
+		if (available) {
+			logger.info("FFmpeg 확인 완료: {}", version);
+		} else {
+			logger.warn("FFmpeg를 찾을 수 없습니다. 오디오 변환이 불가능합니다.");
+		}
+	}
+
+	/**
+	 * 캐시된 확인 결과로 FFmpeg 사용 가능 여부 검증
+	 */
+	public void ensureAvailable() {
+		if (!available) {
+			// 기동 후 설치된 경우 다음 요청부터 사용할 수 있도록
+			onStartFailure();
+			throw new RuntimeException("FFmpeg가 설치되지 않았습니다. " +
+				"Ubuntu: 'apt install ffmpeg', macOS: 'brew install ffmpeg'로 설치해주세요.");
+		}
+	}
+
+	/**
+	 * ffmpeg 프로세스 시작 실패 시 재확인 (요청 스레드를 막지 않도록 백그라운드에서 실행)
+	 */
+	public void onStartFailure() {
+		if (System.currentTimeMillis() - probedAt < REPROBE_INTERVAL_MILLIS || !reprobing.compareAndSet(false, true)) {
+			return;
+		}
+		logger.info("FFmpeg 설치 상태를 재확인합니다.");
+		Thread.ofVirtual().name("ffmpeg-reprobe").start(() -> {
+			try {
+				probe();
+			} finally {
+				reprobing.set(false);
+			}
+		});
+	}
+
+	public boolean isAvailable() {
+		return available;
+	}
+
+	@Override
+	public Health health() {
+		Health.Builder builder = available ? Health.up() : Health.down();
+		if (version != null) {
+			builder.withDetail("version", version);
+		}
+		return builder.withDetail("probedAt", probedAt).build();
+	}
+}
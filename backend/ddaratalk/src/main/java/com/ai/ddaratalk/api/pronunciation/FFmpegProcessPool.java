@@ -0,0 +1,112 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 미리 실행해 둔 FFmpeg 파이프 변환 프로세스 풀
+ * stdin 입력을 기다리는 ffmpeg를 pool-size 만큼 띄워두어 요청마다 발생하는 fork/exec 비용을 없앤다.
+ * pool-size가 0이면 요청마다 새 프로세스를 실행한다. (파이프 변환 방식에서만 사용)
+ */
+@Component
+public class FFmpegProcessPool {
+
+	private static final Logger logger = LoggerFactory.getLogger(FFmpegProcessPool.class);
+
+	/**
+	 * stdin의 WebM을 16kHz 모노 s16le raw PCM으로 stdout에 출력하는 명령어
+	 */
+	static final List<String> PIPE_COMMAND = List.of(
+		"ffmpeg",
+		"-hide_banner",
+		"-loglevel", "error",
+		"-i", "pipe:0",       // stdin 입력
+		"-f", "s16le",        // 헤더 없는 raw PCM 출력
+		"-acodec", "pcm_s16le",
+		"-ar", "16000",       // AI 모델 입력 샘플링 레이트
+		"-ac", "1",           // 모노 채널
+		"pipe:1");            // stdout 출력
+
+	@Value("${app.ffmpeg.pool-size:0}")
+	private int poolSize;
+
+	private final FFmpegProbe ffmpegProbe;
+
+	private BlockingQueue<Process> idleProcesses;
+	private ExecutorService spawner;
+
+	public FFmpegProcessPool(FFmpegProbe ffmpegProbe) {
+		this.ffmpegProbe = ffmpegProbe;
+	}
+
+	@PostConstruct
+	public void start() {
+		idleProcesses = new LinkedBlockingQueue<>(Math.max(poolSize, 1));
+		if (poolSize <= 0 || !ffmpegProbe.isAvailable()) {
+			return;
+		}
+
+		spawner = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "ffmpeg-pool-spawner");
+			thread.setDaemon(true);
+			return thread;
+		});
+		for (int i = 0; i < poolSize; i++) {
+			spawner.execute(this::spawnIdleProcess);
+		}
+		logger.info("FFmpeg 프로세스 풀 시작: {}개", poolSize);
+	}
+
+	@PreDestroy
+	public void stop() {
+		if (spawner != null) {
+			spawner.shutdownNow();
+		}
+		Process process;
+		while ((process = idleProcesses.poll()) != null) {
+			process.destroyForcibly();
+		}
+	}
+
+	/**
+	 * 파이프 변환용 ffmpeg 프로세스 획득
+	 * 대기 중인 프로세스가 있으면 즉시 반환하고 빈 자리를 백그라운드에서 다시 채운다.
+	 * @return stdin 입력을 기다리는 ffmpeg 프로세스 (사용 후 호출자가 종료 처리)
+	 */
+	public Process acquire() throws IOException {
+		Process process;
+		while ((process = idleProcesses.poll()) != null) {
+			if (spawner != null) {
+				spawner.execute(this::spawnIdleProcess);
+			}
+			if (process.isAlive()) {
+				return process;
+			}
+		}
+		return new ProcessBuilder(PIPE_COMMAND).start();
+	}
+
+	private void spawnIdleProcess() {
+		try {
+			Process process = new ProcessBuilder(PIPE_COMMAND).start();
+			if (!idleProcesses.offer(process)) {
+				process.destroyForcibly();
+			}
+		} catch (IOException e) {
+			logger.warn("FFmpeg 대기 프로세스 생성 실패", e);
+			ffmpegProbe.onStartFailure();
+		}
+	}
+}
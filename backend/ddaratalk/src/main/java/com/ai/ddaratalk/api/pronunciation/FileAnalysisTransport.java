@@ -0,0 +1,222 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 공유 디렉토리 파일 기반 분석 요청 전달 (기본값)
+ * input/uuid.request JSON을 생성하고 output/uuid.wav.result를 기다린 뒤 두 파일을 정리한다.
+ * 시간 초과된 요청의 파일은 늦은 결과를 기다리는 동안 유지하며, 포기한 요청에는 input/uuid.cancel 표시를 남긴다.
+ * WAV가 다른 디렉토리에 있으면 input으로 링크(또는 복사)하므로 모델 워커별 스풀에도 그대로 사용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.analysis.transport", havingValue = "file", matchIfMissing = true)
+public class FileAnalysisTransport implements AnalysisTransport {
+
+	private static final Logger logger = LoggerFactory.getLogger(FileAnalysisTransport.class);
+
+	private static final int RESULT_READ_ATTEMPTS = 5;
+	private static final long RESULT_READ_RETRY_MILLIS = 100;
+
+	private final AnalysisResultWatcher resultWatcher;
+	private final PronunciationMetrics pronunciationMetrics;
+	private final SharedDirectoryJanitor sharedDirectoryJanitor;
+	private final Executor analysisExecutor;
+	private final String sharedDirectory;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	public FileAnalysisTransport(AnalysisResultWatcher resultWatcher, PronunciationMetrics pronunciationMetrics,
+		SharedDirectoryJanitor sharedDirectoryJanitor, @Qualifier("analysisExecutor") Executor analysisExecutor,
+		@Value("${app.shared.directory:/tmp/shared_data}") String sharedDirectory) {
+		this.resultWatcher = resultWatcher;
+		this.pronunciationMetrics = pronunciationMetrics;
+		this.sharedDirectoryJanitor = sharedDirectoryJanitor;
+		this.analysisExecutor = analysisExecutor;
+		this.sharedDirectory = sharedDirectory;
+	}
+
+	@Override
+	public CompletableFuture<byte[]> exchange(AnalysisRequest request, Consumer<AnalysisStage> progressListener) {
+		String fileName = request.id();
+
+		try {
+			pronunciationMetrics.stage(PronunciationMetrics.Stage.REQUEST_WRITE, fileName)
+				.observeChecked(() -> {
+					stageWav(request);
+					createAnalysisRequest(request);
+				});
+		} catch (IOException e) {
+			logger.error("분석 요청 파일 생성 실패: {}", fileName, e);
+			cleanupAnalysisFiles(request);
+			return CompletableFuture.failedFuture(new RuntimeException("분석 요청 파일 생성 실패: " + e.getMessage(), e));
+		}
+		progressListener.accept(AnalysisStage.REQUEST_WRITTEN);
+
+		CompletableFuture<Path> resultFile = resultWatcher.watchResult(fileName + ".wav.result", request.timeout());
+		CompletableFuture<byte[]> result = resultFile.thenApplyAsync(this::readResultFile, analysisExecutor);
+		result.whenComplete((json, e) -> {
+			if (result.isCancelled()) {
+				// 호출 측이 취소하면 결과 파일 대기도 함께 해제
+				resultFile.cancel(false);
+				sharedDirectoryJanitor.markCancelled(sharedDirectory, fileName);
+			} else if (isTimeout(e)) {
+				// 모델이 아직 처리 중일 수 있으므로 awaitLateResult 또는 abandon에서 정리
+				return;
+			}
+			cleanupAnalysisFiles(request);
+		});
+		return result;
+	}
+
+	@Override
+	public CompletableFuture<byte[]> awaitLateResult(AnalysisRequest request, Duration gracePeriod) {
+		String fileName = request.id();
+		CompletableFuture<byte[]> lateResult = resultWatcher.watchResult(fileName + ".wav.result", gracePeriod)
+			.thenApplyAsync(this::readResultFile, analysisExecutor);
+		lateResult.whenComplete((json, e) -> {
+			if (e != null) {
+				sharedDirectoryJanitor.markCancelled(sharedDirectory, fileName);
+			}
+			cleanupAnalysisFiles(request);
+		});
+		return lateResult;
+	}
+
+	@Override
+	public void abandon(AnalysisRequest request) {
+		sharedDirectoryJanitor.markCancelled(sharedDirectory, request.id());
+		cleanupAnalysisFiles(request);
+	}
+
+	private static boolean isTimeout(Throwable e) {
+		Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+		return cause instanceof TimeoutException;
+	}
+
+	/**
+	 * WAV가 다른 디렉토리에 있으면 이 디렉토리의 input으로 링크 (다른 파일시스템이면 복사)
+	 */
+	private void stageWav(AnalysisRequest request) throws IOException {
+		Path stagedWav = stagedWavPath(request);
+		if (stagedWav == null) {
+			return;
+		}
+		Files.createDirectories(stagedWav.getParent());
+		try {
+			Files.createLink(stagedWav, request.wavPath().toAbsolutePath());
+		} catch (IOException | UnsupportedOperationException e) {
+			Files.copy(request.wavPath(), stagedWav, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * 이 디렉토리의 input에 둘 WAV 경로 (이미 input에 있으면 null)
+	 */
+	private Path stagedWavPath(AnalysisRequest request) {
+		Path inputDirectory = Paths.get(sharedDirectory, "input").toAbsolutePath().normalize();
+		Path wavDirectory = request.wavPath().toAbsolutePath().normalize().getParent();
+		return inputDirectory.equals(wavDirectory) ? null : inputDirectory.resolve(request.id() + ".wav");
+	}
+
+	/**
+	 * 분석 요청 파일 생성
+	 */
+	private void createAnalysisRequest(AnalysisRequest request) throws IOException {
+		String requestFileName = request.id() + ".request";
+		Path requestFilePath = Paths.get(sharedDirectory, "input", requestFileName);
+
+		Map<String, Object> requestData = new HashMap<>();
+		requestData.put("wav_file", request.id() + ".wav");
+		requestData.put("lang", request.language());
+		requestData.put("label_type1", "pron");
+		requestData.put("label_type2", "articulation");
+		requestData.put("timestamp", System.currentTimeMillis());
+
+		if (request.trimmedTargetText() != null) {
+			requestData.put("target_text", request.trimmedTargetText());
+		}
+
+		objectMapper.writeValue(requestFilePath.toFile(), requestData);
+		logger.info("분석 요청 파일 생성: {}", requestFilePath);
+	}
+
+	/**
+	 * 결과 파일 읽기
+	 * 생성 이벤트 직후에는 모델 측이 아직 내용을 쓰는 중일 수 있으므로, JSON 객체가 닫힐 때까지 짧게 재시도한다.
+	 */
+	private byte[] readResultFile(Path resultFilePath) {
+		for (int attempt = 1; ; attempt++) {
+			try {
+				byte[] resultJson = Files.readAllBytes(resultFilePath);
+				if (isComplete(resultJson) || attempt >= RESULT_READ_ATTEMPTS) {
+					return resultJson;
+				}
+			} catch (IOException e) {
+				if (attempt >= RESULT_READ_ATTEMPTS) {
+					logger.error("결과 파일 읽기 실패: {}", resultFilePath, e);
+					throw new RuntimeException("결과 파일 읽기 실패", e);
+				}
+			}
+			logger.debug("결과 파일 쓰기 완료 대기 중 ({}회): {}", attempt, resultFilePath);
+
+			try {
+				Thread.sleep(RESULT_READ_RETRY_MILLIS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RuntimeException("분석 대기 중 인터럽트 발생", e);
+			}
+		}
+	}
+
+	private boolean isComplete(byte[] json) {
+		return new String(json, StandardCharsets.UTF_8).strip().endsWith("}");
+	}
+
+	/**
+	 * 분석 관련 파일들 정리 (input으로 링크한 WAV 포함)
+	 */
+	private void cleanupAnalysisFiles(AnalysisRequest request) {
+		String fileName = request.id();
+		try {
+			// 요청 파일 삭제
+			Path requestFile = Paths.get(sharedDirectory, "input", fileName + ".request");
+			Files.deleteIfExists(requestFile);
+
+			// 결과 파일 삭제
+			Path resultFile = Paths.get(sharedDirectory, "output", fileName + ".wav.result");
+			Files.deleteIfExists(resultFile);
+
+			Path stagedWav = stagedWavPath(request);
+			if (stagedWav != null) {
+				Files.deleteIfExists(stagedWav);
+			}
+
+			logger.debug("분석 파일 정리 완료: {}", fileName);
+
+		} catch (IOException e) {
+			logger.warn("분석 파일 정리 실패: {}", fileName, e);
+		}
+	}
+}
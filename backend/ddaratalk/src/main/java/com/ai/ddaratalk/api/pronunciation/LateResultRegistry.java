@@ -0,0 +1,161 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ai.ddaratalk.api.pronunciation.dto.PronunciationResult;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 시간 초과된 분석 요청 보관소
+ * 대기 시간을 넘긴 요청도 모델은 계속 처리하므로, 유예 기간 동안 결과를 더 기다린다.
+ * 늦게 도착한 결과는 결과 캐시에 저장하고 해당 작업에도 기록하여 클라이언트가 조회할 수 있게 한다.
+ * 보관 중에 같은 녹음이 다시 제출되면 모델을 다시 호출하지 않고 보관 중인 결과를 함께 기다린다.
+ * 보관 중인 요청의 WAV는 결과 수신 또는 유예 만료 시 보관소가 삭제한다.
+ */
+@Component
+public class LateResultRegistry {
+
+	private static final Logger logger = LoggerFactory.getLogger(LateResultRegistry.class);
+
+	@Value("${app.analysis.late-result.enabled:true}")
+	private boolean enabled;
+
+	@Value("${app.analysis.late-result.grace-seconds:60}")
+	private long graceSeconds;
+
+	private final PronunciationResultCache resultCache;
+	private final SharedDirectoryJanitor sharedDirectoryJanitor;
+
+	/**
+	 * 요청 ID → 보관 중인 요청
+	 */
+	private final Map<String, ParkedRequest> parkedById = new ConcurrentHashMap<>();
+
+	/**
+	 * 캐시 키 → 보관 중인 요청 (같은 녹음 재제출 시 합류)
+	 */
+	private final Map<String, ParkedRequest> parkedByCacheKey = new ConcurrentHashMap<>();
+
+	private final Counter recovered;
+	private final Counter expired;
+	private final Counter joined;
+
+	private record ParkedRequest(AnalysisRequest request, String cacheKey,
+		CompletableFuture<PronunciationResult> lateResult) {
+	}
+
+	public LateResultRegistry(PronunciationResultCache resultCache, SharedDirectoryJanitor sharedDirectoryJanitor,
+		MeterRegistry meterRegistry) {
+		this.resultCache = resultCache;
+		this.sharedDirectoryJanitor = sharedDirectoryJanitor;
+
+		Gauge.builder("pronunciation.late.parked", parkedById, Map::size)
+			.description("늦은 결과를 기다리는 시간 초과 요청 수")
+			.register(meterRegistry);
+		this.recovered = Counter.builder("pronunciation.late.results")
+			.description("시간 초과 요청의 결과 수신 여부")
+			.tag("outcome", "recovered")
+			.register(meterRegistry);
+		this.expired = Counter.builder("pronunciation.late.results")
+			.description("시간 초과 요청의 결과 수신 여부")
+			.tag("outcome", "expired")
+			.register(meterRegistry);
+		this.joined = Counter.builder("pronunciation.late.joined")
+			.description("재제출된 녹음이 모델 호출 없이 보관 중인 요청에 합류한 횟수")
+			.register(meterRegistry);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public Duration getGracePeriod() {
+		return Duration.ofSeconds(graceSeconds);
+	}
+
+	/**
+	 * 시간 초과된 요청 보관
+	 * @param request 시간 초과된 분석 요청
+	 * @param cacheKey 결과 캐시 키 (캐시 미사용 시 null)
+	 * @param lateResult 늦게 도착한 결과로 완료되는 Future (유예 만료 시 실패)
+	 */
+	public void park(AnalysisRequest request, String cacheKey, CompletableFuture<PronunciationResult> lateResult) {
+		ParkedRequest parked = new ParkedRequest(request, cacheKey, lateResult);
+		parkedById.put(request.id(), parked);
+		if (cacheKey != null) {
+			parkedByCacheKey.putIfAbsent(cacheKey, parked);
+		}
+		logger.info("시간 초과 요청 보관, 늦은 결과 대기: {}", request.id());
+
+		lateResult.whenComplete((result, e) -> {
+			if (e == null) {
+				if (cacheKey != null) {
+					resultCache.put(cacheKey, result);
+				}
+				recovered.increment();
+				logger.info("시간 초과 요청의 결과 수신: {}, 점수={}", request.id(), result.getScore());
+			} else {
+				expired.increment();
+				logger.info("시간 초과 요청 포기: {} ({})", request.id(), e.getMessage());
+			}
+			parkedById.remove(request.id(), parked);
+			if (cacheKey != null) {
+				parkedByCacheKey.remove(cacheKey, parked);
+			}
+			deleteWav(request);
+		});
+	}
+
+	/**
+	 * 같은 녹음의 보관 중인 요청에 합류
+	 * @return 호출자 전용 결과 Future (취소해도 보관 중인 요청에 영향 없음), 보관 중인 요청이 없으면 null
+	 */
+	public CompletableFuture<PronunciationResult> join(String cacheKey) {
+		ParkedRequest parked = parkedByCacheKey.get(cacheKey);
+		if (parked == null) {
+			return null;
+		}
+		joined.increment();
+		logger.info("재제출된 녹음을 보관 중인 요청에 연결: {}", parked.request().id());
+		return parked.lateResult().thenApply(resultCache::copyOf);
+	}
+
+	/**
+	 * 보관 중인 요청의 늦은 결과
+	 * @return 결과 도착 시 완료, 유예 만료 시 실패하는 Future (보관 중이 아니면 empty)
+	 */
+	public Optional<CompletableFuture<PronunciationResult>> findLateResult(String requestId) {
+		return Optional.ofNullable(parkedById.get(requestId)).map(ParkedRequest::lateResult);
+	}
+
+	/**
+	 * 늦은 결과를 기다리는 중인 요청인지 확인 (WAV를 지우면 안 됨)
+	 */
+	public boolean isParked(String requestId) {
+		return parkedById.containsKey(requestId);
+	}
+
+	private void deleteWav(AnalysisRequest request) {
+		try {
+			Files.deleteIfExists(request.wavPath());
+		} catch (IOException e) {
+			logger.warn("보관 요청 WAV 삭제 실패: {}", request.wavPath(), e);
+		} finally {
+			sharedDirectoryJanitor.release(request.id());
+		}
+	}
+}
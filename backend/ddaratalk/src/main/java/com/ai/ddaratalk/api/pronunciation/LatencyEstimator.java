@@ -0,0 +1,164 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 모델 대기 시간 추정기
+ * 언어와 녹음 길이 구간별로 요청부터 결과 수신까지 걸린 시간(대기열 + processing_time)의 EWMA와 편차 EWMA를 유지한다.
+ * 예상 대기 시간은 평균, 마감 시간은 평균 + deviation-factor × 편차로 정하며
+ * 표본이 부족하면 고정 시간 초과(app.analysis.timeout)를 그대로 사용한다.
+ */
+@Component
+public class LatencyEstimator {
+
+	private static final Logger logger = LoggerFactory.getLogger(LatencyEstimator.class);
+
+	/**
+	 * 녹음 길이 구간 상한 (초)
+	 */
+	private static final int[] DURATION_BUCKETS = {5, 10, 20, 40};
+
+	private static final double WEIGHT = 0.2;
+
+	@Value("${app.analysis.deadline.adaptive:true}")
+	private boolean adaptive;
+
+	@Value("${app.analysis.deadline.min-samples:5}")
+	private int minSamples;
+
+	@Value("${app.analysis.deadline.deviation-factor:4}")
+	private double deviationFactor;
+
+	@Value("${app.analysis.deadline.min-seconds:5}")
+	private long minDeadlineSeconds;
+
+	@Value("${app.analysis.deadline.reject-hopeless:true}")
+	private boolean rejectHopeless;
+
+	/**
+	 * 추정치가 이 시간 안에 갱신된 경우에만 가망 없는 요청을 거절 (거절만 이어져 추정치가 굳는 것 방지)
+	 */
+	@Value("${app.analysis.deadline.reject-window-seconds:60}")
+	private long rejectWindowSeconds;
+
+	private final MeterRegistry meterRegistry;
+	private final Map<String, Ewma> estimates = new ConcurrentHashMap<>();
+
+	/**
+	 * 예상 대기 시간과 마감 시간
+	 * @param expectedWait 예상 대기 시간 (표본이 부족하면 null)
+	 * @param deadline 결과를 기다릴 최대 시간
+	 * @param hopeless 최근 평균 대기 시간이 최대 마감 시간을 넘음 (요청해도 시간 초과될 가능성이 높음)
+	 */
+	public record Estimate(Duration expectedWait, Duration deadline, boolean hopeless) {
+	}
+
+	private static final class Ewma {
+
+		private double mean;
+		private double deviation;
+		private long samples;
+		private volatile long updatedAt;
+
+		synchronized void add(double value) {
+			if (samples == 0) {
+				mean = value;
+				deviation = value / 2;
+			} else {
+				deviation += WEIGHT * (Math.abs(value - mean) - deviation);
+				mean += WEIGHT * (value - mean);
+			}
+			samples++;
+			updatedAt = System.currentTimeMillis();
+		}
+
+		synchronized double getMean() {
+			return mean;
+		}
+
+		synchronized double getDeviation() {
+			return deviation;
+		}
+
+		synchronized long getSamples() {
+			return samples;
+		}
+	}
+
+	public LatencyEstimator(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * 예상 대기 시간과 마감 시간 계산
+	 * @param language 언어 코드
+	 * @param audioSeconds 녹음 길이 (초, 모르면 0)
+	 * @param maxDeadline 마감 시간 상한 (app.analysis.timeout)
+	 */
+	public Estimate estimate(String language, double audioSeconds, Duration maxDeadline) {
+		Ewma ewma = estimates.get(keyOf(language, audioSeconds));
+		if (ewma == null || ewma.getSamples() < minSamples) {
+			return new Estimate(null, maxDeadline, false);
+		}
+
+		double mean = ewma.getMean();
+		Duration expectedWait = Duration.ofMillis(Math.round(mean));
+		if (!adaptive) {
+			return new Estimate(expectedWait, maxDeadline, false);
+		}
+
+		long deadlineMillis = Math.round(mean + deviationFactor * ewma.getDeviation());
+		deadlineMillis = Math.max(minDeadlineSeconds * 1000, Math.min(maxDeadline.toMillis(), deadlineMillis));
+		boolean hopeless = rejectHopeless && mean > maxDeadline.toMillis()
+			&& System.currentTimeMillis() - ewma.updatedAt < rejectWindowSeconds * 1000;
+		return new Estimate(expectedWait, Duration.ofMillis(deadlineMillis), hopeless);
+	}
+
+	/**
+	 * 요청부터 결과 수신까지 걸린 시간 기록 (시간 초과는 마감 시간을 하한값으로 기록)
+	 */
+	public void record(String language, double audioSeconds, Duration waited) {
+		String key = keyOf(language, audioSeconds);
+		estimates.computeIfAbsent(key, k -> register(language, bucketOf(audioSeconds))).add(waited.toMillis());
+		logger.debug("모델 대기 시간 기록: {} {}ms", key, waited.toMillis());
+	}
+
+	private Ewma register(String language, String bucket) {
+		Ewma ewma = new Ewma();
+		Gauge.builder("pronunciation.latency.estimate", ewma, Ewma::getMean)
+			.description("언어·녹음 길이 구간별 모델 대기 시간 EWMA")
+			.tag("lang", String.valueOf(language))
+			.tag("duration", bucket)
+			.baseUnit("milliseconds")
+			.register(meterRegistry);
+		return ewma;
+	}
+
+	private static String keyOf(String language, double audioSeconds) {
+		return language + "|" + bucketOf(audioSeconds);
+	}
+
+	/**
+	 * 녹음 길이 구간 이름 (0-5s, 5-10s, 10-20s, 20-40s, 40s+)
+	 */
+	static String bucketOf(double audioSeconds) {
+		int lower = 0;
+		for (int upper : DURATION_BUCKETS) {
+			if (audioSeconds < upper) {
+				return lower + "-" + upper + "s";
+			}
+			lower = upper;
+		}
+		return lower + "s+";
+	}
+}
@@ -0,0 +1,274 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Meter;
+
+/**
+ * 모델 프로세스 하나의 회로 차단기
+ * 모델 측이 공유 디렉토리에 주기적으로 갱신하는 heartbeat.json이 오래되었거나(stopped 포함),
+ * 연속 실패(status=error 결과, 시간 초과)가 기준을 넘으면 열려서 요청을 바로 거절한다.
+ * 열린 뒤 open-seconds가 지나고 하트비트가 살아있으면 요청 하나를 시험 삼아 보내(반열림) 성공하면 닫힌다.
+ * 상태가 바뀔 때마다 세대가 올라가며, 허가를 받은 세대가 지난 요청의 결과는 상태에 반영하지 않는다
+ * (회로가 열리기 전에 보낸 요청이 늦게 성공해도 열린 회로를 닫지 않음).
+ * heartbeat.json이 한 번도 없었던 모델(하트비트를 쓰지 않는 모니터)은 연속 실패만으로 판단한다.
+ */
+public final class ModelCircuitBreaker {
+
+	private static final Logger logger = LoggerFactory.getLogger(ModelCircuitBreaker.class);
+
+	private static final String HEARTBEAT_FILE = "heartbeat.json";
+
+	/**
+	 * 하트비트 파일을 다시 읽기까지의 최소 간격
+	 */
+	private static final long HEARTBEAT_READ_INTERVAL_MILLIS = 1000;
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	public enum State {
+		CLOSED, HALF_OPEN, OPEN
+	}
+
+	private final String name;
+	private final Path heartbeatPath;
+	private final long staleMillis;
+	private final int failureThreshold;
+	private final long openMillis;
+
+	private State state = State.CLOSED;
+	private int consecutiveFailures;
+	private long openedAt;
+	private boolean probeInFlight;
+	private long generation;
+
+	private volatile long heartbeatAt = -1;
+	private volatile boolean stopped;
+	private volatile long heartbeatReadAt;
+
+	private volatile List<Meter> meters = List.of();
+
+	ModelCircuitBreaker(String name, String sharedDirectory, long staleMillis, int failureThreshold, long openMillis) {
+		this.name = name;
+		this.heartbeatPath = Paths.get(sharedDirectory, HEARTBEAT_FILE);
+		this.staleMillis = staleMillis;
+		this.failureThreshold = failureThreshold;
+		this.openMillis = openMillis;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * 요청 허가
+	 * 허가받은 요청은 recordSuccess, recordFailure, release 중 하나로 결과를 알려야 한다 (두 번째부터는 무시).
+	 * 반열림 상태에서 허가받은 시험 요청의 결과만 회로를 닫거나 다시 열고,
+	 * 닫힌 상태에서 허가받은 요청의 결과는 같은 세대 동안 연속 실패 수에만 반영된다.
+	 */
+	public final class Permit {
+
+		private final boolean probe;
+		private final long issuedGeneration;
+		private boolean reported;
+
+		private Permit(boolean probe, long issuedGeneration) {
+			this.probe = probe;
+			this.issuedGeneration = issuedGeneration;
+		}
+
+		/**
+		 * 반열림 상태의 시험 요청 여부
+		 */
+		public boolean isProbe() {
+			return probe;
+		}
+
+		public void recordSuccess() {
+			onSuccess(this);
+		}
+
+		public void recordFailure() {
+			onFailure(this);
+		}
+
+		/**
+		 * 성공/실패를 판단할 수 없이 끝난 요청 (취소, 입장 거절 등)
+		 */
+		public void release() {
+			onRelease(this);
+		}
+	}
+
+	/**
+	 * 요청 허가 (반열림 상태에서는 시험 요청 하나만 허가)
+	 * @return 요청 허가, 거절되면 null
+	 */
+	public synchronized Permit tryAcquire() {
+		long now = System.currentTimeMillis();
+		if (isHeartbeatStale(now)) {
+			trip(now, "하트비트 " + describeHeartbeat(now));
+			return null;
+		}
+		if (state == State.CLOSED) {
+			return new Permit(false, generation);
+		}
+		if (state == State.OPEN) {
+			if (now - openedAt < openMillis) {
+				return null;
+			}
+			transition(State.HALF_OPEN);
+			logger.info("모델 회로 반열림, 시험 요청 전송: {}", name);
+		}
+		if (probeInFlight) {
+			return null;
+		}
+		probeInFlight = true;
+		return new Permit(true, generation);
+	}
+
+	/**
+	 * 요청을 허가할 수 있는 상태인지 확인 (상태를 바꾸지 않음, 워커 선택용)
+	 */
+	public synchronized boolean isAvailable() {
+		long now = System.currentTimeMillis();
+		if (isHeartbeatStale(now)) {
+			return false;
+		}
+		return switch (state) {
+			case CLOSED -> true;
+			case OPEN -> now - openedAt >= openMillis;
+			case HALF_OPEN -> !probeInFlight;
+		};
+	}
+
+	private synchronized void onSuccess(Permit permit) {
+		if (!report(permit)) {
+			return;
+		}
+		if (permit.probe) {
+			probeInFlight = false;
+			consecutiveFailures = 0;
+			transition(State.CLOSED);
+			logger.info("모델 회로 닫힘 (응답 회복): {}", name);
+		} else {
+			consecutiveFailures = 0;
+		}
+	}
+
+	private synchronized void onFailure(Permit permit) {
+		if (!report(permit)) {
+			return;
+		}
+		if (permit.probe) {
+			trip(System.currentTimeMillis(), "시험 요청 실패");
+			return;
+		}
+		consecutiveFailures++;
+		if (consecutiveFailures >= failureThreshold) {
+			trip(System.currentTimeMillis(), "연속 실패 " + consecutiveFailures + "회");
+		}
+	}
+
+	private synchronized void onRelease(Permit permit) {
+		if (report(permit) && permit.probe) {
+			probeInFlight = false;
+		}
+	}
+
+	/**
+	 * 결과를 처음 알리는 것이고 허가 이후 상태가 바뀌지 않았으면 true
+	 */
+	private boolean report(Permit permit) {
+		if (permit.reported) {
+			return false;
+		}
+		permit.reported = true;
+		return permit.issuedGeneration == generation;
+	}
+
+	public synchronized State getState() {
+		return state;
+	}
+
+	/**
+	 * 다시 시도할 때까지 권장 대기 시간 (초)
+	 */
+	public synchronized long getRetryAfterSeconds() {
+		long remaining = openMillis - (System.currentTimeMillis() - openedAt);
+		return Math.max(1, (remaining + 999) / 1000);
+	}
+
+	/**
+	 * 마지막 하트비트 이후 경과 시간 (초, 하트비트가 없으면 -1)
+	 */
+	public double getHeartbeatAgeSeconds() {
+		refreshHeartbeat(System.currentTimeMillis());
+		return heartbeatAt < 0 ? -1 : (System.currentTimeMillis() - heartbeatAt) / 1000.0;
+	}
+
+	List<Meter> getMeters() {
+		return meters;
+	}
+
+	void setMeters(List<Meter> meters) {
+		this.meters = meters;
+	}
+
+	private void trip(long now, String reason) {
+		if (state != State.OPEN) {
+			logger.warn("모델 회로 열림, 요청을 즉시 거절합니다: {} ({})", name, reason);
+		}
+		transition(State.OPEN);
+		openedAt = now;
+		probeInFlight = false;
+		consecutiveFailures = 0;
+	}
+
+	/**
+	 * 상태 변경 (이전 세대에 허가한 요청의 결과는 이후 무시)
+	 */
+	private void transition(State next) {
+		state = next;
+		generation++;
+	}
+
+	private boolean isHeartbeatStale(long now) {
+		refreshHeartbeat(now);
+		return heartbeatAt >= 0 && (stopped || now - heartbeatAt > staleMillis);
+	}
+
+	private String describeHeartbeat(long now) {
+		return stopped ? "stopped" : "갱신 없음 " + (now - heartbeatAt) / 1000 + "초";
+	}
+
+	/**
+	 * 하트비트 파일 읽기 ({"timestamp": epoch 초, "status": "running" | "stopped"})
+	 */
+	private void refreshHeartbeat(long now) {
+		if (now - heartbeatReadAt < HEARTBEAT_READ_INTERVAL_MILLIS) {
+			return;
+		}
+		heartbeatReadAt = now;
+		try {
+			JsonNode heartbeat = OBJECT_MAPPER.readTree(Files.readAllBytes(heartbeatPath));
+			heartbeatAt = (long) (heartbeat.path("timestamp").asDouble() * 1000);
+			stopped = "stopped".equals(heartbeat.path("status").asText());
+		} catch (NoSuchFileException e) {
+			// 하트비트를 쓰지 않는 모니터이거나 아직 시작 전 (이전 값 유지)
+		} catch (IOException e) {
+			logger.debug("하트비트 읽기 실패: {} ({})", heartbeatPath, e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,100 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 모델 프로세스별 회로 차단기 생성과 메트릭 등록
+ * 기본 공유 디렉토리의 차단기는 PronunciationAnalysisService가, 워커별 차단기는 RoutedAnalysisTransport가 사용한다.
+ */
+@Component
+public class ModelHealthMonitor {
+
+	private static final String DEFAULT_NAME = "default";
+
+	@Value("${app.analysis.health.enabled:true}")
+	private boolean enabled;
+
+	@Value("${app.analysis.health.heartbeat-stale-seconds:10}")
+	private long heartbeatStaleSeconds;
+
+	@Value("${app.analysis.health.failure-threshold:5}")
+	private int failureThreshold;
+
+	@Value("${app.analysis.health.open-seconds:15}")
+	private long openSeconds;
+
+	@Value("${app.shared.directory:/tmp/shared_data}")
+	private String sharedDirectory;
+
+	private final MeterRegistry meterRegistry;
+
+	private volatile ModelCircuitBreaker defaultBreaker;
+
+	public ModelHealthMonitor(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 기본 공유 디렉토리 모델의 회로 차단기 (비활성화 시 null)
+	 */
+	public ModelCircuitBreaker getDefaultBreaker() {
+		if (!enabled) {
+			return null;
+		}
+		if (defaultBreaker == null) {
+			synchronized (this) {
+				if (defaultBreaker == null) {
+					defaultBreaker = create(DEFAULT_NAME, sharedDirectory);
+				}
+			}
+		}
+		return defaultBreaker;
+	}
+
+	/**
+	 * 회로 차단기 생성 (제거 시 getMeters의 메트릭을 해제해야 함)
+	 * @param name 모델 이름 (메트릭 worker 태그)
+	 * @param directory heartbeat.json이 있는 공유 디렉토리
+	 * @return 회로 차단기 (비활성화 시 null)
+	 */
+	public ModelCircuitBreaker create(String name, String directory) {
+		if (!enabled) {
+			return null;
+		}
+		ModelCircuitBreaker breaker = new ModelCircuitBreaker(name, directory,
+			heartbeatStaleSeconds * 1000, failureThreshold, openSeconds * 1000);
+		breaker.setMeters(List.of(
+			Gauge.builder("pronunciation.model.breaker.state", breaker, b -> b.getState().ordinal())
+				.description("모델 회로 차단기 상태 (0: 닫힘, 1: 반열림, 2: 열림)")
+				.tag("worker", name)
+				.register(meterRegistry),
+			Gauge.builder("pronunciation.model.heartbeat.age", breaker, ModelCircuitBreaker::getHeartbeatAgeSeconds)
+				.description("모델 하트비트 경과 시간 (하트비트 없음: -1)")
+				.tag("worker", name)
+				.baseUnit("seconds")
+				.register(meterRegistry)));
+		return breaker;
+	}
+
+	/**
+	 * 회로가 열려 거절된 요청 수 기록
+	 */
+	public void recordRejection(ModelCircuitBreaker breaker) {
+		Counter.builder("pronunciation.model.breaker.rejected")
+			.description("모델 회로가 열려 즉시 거절된 요청 수")
+			.tag("worker", breaker.getName())
+			.register(meterRegistry)
+			.increment();
+	}
+}
@@ -0,0 +1,334 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 모델 전달 스케줄러
+ * 모델에 동시에 전달하는 요청 수를 max-in-flight로 제한하고, 대기 중인 요청은
+ * 우선순위(INTERACTIVE > BULK) → 진행 중 요청이 적은 사용자 → 마감 시각이 빠른 요청(EDF) 순으로 전달한다.
+ * 호출 측이 취소했거나 마감 시각이 지난 요청은 모델에 전달하지 않고 버린다.
+ */
+@Component
+public class ModelJobScheduler {
+
+	private static final Logger logger = LoggerFactory.getLogger(ModelJobScheduler.class);
+
+	private static final String ANONYMOUS_TENANT = "";
+
+	@Value("${app.analysis.scheduler.enabled:true}")
+	private boolean enabled;
+
+	@Value("${app.analysis.scheduler.max-in-flight:4}")
+	private int maxInFlight;
+
+	/**
+	 * 남은 대기 시간이 이보다 짧으면 모델에 전달하지 않음
+	 */
+	@Value("${app.analysis.scheduler.min-remaining-ms:500}")
+	private long minRemainingMillis;
+
+	@Value("${app.admission.retry-after-seconds:2}")
+	private long retryAfterSeconds;
+
+	private final Executor analysisExecutor;
+	private final MeterRegistry meterRegistry;
+	private final AtomicLong sequence = new AtomicLong();
+
+	/**
+	 * 사용자별 대기열 (this로 동기화)
+	 */
+	private final Map<String, TenantQueue> tenants = new HashMap<>();
+	private int inFlight;
+	private int pending;
+
+	private final class ScheduledJob implements Comparable<ScheduledJob> {
+
+		private final AnalysisRequest request;
+		private final AnalysisPriority priority;
+		private final TenantQueue tenant;
+		private final long deadlineAt;
+		private final long order = sequence.incrementAndGet();
+		private final long enqueuedAt = System.nanoTime();
+		private final Function<AnalysisRequest, CompletableFuture<byte[]>> dispatcher;
+		private final CompletableFuture<byte[]> result = new CompletableFuture<>();
+
+		/**
+		 * 모델에 전달한 뒤의 전송 계층 Future (대기 중이면 null)
+		 */
+		private volatile CompletableFuture<byte[]> exchange;
+
+		private ScheduledJob(AnalysisRequest request, AnalysisPriority priority, TenantQueue tenant,
+			Function<AnalysisRequest, CompletableFuture<byte[]>> dispatcher) {
+			this.request = request;
+			this.priority = priority;
+			this.tenant = tenant;
+			this.deadlineAt = System.currentTimeMillis() + request.timeout().toMillis();
+			this.dispatcher = dispatcher;
+		}
+
+		@Override
+		public int compareTo(ScheduledJob other) {
+			if (priority != other.priority) {
+				return priority.compareTo(other.priority);
+			}
+			if (deadlineAt != other.deadlineAt) {
+				return Long.compare(deadlineAt, other.deadlineAt);
+			}
+			return Long.compare(order, other.order);
+		}
+	}
+
+	private static final class TenantQueue {
+
+		private final String id;
+		private final PriorityQueue<ScheduledJob> jobs = new PriorityQueue<>();
+		private int inFlight;
+
+		private TenantQueue(String id) {
+			this.id = id;
+		}
+	}
+
+	public ModelJobScheduler(@Qualifier("analysisExecutor") Executor analysisExecutor, MeterRegistry meterRegistry) {
+		this.analysisExecutor = analysisExecutor;
+		this.meterRegistry = meterRegistry;
+
+		Gauge.builder("pronunciation.scheduler.pending", this, ModelJobScheduler::getPending)
+			.description("모델 전달을 기다리는 요청 수")
+			.register(meterRegistry);
+		Gauge.builder("pronunciation.scheduler.in.flight", this, ModelJobScheduler::getInFlight)
+			.description("모델에 전달되어 결과를 기다리는 요청 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 요청을 대기열에 넣고, 차례가 되면 dispatcher로 모델에 전달
+	 * @param request 분석 요청 (timeout은 대기열에서 보낸 시간을 포함한 전체 마감 시간)
+	 * @param priority 우선순위
+	 * @param tenantId 사용자 ID (공정 분배 단위, null이면 익명 사용자끼리 하나로 묶음)
+	 * @param dispatcher 남은 대기 시간으로 바뀐 요청을 전송 계층에 전달
+	 * @return 모델 결과 JSON으로 완료되는 Future (취소하면 대기열에서 제거되거나 전송 계층까지 취소 전달)
+	 */
+	public CompletableFuture<byte[]> submit(AnalysisRequest request, AnalysisPriority priority, String tenantId,
+		Function<AnalysisRequest, CompletableFuture<byte[]>> dispatcher) {
+		if (!enabled) {
+			try {
+				return dispatcher.apply(request);
+			} catch (RuntimeException e) {
+				return CompletableFuture.failedFuture(e);
+			}
+		}
+
+		ScheduledJob job;
+		boolean dispatchNow;
+		synchronized (this) {
+			String key = tenantId != null ? tenantId : ANONYMOUS_TENANT;
+			job = new ScheduledJob(request, priority, tenants.computeIfAbsent(key, TenantQueue::new), dispatcher);
+			dispatchNow = inFlight < maxInFlight && pending == 0;
+			if (dispatchNow) {
+				inFlight++;
+				job.tenant.inFlight++;
+			} else {
+				job.tenant.jobs.add(job);
+				pending++;
+			}
+		}
+
+		job.result.whenComplete((resultJson, e) -> {
+			if (job.result.isCancelled()) {
+				cancel(job);
+			}
+		});
+
+		if (dispatchNow) {
+			dispatch(job);
+		} else {
+			// 대기열에 있는 동안 마감 시각이 지나면 전달 차례를 기다리지 않고 바로 실패
+			long delay = Math.max(job.deadlineAt - System.currentTimeMillis() - minRemainingMillis, 0);
+			CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, analysisExecutor)
+				.execute(() -> expire(job));
+		}
+		return job.result;
+	}
+
+	/**
+	 * 모델에 전달 (마감 시각이 임박했으면 버리고 다음 요청으로)
+	 */
+	private void dispatch(ScheduledJob job) {
+		waitTimer(job.priority).record(System.nanoTime() - job.enqueuedAt, TimeUnit.NANOSECONDS);
+
+		long remaining = job.deadlineAt - System.currentTimeMillis();
+		if (job.result.isDone() || remaining < minRemainingMillis) {
+			if (!job.result.isDone()) {
+				drop(job);
+			}
+			release(job);
+			return;
+		}
+
+		CompletableFuture<byte[]> exchange;
+		try {
+			exchange = job.dispatcher.apply(job.request.withTimeout(Duration.ofMillis(remaining)));
+		} catch (RuntimeException e) {
+			exchange = CompletableFuture.failedFuture(e);
+		}
+		job.exchange = exchange;
+
+		exchange.whenComplete((resultJson, e) -> {
+			release(job);
+			if (e != null) {
+				job.result.completeExceptionally(e instanceof CompletionException && e.getCause() != null
+					? e.getCause() : e);
+			} else {
+				job.result.complete(resultJson);
+			}
+		});
+
+		// 전달하는 사이에 취소된 경우
+		if (job.result.isCancelled()) {
+			exchange.cancel(true);
+		}
+	}
+
+	/**
+	 * 자리 반납 후 다음 요청 전달
+	 */
+	private void release(ScheduledJob job) {
+		ScheduledJob next;
+		synchronized (this) {
+			inFlight--;
+			job.tenant.inFlight--;
+			removeIfIdle(job.tenant);
+			next = pollNext();
+			if (next != null) {
+				inFlight++;
+				next.tenant.inFlight++;
+			}
+		}
+		if (next != null) {
+			ScheduledJob scheduled = next;
+			analysisExecutor.execute(() -> dispatch(scheduled));
+		}
+	}
+
+	/**
+	 * 다음에 전달할 요청
+	 * 우선순위가 가장 높은 요청을 가진 사용자 중 진행 중 요청이 가장 적은 사용자의 마감 시각이 가장 빠른 요청
+	 */
+	private ScheduledJob pollNext() {
+		if (inFlight >= maxInFlight) {
+			return null;
+		}
+		TenantQueue selected = null;
+		for (TenantQueue tenant : tenants.values()) {
+			ScheduledJob head = tenant.jobs.peek();
+			if (head == null) {
+				continue;
+			}
+			if (selected == null) {
+				selected = tenant;
+				continue;
+			}
+			ScheduledJob selectedHead = selected.jobs.peek();
+			int byPriority = head.priority.compareTo(selectedHead.priority);
+			if (byPriority < 0
+				|| byPriority == 0 && tenant.inFlight < selected.inFlight
+				|| byPriority == 0 && tenant.inFlight == selected.inFlight && head.compareTo(selectedHead) < 0) {
+				selected = tenant;
+			}
+		}
+		if (selected == null) {
+			return null;
+		}
+		pending--;
+		return selected.jobs.poll();
+	}
+
+	/**
+	 * 호출 측 취소 (대기 중이면 대기열에서 제거, 전달했으면 전송 계층까지 취소)
+	 */
+	private void cancel(ScheduledJob job) {
+		CompletableFuture<byte[]> exchange = job.exchange;
+		if (exchange != null) {
+			exchange.cancel(true);
+			return;
+		}
+		if (removeQueued(job)) {
+			dropCounter("cancelled").increment();
+			logger.debug("취소된 요청을 대기열에서 제거: {}", job.request.id());
+		}
+	}
+
+	/**
+	 * 대기열에서 마감 시각이 지난 요청 제거
+	 */
+	private void expire(ScheduledJob job) {
+		if (removeQueued(job)) {
+			drop(job);
+		}
+	}
+
+	private synchronized boolean removeQueued(ScheduledJob job) {
+		if (!job.tenant.jobs.remove(job)) {
+			return false;
+		}
+		pending--;
+		removeIfIdle(job.tenant);
+		return true;
+	}
+
+	private void drop(ScheduledJob job) {
+		dropCounter("expired").increment();
+		logger.warn("마감 시각이 지나 모델에 전달하지 않음: {} (우선순위={})", job.request.id(), job.priority);
+		job.result.completeExceptionally(new AnalysisRejectedException(
+			"분석 대기 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds));
+	}
+
+	private void removeIfIdle(TenantQueue tenant) {
+		if (tenant.inFlight == 0 && tenant.jobs.isEmpty()) {
+			tenants.remove(tenant.id, tenant);
+		}
+	}
+
+	private synchronized int getPending() {
+		return pending;
+	}
+
+	private synchronized int getInFlight() {
+		return inFlight;
+	}
+
+	private Counter dropCounter(String reason) {
+		return Counter.builder("pronunciation.scheduler.dropped")
+			.description("모델에 전달하기 전에 버린 요청 수")
+			.tag("reason", reason)
+			.register(meterRegistry);
+	}
+
+	private Timer waitTimer(AnalysisPriority priority) {
+		return Timer.builder("pronunciation.scheduler.wait")
+			.description("모델 전달을 기다린 시간")
+			.tag("priority", priority.name().toLowerCase())
+			.register(meterRegistry);
+	}
+}
@@ -0,0 +1,177 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Meter;
+
+/**
+ * 모델 워커 (자체 input/output 스풀을 가진 모델 프로세스)
+ * 이 백엔드가 보낸 미완료 요청 수, 스풀에 쌓인 요청 파일 수(다른 백엔드 노드 포함), 최근 응답 시간(EWMA)으로 부하를 추정한다.
+ */
+final class ModelWorker {
+
+	/**
+	 * 최근 응답 시간 EWMA 가중치
+	 */
+	private static final double LATENCY_WEIGHT = 0.2;
+
+	private final String id;
+	private final String directory;
+	private final AnalysisResultWatcher resultWatcher;
+	private final boolean ownsWatcher;
+	private final FileAnalysisTransport transport;
+	private final ModelCircuitBreaker breaker;
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	/**
+	 * 처리 가능한 언어 (비어있으면 전체)
+	 */
+	private volatile Set<String> languages;
+
+	/**
+	 * 동시에 보낼 수 있는 최대 요청 수 (0이면 무제한)
+	 */
+	private volatile int maxInFlight;
+
+	/**
+	 * 새 요청을 받지 않음 (진행 중인 요청은 끝까지 처리)
+	 */
+	private volatile boolean draining;
+
+	private volatile double latencyMillis;
+	private volatile int queuedRequests;
+	private volatile List<Meter> meters = List.of();
+
+	ModelWorker(String id, String directory, AnalysisResultWatcher resultWatcher, boolean ownsWatcher,
+		FileAnalysisTransport transport, ModelCircuitBreaker breaker, double initialLatencyMillis) {
+		this.id = id;
+		this.directory = directory;
+		this.resultWatcher = resultWatcher;
+		this.ownsWatcher = ownsWatcher;
+		this.transport = transport;
+		this.breaker = breaker;
+		this.latencyMillis = initialLatencyMillis;
+	}
+
+	String getId() {
+		return id;
+	}
+
+	String getDirectory() {
+		return directory;
+	}
+
+	FileAnalysisTransport getTransport() {
+		return transport;
+	}
+
+	/**
+	 * 회로 차단기 (비활성화 시 null)
+	 */
+	ModelCircuitBreaker getBreaker() {
+		return breaker;
+	}
+
+	void configure(Set<String> languages, int maxInFlight, boolean draining) {
+		this.languages = languages;
+		this.maxInFlight = maxInFlight;
+		this.draining = draining;
+	}
+
+	void drain() {
+		this.draining = true;
+	}
+
+	/**
+	 * 새 요청을 보낼 수 있는지 확인 (회로가 열린 워커 제외)
+	 */
+	boolean accepts(String language) {
+		return !draining
+			&& (languages.isEmpty() || languages.contains(language))
+			&& (maxInFlight <= 0 || inFlight.get() < maxInFlight)
+			&& (breaker == null || breaker.isAvailable());
+	}
+
+	/**
+	 * 예상 대기 시간: (대기 중인 요청 수 + 1) × 최근 응답 시간
+	 */
+	double expectedWaitMillis() {
+		return (getQueueDepth() + 1) * latencyMillis;
+	}
+
+	int getQueueDepth() {
+		return Math.max(inFlight.get(), queuedRequests);
+	}
+
+	int getInFlight() {
+		return inFlight.get();
+	}
+
+	double getLatencyMillis() {
+		return latencyMillis;
+	}
+
+	/**
+	 * 요청 자리 확보 (한도 확인과 증가를 한 번에, accepts로 고른 뒤 다른 요청이 먼저 자리를 채웠으면 false)
+	 */
+	boolean tryAcquire() {
+		while (true) {
+			int current = inFlight.get();
+			if (draining || maxInFlight > 0 && current >= maxInFlight) {
+				return false;
+			}
+			if (inFlight.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+
+	void release() {
+		inFlight.decrementAndGet();
+	}
+
+	synchronized void recordLatency(long millis) {
+		latencyMillis += LATENCY_WEIGHT * (millis - latencyMillis);
+	}
+
+	/**
+	 * 스풀에 쌓인 요청 파일 수 측정 (다른 백엔드 노드가 보낸 요청 포함)
+	 */
+	void sampleQueueDepth() {
+		Path input = Paths.get(directory, "input");
+		if (!Files.isDirectory(input)) {
+			queuedRequests = 0;
+			return;
+		}
+		int count = 0;
+		try (DirectoryStream<Path> requests = Files.newDirectoryStream(input, "*.{request,batch}")) {
+			for (Path ignored : requests) {
+				count++;
+			}
+		} catch (IOException e) {
+			return;
+		}
+		queuedRequests = count;
+	}
+
+	List<Meter> getMeters() {
+		return meters;
+	}
+
+	void setMeters(List<Meter> meters) {
+		this.meters = meters;
+	}
+
+	void stop() {
+		if (ownsWatcher) {
+			resultWatcher.stop();
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 다상(polyphase) FIR 샘플링 레이트 변환
+ * 변환 비율을 정수비 L/M으로 줄인 뒤, L배 업샘플링 → 저역 통과 → M배 다운샘플링을 출력 샘플에 필요한
+ * 필터 위상만 계산하는 방식으로 수행한다. 필터는 Blackman 창을 씌운 sinc이며, 차단 주파수는
+ * 입력·출력 중 낮은 쪽 나이퀴스트의 95%로 두어 다운샘플링 시 에일리어싱을 막는다.
+ * 비율별 필터 계수는 한 번만 계산해 재사용한다.
+ */
+final class PcmResampler {
+
+	/**
+	 * 필터 한쪽의 영교차 수 (클수록 전이 대역이 좁아지고 연산량이 늘어남)
+	 */
+	private static final int ZERO_CROSSINGS = 16;
+
+	/**
+	 * 허용하는 최대 업샘플링 배수 (44.1kHz → 16kHz는 160, 22.05kHz는 320)
+	 */
+	private static final int MAX_UPSAMPLING = 1024;
+
+	private static final Map<Long, PcmResampler> CACHE = new ConcurrentHashMap<>();
+
+	private final int upsampling;     // L
+	private final int downsampling;   // M
+	private final int tapsPerPhase;
+	private final float[] coefficients;
+	private final int delay;
+
+	private PcmResampler(int upsampling, int downsampling) {
+		this.upsampling = upsampling;
+		this.downsampling = downsampling;
+
+		// 다운샘플링이면 차단 주파수가 낮아지므로 같은 영교차 수를 얻으려면 탭이 M/L배 필요
+		double ratio = Math.max(1.0, (double) downsampling / upsampling);
+		this.tapsPerPhase = (int) Math.ceil(2 * ZERO_CROSSINGS * ratio);
+		int length = tapsPerPhase * upsampling;
+		this.delay = (length - 1) / 2;
+
+		// 업샘플링된 레이트 기준 정규화 차단 주파수 (cycles/sample)
+		double cutoff = 0.475 * Math.min(upsampling, downsampling) / ((double) upsampling * downsampling);
+		double center = (length - 1) / 2.0;
+		this.coefficients = new float[length];
+		for (int n = 0; n < length; n++) {
+			double x = n - center;
+			double sinc = x == 0 ? 1.0 : Math.sin(2 * Math.PI * cutoff * x) / (Math.PI * x) / (2 * cutoff);
+			double window = 0.42 - 0.5 * Math.cos(2 * Math.PI * n / (length - 1))
+				+ 0.08 * Math.cos(4 * Math.PI * n / (length - 1));
+			// 0을 끼워 넣은 업샘플링으로 줄어든 크기를 L배로 보정
+			coefficients[n] = (float) (2 * cutoff * upsampling * sinc * window);
+		}
+	}
+
+	/**
+	 * 지원하는 변환 비율인지 확인 (정수비의 업샘플링 배수가 너무 크면 ffmpeg 사용)
+	 */
+	static boolean supports(int fromRate, int toRate) {
+		if (fromRate <= 0 || toRate <= 0) {
+			return false;
+		}
+		return toRate / gcd(fromRate, toRate) <= MAX_UPSAMPLING;
+	}
+
+	/**
+	 * 모노 샘플의 레이트 변환
+	 * @param input -1.0 ~ 1.0 범위 샘플
+	 * @return 변환된 샘플 (같은 레이트면 입력 그대로)
+	 */
+	static float[] resample(float[] input, int fromRate, int toRate) {
+		if (fromRate == toRate) {
+			return input;
+		}
+		int divisor = gcd(fromRate, toRate);
+		int upsampling = toRate / divisor;
+		int downsampling = fromRate / divisor;
+		return CACHE.computeIfAbsent(((long) upsampling << 32) | downsampling,
+			key -> new PcmResampler(upsampling, downsampling)).apply(input);
+	}
+
+	private float[] apply(float[] input) {
+		int outputLength = (int) (((long) input.length * upsampling + downsampling - 1) / downsampling);
+		float[] output = new float[outputLength];
+
+		for (int k = 0; k < outputLength; k++) {
+			// 업샘플링 영역의 위치 (필터 지연만큼 앞당겨 입력과 시간 정렬)
+			long position = (long) k * downsampling + delay;
+			int phase = (int) (position % upsampling);
+			long base = position / upsampling;
+
+			double sum = 0;
+			for (int j = 0; j < tapsPerPhase; j++) {
+				long index = base - j;
+				if (index < 0) {
+					break;
+				}
+				if (index < input.length) {
+					sum += input[(int) index] * coefficients[phase + j * upsampling];
+				}
+			}
+			output[k] = (float) sum;
+		}
+		return output;
+	}
+
+	private static int gcd(int a, int b) {
+		while (b != 0) {
+			int t = a % b;
+			a = b;
+			b = t;
+		}
+		return a;
+	}
+}
@@ -0,0 +1,80 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 프로세스와 그 입출력 작업을 함께 묶는 구조적 실행 범위
+ * 입출력 작업은 가상 스레드에서 실행되며, 시간 초과·인터럽트(요청 취소)·작업 실패 중 하나라도 발생하면
+ * 프로세스를 강제 종료하고 나머지 작업을 취소한다. 범위를 닫을 때는 모든 작업이 끝날 때까지 기다린다.
+ * (Java 21의 StructuredTaskScope는 preview API이므로 같은 종료 규칙을 ExecutorService로 구성)
+ */
+final class ProcessScope implements AutoCloseable {
+
+	private final Process process;
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final List<Future<?>> subtasks = new ArrayList<>();
+
+	ProcessScope(Process process) {
+		this.process = process;
+	}
+
+	/**
+	 * 프로세스 입출력 작업 실행
+	 */
+	<T> Future<T> fork(Callable<T> task) {
+		Future<T> future = executor.submit(task);
+		subtasks.add(future);
+		return future;
+	}
+
+	/**
+	 * 프로세스 종료와 모든 작업 완료 대기
+	 * @param timeout 최대 대기 시간
+	 * @return 프로세스 종료 코드
+	 */
+	int join(Duration timeout) throws IOException, InterruptedException {
+		try {
+			if (!process.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+				shutdown();
+				throw new RuntimeException("FFmpeg 변환 시간 초과 (" + timeout.toSeconds() + "초)");
+			}
+			for (Future<?> subtask : subtasks) {
+				subtask.get();
+			}
+			return process.exitValue();
+
+		} catch (InterruptedException e) {
+			// 요청 취소 또는 종료: 프로세스를 남겨두지 않음
+			shutdown();
+			throw e;
+		} catch (ExecutionException e) {
+			shutdown();
+			if (e.getCause() instanceof IOException ioException) {
+				throw ioException;
+			}
+			throw new RuntimeException("FFmpeg 입출력 처리 실패", e.getCause());
+		}
+	}
+
+	private void shutdown() {
+		process.destroyForcibly();
+		subtasks.forEach(subtask -> subtask.cancel(true));
+	}
+
+	@Override
+	public void close() {
+		if (process.isAlive()) {
+			shutdown();
+		}
+		executor.close();
+	}
+}
@@ -1,13 +1,16 @@
 package com.ai.ddaratalk.api.pronunciation;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,131 +18,272 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.ai.ddaratalk.api.pronunciation.dto.PronunciationResult;
-import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.observation.Observation;
+import lombok.RequiredArgsConstructor;
 
 @Service
+@RequiredArgsConstructor
 public class PronunciationAnalysisService {
 
 	private static final Logger logger = LoggerFactory.getLogger(PronunciationAnalysisService.class);
 
-	@Value("${app.shared.directory:/tmp/shared_data}")
-	private String sharedDirectory;
+	private final AnalysisTransport analysisTransport;
+	private final PronunciationResultCache resultCache;
+	private final AdmissionController admissionController;
+	private final PronunciationMetrics pronunciationMetrics;
+	private final VoiceActivityTrimmer voiceActivityTrimmer;
+	private final LateResultRegistry lateResults;
+	private final ModelHealthMonitor modelHealth;
+	private final LatencyEstimator latencyEstimator;
+	private final ModelJobScheduler modelJobScheduler;
 
 	@Value("${app.analysis.timeout:30}")
 	private int analysisTimeoutSeconds;
 
-	private final ObjectMapper objectMapper = new ObjectMapper();
-
 	/**
 	 * 발음 분석 수행
 	 * @param wavFilePath WAV 파일 경로
 	 * @param language 분석할 언어 (en, de, es, fr, jp, ru, zh)
 	 * @param targetText 목표 텍스트 (선택적)
+	 * @param userId 사용자 ID (모델 전달 순서 공정 분배 단위, 선택적)
 	 * @return 발음 분석 결과
 	 */
-	public PronunciationResult analyzePronunciation(String wavFilePath, String language, String targetText) {
+	public PronunciationResult analyzePronunciation(String wavFilePath, String language, String targetText,
+		String userId) {
 		try {
-			String fileName = extractFileName(wavFilePath);
-
-			// 1. 분석 요청 파일 생성
-			createAnalysisRequest(fileName, language, targetText);
-
-			// 2. 결과 대기 및 읽기
-			PronunciationResult result = waitForAnalysisResult(fileName);
-
-			// 3. 요청/결과 파일 정리
-			cleanupAnalysisFiles(fileName);
+			return analyzePronunciationAsync(wavFilePath, language, targetText, AnalysisPriority.INTERACTIVE, userId,
+				stage -> { }).get();
 
-			return result;
-
-		} catch (Exception e) {
-			logger.error("발음 분석 중 오류 발생: {}", e.getMessage(), e);
-			throw new RuntimeException("발음 분석 실패: " + e.getMessage(), e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof AnalysisRejectedException rejected) {
+				throw rejected;
+			}
+			if (e.getCause() instanceof SilentRecordingException silent) {
+				throw silent;
+			}
+			logger.error("발음 분석 중 오류 발생: {}", e.getCause().getMessage(), e.getCause());
+			throw new RuntimeException("발음 분석 실패: " + e.getCause().getMessage(), e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("발음 분석 실패: 분석 대기 중 인터럽트 발생", e);
 		}
 	}
 
 	/**
-	 * 분석 요청 파일 생성
+	 * 발음 분석 비동기 수행
+	 * 결과를 기다리는 동안 스레드를 점유하지 않는다.
+	 * @param wavFilePath WAV 파일 경로
+	 * @param language 분석할 언어 (en, de, es, fr, jp, ru, zh)
+	 * @param targetText 목표 텍스트 (선택적)
+	 * @param priority 모델 전달 우선순위
+	 * @param userId 사용자 ID (모델 전달 순서 공정 분배 단위, 선택적)
+	 * @param progressListener 진행 단계(REQUEST_WRITTEN, RESULT_PARSED)와 예상 완료 시각 수신자
+	 * @return 발음 분석 결과로 완료되는 Future
 	 */
-	private void createAnalysisRequest(String fileName, String language, String targetText) throws IOException {
-		String requestFileName = fileName + ".request";
-		Path requestFilePath = Paths.get(sharedDirectory, "input", requestFileName);
-
-		Map<String, Object> requestData = new HashMap<>();
-		requestData.put("wav_file", fileName + ".wav");
-		requestData.put("lang", language);
-		requestData.put("label_type1", "pron");
-		requestData.put("label_type2", "articulation");
-		requestData.put("timestamp", System.currentTimeMillis());
-
-		if (targetText != null && !targetText.trim().isEmpty()) {
-			requestData.put("target_text", targetText.trim());
+	public CompletableFuture<PronunciationResult> analyzePronunciationAsync(String wavFilePath, String language,
+		String targetText, AnalysisPriority priority, String userId, AnalysisProgressListener progressListener) {
+		// 앞뒤 무음 제거 (음성이 없으면 모델 호출 없이 실패)
+		VoiceActivityTrimmer.AudioProfile audioProfile;
+		try {
+			audioProfile = trimSilence(wavFilePath);
+		} catch (SilentRecordingException e) {
+			logger.info("음성 없는 녹음 거절: {}", wavFilePath);
+			return CompletableFuture.failedFuture(e);
 		}
 
-		objectMapper.writeValue(requestFilePath.toFile(), requestData);
-		logger.info("분석 요청 파일 생성: {}", requestFilePath);
+		// 동일한 녹음(PCM) + 언어 + 목표 텍스트는 모델을 거치지 않고 캐시 결과 사용
+		String cacheKey = resultCache.keyFor(Paths.get(wavFilePath), language, targetText);
+		if (cacheKey == null) {
+			return requestAnalysis(wavFilePath, language, targetText, priority, userId, progressListener, audioProfile,
+				null);
+		}
+		return resultCache.getOrLoad(cacheKey, () -> {
+			// 시간 초과 후 재제출된 녹음은 아직 모델이 처리 중인 이전 요청의 결과를 기다림
+			CompletableFuture<PronunciationResult> parked = lateResults.join(cacheKey);
+			if (parked != null) {
+				return parked;
+			}
+			return requestAnalysis(wavFilePath, language, targetText, priority, userId, progressListener, audioProfile,
+				cacheKey);
+		});
 	}
 
 	/**
-	 * 분석 결과 대기 및 읽기
+	 * 음성 구간 검출 및 무음 제거 (비활성화 또는 WAV 읽기 실패 시 원본 그대로 사용)
+	 * @return 음성 구간 정보, 무음 제거를 하지 않았으면 null
 	 */
-	private PronunciationResult waitForAnalysisResult(String fileName) {
-		String resultFileName = fileName + ".wav.result";
-		Path resultFilePath = Paths.get(sharedDirectory, "output", resultFileName);
-
-		logger.info("분석 결과 대기 중: {}", resultFilePath);
+	private VoiceActivityTrimmer.AudioProfile trimSilence(String wavFilePath) {
+		if (!voiceActivityTrimmer.isEnabled()) {
+			return null;
+		}
+		Path wavPath = Paths.get(wavFilePath);
+		try {
+			return pronunciationMetrics.stage(PronunciationMetrics.Stage.SILENCE_TRIM, extractFileName(wavFilePath))
+				.observeChecked(() -> voiceActivityTrimmer.trim(wavPath));
+		} catch (IOException e) {
+			logger.warn("무음 제거 실패, 원본으로 분석: {} ({})", wavFilePath, e.getMessage());
+			return null;
+		}
+	}
 
-		// 타임아웃까지 결과 파일 대기
-		for (int i = 0; i < analysisTimeoutSeconds; i++) {
-			if (Files.exists(resultFilePath)) {
-				try {
-					String resultJson = Files.readString(resultFilePath);
-					logger.info("분석 결과 수신: {}", resultJson);
+	/**
+	 * 모델에 분석 요청 후 결과 대기
+	 * @param cacheKey 결과 캐시 키 (시간 초과 후 늦게 도착한 결과 저장용, 캐시 미사용 시 null)
+	 */
+	private CompletableFuture<PronunciationResult> requestAnalysis(String wavFilePath, String language,
+		String targetText, AnalysisPriority priority, String userId, AnalysisProgressListener progressListener,
+		VoiceActivityTrimmer.AudioProfile audioProfile, String cacheKey) {
+		// 언어·녹음 길이별 관측 대기 시간으로 마감 시간 결정 (최근 평균이 최대 대기 시간을 넘으면 바로 거절)
+		double audioSeconds = audioSecondsOf(wavFilePath, audioProfile);
+		LatencyEstimator.Estimate estimate = latencyEstimator.estimate(language, audioSeconds,
+			Duration.ofSeconds(analysisTimeoutSeconds));
+		if (estimate.hopeless()) {
+			logger.info("예상 대기 시간 초과로 분석 거절: {} ({}ms)", language, estimate.expectedWait().toMillis());
+			return CompletableFuture.failedFuture(new AnalysisRejectedException(
+				"분석 요청이 많아 제한 시간 안에 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+				estimate.expectedWait().toSeconds()));
+		}
+		AnalysisRequest request = new AnalysisRequest(extractFileName(wavFilePath), Paths.get(wavFilePath),
+			language, targetText, estimate.deadline());
+
+		// 모델이 응답하지 않는 동안에는 요청 파일을 만들지 않고 바로 거절 (회로 차단기)
+		ModelCircuitBreaker breaker = analysisTransport.managesModelHealth() ? null : modelHealth.getDefaultBreaker();
+		ModelCircuitBreaker.Permit breakerPermit = breaker != null ? breaker.tryAcquire() : null;
+		if (breaker != null && breakerPermit == null) {
+			modelHealth.recordRejection(breaker);
+			return CompletableFuture.failedFuture(new AnalysisRejectedException(
+				"AI 모델이 응답하지 않습니다. 잠시 후 다시 시도해주세요.", breaker.getRetryAfterSeconds()));
+		}
 
-					// JSON 파싱하여 결과 객체 생성
-					Map<String, Object> resultMap = objectMapper.readValue(resultJson, Map.class);
+		// 단계 및 언어별 동시 분석 수 제한 (초과 시 AnalysisRejectedException)
+		AdmissionController.Permit permit;
+		try {
+			permit = admissionController.acquire(AdmissionController.Stage.ANALYSIS, language);
+		} catch (AnalysisRejectedException e) {
+			if (breakerPermit != null) {
+				breakerPermit.release();
+			}
+			return CompletableFuture.failedFuture(e);
+		}
 
-					if ("error".equals(resultMap.get("status"))) {
-						throw new RuntimeException("AI 모델 분석 오류: " + resultMap.get("error"));
+		// 요청 전송부터 결과 수신까지 (요청 파일 쓰기 스팬은 이 스팬의 하위)
+		Observation modelWait = pronunciationMetrics.stage(PronunciationMetrics.Stage.MODEL_WAIT, request.id()).start();
+		long requestedAt = System.nanoTime();
+		long now = System.currentTimeMillis();
+		progressListener.onEstimate(
+			estimate.expectedWait() != null ? now + estimate.expectedWait().toMillis() : 0,
+			now + request.timeout().toMillis());
+
+		// 우선순위·마감 시각 순으로 모델에 전달 (취소되었거나 마감 시각이 지난 요청은 전달하지 않음)
+		CompletableFuture<byte[]> exchange = modelJobScheduler.submit(request, priority, userId, scheduled -> {
+			try (Observation.Scope scope = modelWait.openScope()) {
+				return analysisTransport.exchange(scheduled, progressListener);
+			}
+		});
+
+		CompletableFuture<PronunciationResult> analysis = exchange
+			.whenComplete((resultJson, e) -> {
+				permit.close();
+				if (e != null) {
+					modelWait.error(e);
+					if (unwrap(e) instanceof TimeoutException) {
+						parkLateResult(request, cacheKey, audioProfile, audioSeconds, requestedAt);
 					}
-
-					return createPronunciationResult(resultMap);
-
-				} catch (IOException e) {
-					logger.error("결과 파일 읽기 실패: {}", resultFilePath, e);
-					throw new RuntimeException("결과 파일 읽기 실패", e);
 				}
+				modelWait.stop();
+			})
+			.thenApply(resultJson -> {
+				Duration waited = Duration.ofNanos(System.nanoTime() - requestedAt);
+				PronunciationResult result = pronunciationMetrics
+					.stage(PronunciationMetrics.Stage.RESULT_PARSE, request.id())
+					.parentObservation(modelWait)
+					.observe(() -> toResult(resultJson, language, audioProfile));
+				recordModelTiming(language, waited, result);
+				latencyEstimator.record(language, audioSeconds, waited);
+				progressListener.accept(AnalysisStage.RESULT_PARSED);
+				return result;
+			})
+			.exceptionally(e -> {
+				throw toAnalysisException(e, request);
+			});
+
+		// 호출 측 취소를 스케줄러와 전송 계층까지 전달 (대기열 제거, 요청 파일 정리, 소켓 종료)
+		CompletableFuture<byte[]> pendingExchange = exchange;
+		analysis.whenComplete((result, e) -> {
+			if (analysis.isCancelled()) {
+				pendingExchange.cancel(true);
 			}
-
-			try {
-				Thread.sleep(1000); // 1초 대기
-			} catch (InterruptedException e) {
-				Thread.currentThread().interrupt();
-				throw new RuntimeException("분석 대기 중 인터럽트 발생", e);
+			if (breakerPermit != null) {
+				recordModelOutcome(breakerPermit, analysis, e);
 			}
-		}
+		});
+		return analysis;
+	}
 
-		throw new RuntimeException("분석 시간 초과 (" + analysisTimeoutSeconds + "초)");
+	/**
+	 * 모델 응답 결과를 회로 차단기에 반영 (시간 초과, status=error, 전송 실패는 실패로 집계)
+	 */
+	private static void recordModelOutcome(ModelCircuitBreaker.Permit breakerPermit, CompletableFuture<?> analysis,
+		Throwable e) {
+		if (e == null) {
+			breakerPermit.recordSuccess();
+		} else if (analysis.isCancelled() || unwrap(e) instanceof AnalysisRejectedException) {
+			breakerPermit.release();
+		} else {
+			breakerPermit.recordFailure();
+		}
 	}
 
 	/**
-	 * 결과 맵을 PronunciationResult 객체로 변환
+	 * 시간 초과된 요청의 늦은 결과 대기
+	 * 비활성화되었거나 전송 방식이 지원하지 않으면 모델 측에 포기를 알린다.
+	 * 대기 시간 추정에는 늦은 결과의 실제 대기 시간을, 포기한 경우에는 마감 시간을 하한값으로 기록한다.
 	 */
-	private PronunciationResult createPronunciationResult(Map<String, Object> resultMap) {
-		PronunciationResult result = new PronunciationResult();
+	private void parkLateResult(AnalysisRequest request, String cacheKey,
+		VoiceActivityTrimmer.AudioProfile audioProfile, double audioSeconds, long requestedAt) {
+		CompletableFuture<byte[]> lateJson = lateResults.isEnabled()
+			? analysisTransport.awaitLateResult(request, lateResults.getGracePeriod())
+			: null;
+		if (lateJson == null) {
+			latencyEstimator.record(request.language(), audioSeconds, request.timeout());
+			analysisTransport.abandon(request);
+			return;
+		}
+		lateJson.whenComplete((resultJson, e) -> latencyEstimator.record(request.language(), audioSeconds,
+			Duration.ofNanos(System.nanoTime() - requestedAt)));
+		lateResults.park(request, cacheKey,
+			lateJson.thenApply(resultJson -> toResult(resultJson, request.language(), audioProfile)));
+	}
+
+	private PronunciationResult toResult(byte[] resultJson, String language,
+		VoiceActivityTrimmer.AudioProfile audioProfile) {
+		PronunciationResult result = parseAnalysisResult(resultJson, language);
+		if (audioProfile != null) {
+			audioProfile.applyTo(result);
+		}
+		return result;
+	}
 
-		// 기본 정보 설정
-		result.setScore(getDoubleValue(resultMap, "score"));
-		result.setTimestamp(getLongValue(resultMap, "timestamp"));
-		result.setStatus((String) resultMap.get("status"));
+	/**
+	 * 모델 결과 JSON을 PronunciationResult로 변환 (벤치마크에서 직접 호출)
+	 * 중간 Map 없이 단어별 정확도, 상세 분석 정보까지 DTO로 바로 바인딩한다.
+	 */
+	PronunciationResult parseAnalysisResult(byte[] resultJson, String language) {
+		if (logger.isDebugEnabled()) {
+			logger.debug("분석 결과 수신: {}", new String(resultJson, StandardCharsets.UTF_8));
+		}
 
-		// 추가 정보가 있다면 설정
-		if (resultMap.containsKey("transcription")) {
-			result.setTranscription((String) resultMap.get("transcription"));
+		PronunciationResult result;
+		try {
+			result = AnalysisResultReader.read(resultJson);
+		} catch (IOException e) {
+			throw new RuntimeException("결과 파일 읽기 실패", e);
 		}
 
-		if (resultMap.containsKey("prosody_score")) {
-			result.setProsodyScore(getDoubleValue(resultMap, "prosody_score"));
+		if ("error".equals(result.getStatus())) {
+			pronunciationMetrics.recordModelError(language);
+			throw new RuntimeException("AI 모델 분석 오류: " + result.getError());
 		}
 
 		// 점수 검증 및 보정
@@ -152,66 +296,59 @@ public class PronunciationAnalysisService {
 	}
 
 	/**
-	 * 분석 관련 파일들 정리
+	 * 비동기 분석 중 발생한 예외를 분석 실패 예외로 변환
 	 */
-	private void cleanupAnalysisFiles(String fileName) {
-		try {
-			// 요청 파일 삭제
-			Path requestFile = Paths.get(sharedDirectory, "input", fileName + ".request");
-			Files.deleteIfExists(requestFile);
-
-			// 결과 파일 삭제
-			Path resultFile = Paths.get(sharedDirectory, "output", fileName + ".wav.result");
-			Files.deleteIfExists(resultFile);
-
-			logger.debug("분석 파일 정리 완료: {}", fileName);
-
-		} catch (IOException e) {
-			logger.warn("분석 파일 정리 실패: {}", fileName, e);
+	private RuntimeException toAnalysisException(Throwable e, AnalysisRequest request) {
+		Throwable cause = unwrap(e);
+		if (cause instanceof TimeoutException) {
+			pronunciationMetrics.recordTimeout(request.language());
+			return new RuntimeException("분석 시간 초과 (" + request.timeout().toSeconds() + "초)");
+		}
+		if (cause instanceof RuntimeException runtimeException) {
+			return runtimeException;
 		}
+		return new RuntimeException("발음 분석 실패: " + cause.getMessage(), cause);
+	}
+
+	private static Throwable unwrap(Throwable e) {
+		return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
 	}
 
 	/**
-	 * 파일 경로에서 파일명 추출 (확장자 제외)
+	 * 모델 추론 시간(processing_time)과 백엔드 대기 시간을 함께 기록
 	 */
-	private String extractFileName(String filePath) {
-		Path path = Paths.get(filePath);
-		String fileName = path.getFileName().toString();
-		int lastDotIndex = fileName.lastIndexOf('.');
-		return lastDotIndex > 0 ? fileName.substring(0, lastDotIndex) : fileName;
+	private void recordModelTiming(String language, Duration waited, PronunciationResult result) {
+		if (result.getAnalysisDetails() == null || result.getAnalysisDetails().getProcessingTime() == null) {
+			return;
+		}
+		Duration processing = Duration.ofMillis(result.getAnalysisDetails().getProcessingTime());
+		pronunciationMetrics.recordModelTiming(language, waited, processing);
+		logger.debug("모델 대기 {}ms 중 추론 {}ms", waited.toMillis(), processing.toMillis());
 	}
 
 	/**
-	 * Map에서 Double 값 안전하게 추출
+	 * 녹음 길이 (초, 무음 제거 후 길이 우선, WAV 헤더를 읽지 못하면 0)
 	 */
-	private Double getDoubleValue(Map<String, Object> map, String key) {
-		Object value = map.get(key);
-		if (value == null) return null;
-		if (value instanceof Number) {
-			return ((Number) value).doubleValue();
+	private static double audioSecondsOf(String wavFilePath, VoiceActivityTrimmer.AudioProfile audioProfile) {
+		if (audioProfile != null) {
+			return audioProfile.duration();
 		}
-		try {
-			return Double.parseDouble(value.toString());
-		} catch (NumberFormatException e) {
-			logger.warn("Double 변환 실패: key={}, value={}", key, value);
-			return null;
+		try (InputStream in = Files.newInputStream(Paths.get(wavFilePath))) {
+			WavHeader.Format format = WavHeader.readFormat(in);
+			long byteRate = (long) format.sampleRate() * format.blockAlign();
+			return format.dataLength() > 0 && byteRate > 0 ? (double) format.dataLength() / byteRate : 0;
+		} catch (IOException e) {
+			return 0;
 		}
 	}
 
 	/**
-	 * Map에서 Long 값 안전하게 추출
+	 * 파일 경로에서 파일명 추출 (확장자 제외)
 	 */
-	private Long getLongValue(Map<String, Object> map, String key) {
-		Object value = map.get(key);
-		if (value == null) return null;
-		if (value instanceof Number) {
-			return ((Number) value).longValue();
-		}
-		try {
-			return Long.parseLong(value.toString());
-		} catch (NumberFormatException e) {
-			logger.warn("Long 변환 실패: key={}, value={}", key, value);
-			return null;
-		}
+	private String extractFileName(String filePath) {
+		Path path = Paths.get(filePath);
+		String fileName = path.getFileName().toString();
+		int lastDotIndex = fileName.lastIndexOf('.');
+		return lastDotIndex > 0 ? fileName.substring(0, lastDotIndex) : fileName;
 	}
-}
\ No newline at end of file
+}
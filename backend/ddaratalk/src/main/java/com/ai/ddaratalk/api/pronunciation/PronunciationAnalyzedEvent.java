@@ -0,0 +1,23 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.time.LocalDateTime;
+
+import com.ai.ddaratalk.api.pronunciation.dto.PronunciationResult;
+
+/**
+ * 발음 분석 완료 이벤트
+ * 동기/비동기 분석 모두 결과를 응답하기 직전에 발행하며, 이력 저장 등 후속 처리는 구독 측에서 비동기로 수행한다.
+ * @param userId 요청 사용자 (없으면 null)
+ * @param language 분석 언어
+ * @param targetText 목표 텍스트 (선택적)
+ * @param result 분석 결과 (구독 측에서 수정하지 않아야 함)
+ * @param analyzedAt 분석 완료 시각
+ */
+public record PronunciationAnalyzedEvent(String userId, String language, String targetText,
+	PronunciationResult result, LocalDateTime analyzedAt) {
+
+	public static PronunciationAnalyzedEvent of(String userId, String language, String targetText,
+		PronunciationResult result) {
+		return new PronunciationAnalyzedEvent(userId, language, targetText, result, LocalDateTime.now());
+	}
+}
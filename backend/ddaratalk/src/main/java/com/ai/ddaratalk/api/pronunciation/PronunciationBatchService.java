@@ -0,0 +1,439 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.ai.ddaratalk.api.pronunciation.dto.BatchItemResult;
+import com.ai.ddaratalk.api.pronunciation.dto.PronunciationResult;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 일괄 발음 분석
+ * 요청마다 항목을 임시 디렉토리에 저장(힙에 올리지 않음)한 뒤, 분석 실행기에서 parallelism개씩 병렬로 변환하고
+ * 변환이 끝난 항목부터 BULK 우선순위로 모델에 전달하여 완료되는 순서대로 항목별 결과를 전달한다.
+ * 동시에 처리하는 일괄 분석 요청 수는 max-concurrent로 제한한다.
+ */
+@Service
+public class PronunciationBatchService {
+
+	private static final Logger logger = LoggerFactory.getLogger(PronunciationBatchService.class);
+
+	private static final String MANIFEST_NAME = "manifest.json";
+
+	@Value("${app.analysis.batch-request.parallelism:2}")
+	private int parallelism;
+
+	/**
+	 * 한 요청에서 동시에 변환·분석 중인 항목 수 (언어별 분석 입장 한도에 걸려 거절되지 않도록 제한)
+	 */
+	@Value("${app.analysis.batch-request.max-in-flight:8}")
+	private int maxInFlight;
+
+	@Value("${app.analysis.batch-request.max-items:200}")
+	private int maxItems;
+
+	/**
+	 * 항목 하나의 최대 크기 (zip은 압축 해제 후)
+	 */
+	@Value("${app.analysis.batch-request.max-item-bytes:10485760}")
+	private long maxItemBytes;
+
+	/**
+	 * 요청 하나의 항목 크기 합계 상한 (zip은 압축 해제 후)
+	 */
+	@Value("${app.analysis.batch-request.max-total-bytes:209715200}")
+	private long maxTotalBytes;
+
+	@Value("${app.admission.retry-after-seconds:2}")
+	private long retryAfterSeconds;
+
+	private final AudioConversionService audioConversionService;
+	private final PronunciationAnalysisService pronunciationAnalysisService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final AsyncTaskExecutor analysisExecutor;
+	private final Semaphore uploadPermits;
+	private final ObjectMapper objectMapper = new ObjectMapper()
+		.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+	/**
+	 * 일괄 분석 항목
+	 * @param name 업로드 파일명 또는 zip 항목 경로
+	 * @param audioFile 임시 디렉토리에 저장한 오디오 (WebM, Ogg, WAV 등, 변환 후 삭제)
+	 * @param language 분석할 언어
+	 * @param targetText 목표 텍스트 (선택적)
+	 */
+	public record BatchItem(String name, Path audioFile, String language, String targetText) {
+	}
+
+	/**
+	 * 항목별 언어·목표 텍스트 지정 (manifest.json 배열 원소)
+	 * @param file 항목 이름 (없으면 배열 순서로 항목과 대응)
+	 */
+	private record ManifestEntry(String file, String lang, String text) {
+	}
+
+	public PronunciationBatchService(AudioConversionService audioConversionService,
+		PronunciationAnalysisService pronunciationAnalysisService, ApplicationEventPublisher eventPublisher,
+		@Qualifier("analysisExecutor") AsyncTaskExecutor analysisExecutor,
+		@Value("${app.analysis.batch-request.max-concurrent:2}") int maxConcurrent) {
+		this.audioConversionService = audioConversionService;
+		this.pronunciationAnalysisService = pronunciationAnalysisService;
+		this.eventPublisher = eventPublisher;
+		this.analysisExecutor = analysisExecutor;
+		this.uploadPermits = new Semaphore(maxConcurrent);
+	}
+
+	/**
+	 * 일괄 분석 요청 자리 확보 (요청 파트를 읽기 전에 호출)
+	 * 반환된 업로드는 analyze로 넘기거나, 그 전에 실패하면 close해야 한다.
+	 * @throws AnalysisRejectedException 동시에 처리 중인 일괄 분석 요청이 max-concurrent개인 경우
+	 */
+	public BatchUpload openUpload() throws IOException {
+		if (!uploadPermits.tryAcquire()) {
+			throw new AnalysisRejectedException("처리 중인 일괄 분석 요청이 많습니다. 잠시 후 다시 시도해주세요.",
+				retryAfterSeconds);
+		}
+		try {
+			return new BatchUpload(Files.createTempDirectory("ddaratalk-batch-"));
+		} catch (IOException | RuntimeException e) {
+			uploadPermits.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * 일괄 분석 요청 하나의 항목 저장소
+	 * 항목을 임시 디렉토리에 저장하며 항목 크기, 합계 크기, 항목 수를 제한한다.
+	 * close하면 임시 디렉토리를 지우고 요청 자리를 반납한다 (여러 번 호출해도 한 번만 수행).
+	 */
+	public final class BatchUpload implements AutoCloseable {
+
+		private final Path directory;
+		private final List<String> names = new ArrayList<>();
+		private final List<Path> files = new ArrayList<>();
+		private final AtomicBoolean closed = new AtomicBoolean();
+		private String archivedManifest;
+		private long totalBytes;
+
+		private BatchUpload(Path directory) {
+			this.directory = directory;
+		}
+
+		/**
+		 * 업로드 파트 하나를 항목으로 저장
+		 * @throws IllegalArgumentException 항목 수·크기 제한을 넘는 경우
+		 */
+		public void add(String name, InputStream audio) throws IOException {
+			String itemName = name != null && !name.isBlank() ? name : String.valueOf(names.size());
+			if (names.size() >= maxItems) {
+				throw new IllegalArgumentException("일괄 분석 항목은 최대 " + maxItems + "개입니다.");
+			}
+			Path file = directory.resolve(names.size() + ".audio");
+			try (OutputStream out = Files.newOutputStream(file)) {
+				copyLimited(audio, out, itemName);
+			}
+			names.add(itemName);
+			files.add(file);
+		}
+
+		/**
+		 * zip 파일의 항목 저장 (디렉터리, 숨김 파일 제외, 최상위 manifest.json은 항목별 지정으로 사용)
+		 * @throws IllegalArgumentException 항목 수·크기 제한을 넘는 경우
+		 */
+		public void addArchive(InputStream archive) throws IOException {
+			try (ZipInputStream zip = new ZipInputStream(archive)) {
+				ZipEntry entry;
+				while ((entry = zip.getNextEntry()) != null) {
+					String name = entry.getName();
+					String fileName = name.substring(name.lastIndexOf('/') + 1);
+					if (entry.isDirectory() || fileName.startsWith(".") || name.startsWith("__MACOSX/")) {
+						continue;
+					}
+					if (MANIFEST_NAME.equals(name)) {
+						ByteArrayOutputStream manifest = new ByteArrayOutputStream();
+						copyLimited(zip, manifest, name);
+						archivedManifest = manifest.toString(StandardCharsets.UTF_8);
+						continue;
+					}
+					add(name, zip);
+				}
+			}
+		}
+
+		/**
+		 * 저장한 항목에 manifest의 언어·목표 텍스트를 적용
+		 * @param manifestJson 별도 파트로 받은 manifest (있으면 zip 안의 manifest.json보다 우선)
+		 * @param defaultLanguage manifest에 언어가 없는 항목의 언어
+		 * @throws IllegalArgumentException 항목이 없거나 manifest가 잘못된 경우, 지원하지 않는 언어가 있는 경우
+		 */
+		public List<BatchItem> items(String manifestJson, String defaultLanguage) {
+			if (names.isEmpty()) {
+				throw new IllegalArgumentException("분석할 오디오 파일이 없습니다.");
+			}
+			List<ManifestEntry> manifest = parseManifest(manifestJson != null ? manifestJson : archivedManifest);
+			List<BatchItem> items = new ArrayList<>();
+			for (int i = 0; i < names.size(); i++) {
+				items.add(itemOf(names.get(i), files.get(i), i, manifest, defaultLanguage));
+			}
+			return items;
+		}
+
+		@Override
+		public void close() {
+			if (!closed.compareAndSet(false, true)) {
+				return;
+			}
+			try (Stream<Path> paths = Files.list(directory)) {
+				paths.forEach(PronunciationBatchService::deleteQuietly);
+			} catch (IOException e) {
+				logger.warn("일괄 분석 임시 디렉토리 정리 실패: {} ({})", directory, e.getMessage());
+			}
+			deleteQuietly(directory);
+			uploadPermits.release();
+		}
+
+		/**
+		 * 항목 크기와 요청 합계 크기를 제한하며 복사
+		 */
+		private void copyLimited(InputStream in, OutputStream out, String name) throws IOException {
+			byte[] buffer = new byte[8192];
+			long itemBytes = 0;
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				itemBytes += read;
+				totalBytes += read;
+				if (itemBytes > maxItemBytes) {
+					throw new IllegalArgumentException("항목이 너무 큽니다: " + name);
+				}
+				if (totalBytes > maxTotalBytes) {
+					throw new IllegalArgumentException("일괄 분석 요청 전체 크기가 너무 큽니다 (최대 "
+						+ maxTotalBytes / (1024 * 1024) + "MB).");
+				}
+				out.write(buffer, 0, read);
+			}
+		}
+	}
+
+	/**
+	 * 일괄 분석 시작 (모든 항목이 끝나거나 취소되면 업로드를 close)
+	 * @param upload 항목을 저장한 업로드
+	 * @param items upload.items로 구성한 항목
+	 * @param userId 요청 사용자 (선택적, 모델 전달 공정 분배와 분석 이력 저장용)
+	 * @param sink 항목별 결과 수신자 (완료되는 순서대로 여러 스레드에서 호출됨)
+	 * @return 모든 항목이 끝나면 완료되는 Future (취소하면 남은 변환과 모델 대기를 중단)
+	 */
+	public CompletableFuture<Void> analyze(BatchUpload upload, List<BatchItem> items, String userId,
+		Consumer<BatchItemResult> sink) {
+		BatchRun run = new BatchRun(items, userId, sink);
+		run.done.whenComplete((result, e) -> upload.close());
+		logger.info("일괄 발음 분석 시작: 항목={}개, 병렬 변환={}, 최대 분석={}", items.size(), parallelism, maxInFlight);
+		run.pump();
+		return run.done;
+	}
+
+	/**
+	 * 일괄 분석 한 건의 진행 상태
+	 * 변환 중인 항목은 parallelism개, 변환~분석 중인 항목은 max-in-flight개까지만 두고
+	 * 항목이 끝날 때마다 다음 항목을 시작한다 (대기 중에 스레드를 점유하지 않음).
+	 */
+	private final class BatchRun {
+
+		private final List<BatchItem> items;
+		private final String userId;
+		private final Consumer<BatchItemResult> sink;
+		private final Set<Future<?>> tasks = ConcurrentHashMap.newKeySet();
+		private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+		/**
+		 * this로 동기화
+		 */
+		private int nextIndex;
+		private int converting;
+		private int inFlight;
+		private int finished;
+
+		private BatchRun(List<BatchItem> items, String userId, Consumer<BatchItemResult> sink) {
+			this.items = items;
+			this.userId = userId;
+			this.sink = sink;
+
+			done.whenComplete((result, e) -> {
+				if (done.isCancelled()) {
+					tasks.forEach(task -> task.cancel(true));
+				}
+			});
+		}
+
+		/**
+		 * 자리가 나는 만큼 다음 항목 변환 시작
+		 */
+		private void pump() {
+			while (true) {
+				int index;
+				synchronized (this) {
+					if (done.isDone() || nextIndex >= items.size()
+						|| converting >= Math.max(parallelism, 1) || inFlight >= Math.max(maxInFlight, 1)) {
+						return;
+					}
+					index = nextIndex++;
+					converting++;
+					inFlight++;
+				}
+				try {
+					Future<?> conversion = analysisExecutor.submit(() -> convert(index));
+					tasks.add(conversion);
+				} catch (RejectedExecutionException e) {
+					synchronized (this) {
+						converting--;
+					}
+					finish(BatchItemResult.failed(index, items.get(index).name(),
+						"분석 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.", true));
+				}
+			}
+		}
+
+		private void convert(int index) {
+			BatchItem item = items.get(index);
+			String wavFilePath;
+			try (InputStream audio = Files.newInputStream(item.audioFile())) {
+				wavFilePath = audioConversionService.convertWebmToWav(audio);
+			} catch (AnalysisRejectedException e) {
+				finishConversion(BatchItemResult.failed(index, item.name(), e.getMessage(), true));
+				return;
+			} catch (IOException | RuntimeException e) {
+				logger.warn("일괄 분석 항목 변환 실패: {} ({})", item.name(), e.getMessage());
+				finishConversion(BatchItemResult.failed(index, item.name(), "오디오 파일 처리 중 오류가 발생했습니다.", false));
+				return;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				finishConversion(BatchItemResult.failed(index, item.name(), "분석이 취소되었습니다.", false));
+				return;
+			} finally {
+				deleteQuietly(item.audioFile());
+			}
+			synchronized (this) {
+				converting--;
+			}
+			analyze(index, item, wavFilePath);
+			pump();
+		}
+
+		private void analyze(int index, BatchItem item, String wavFilePath) {
+			CompletableFuture<PronunciationResult> analysis = pronunciationAnalysisService.analyzePronunciationAsync(
+				wavFilePath, item.language(), item.targetText(), AnalysisPriority.BULK, userId, stage -> { });
+			tasks.add(analysis);
+			analysis.whenComplete((result, e) -> {
+				tasks.remove(analysis);
+				audioConversionService.cleanupTempFile(wavFilePath);
+				if (e == null) {
+					eventPublisher.publishEvent(
+						PronunciationAnalyzedEvent.of(userId, item.language(), item.targetText(), result));
+					finish(BatchItemResult.completed(index, item.name(), result));
+					return;
+				}
+				Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+				finish(BatchItemResult.failed(index, item.name(), cause.getMessage(),
+					cause instanceof AnalysisRejectedException));
+			});
+			if (done.isCancelled()) {
+				analysis.cancel(true);
+			}
+		}
+
+		private void finishConversion(BatchItemResult itemResult) {
+			synchronized (this) {
+				converting--;
+			}
+			finish(itemResult);
+		}
+
+		/**
+		 * 항목 결과 전달 후 다음 항목 시작 (취소된 뒤에는 전달하지 않음)
+		 */
+		private void finish(BatchItemResult itemResult) {
+			boolean last;
+			synchronized (this) {
+				inFlight--;
+				last = ++finished == items.size();
+			}
+			if (done.isDone()) {
+				return;
+			}
+			try {
+				sink.accept(itemResult);
+			} catch (RuntimeException e) {
+				logger.debug("일괄 분석 결과 전달 실패, 남은 항목 취소: {}", e.getMessage());
+				done.cancel(false);
+				return;
+			}
+			if (last) {
+				logger.info("일괄 발음 분석 완료: 항목={}개", items.size());
+				done.complete(null);
+				return;
+			}
+			pump();
+		}
+	}
+
+	private BatchItem itemOf(String name, Path audioFile, int index, List<ManifestEntry> manifest,
+		String defaultLanguage) {
+		ManifestEntry entry = manifest.stream()
+			.filter(candidate -> name.equals(candidate.file()))
+			.findFirst()
+			.orElse(index < manifest.size() && manifest.get(index).file() == null ? manifest.get(index) : null);
+		String language = entry != null && entry.lang() != null ? entry.lang() : defaultLanguage;
+		if (!AnalysisRequest.isSupportedLanguage(language)) {
+			throw new IllegalArgumentException(AnalysisRequest.unsupportedLanguageMessage(language) + ": " + name);
+		}
+		return new BatchItem(name, audioFile, language, entry != null ? entry.text() : null);
+	}
+
+	private List<ManifestEntry> parseManifest(String manifestJson) {
+		if (manifestJson == null || manifestJson.isBlank()) {
+			return List.of();
+		}
+		try {
+			return objectMapper.readValue(manifestJson, new TypeReference<List<ManifestEntry>>() { });
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("manifest 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+		}
+	}
+
+	private static void deleteQuietly(Path path) {
+		try {
+			Files.deleteIfExists(path);
+		} catch (IOException e) {
+			logger.warn("일괄 분석 임시 파일 삭제 실패: {} ({})", path, e.getMessage());
+		}
+	}
+}
@@ -1,15 +1,35 @@
 package com.ai.ddaratalk.api.pronunciation;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.ai.ddaratalk.api.pronunciation.dto.AnalysisJobResponse;
+import com.ai.ddaratalk.api.pronunciation.dto.BatchItemResult;
 import com.ai.ddaratalk.api.pronunciation.dto.PronunciationResult;
 
 import lombok.RequiredArgsConstructor;
@@ -21,14 +41,26 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class PronunciationController {
 
+	private static final long MAX_LONG_POLL_SECONDS = 60;
+
 	private final AudioConversionService audioConversionService;
 	private final PronunciationAnalysisService pronunciationAnalysisService;
+	private final PronunciationPipeline pronunciationPipeline;
+	private final AnalysisJobRegistry jobRegistry;
+	private final AnalysisEventStreamer analysisEventStreamer;
+	private final AdmissionController admissionController;
+	private final PronunciationBatchService pronunciationBatchService;
+	private final ApplicationEventPublisher eventPublisher;
+
+	@Value("${app.analysis.batch-request.timeout-ms:1800000}")
+	private long batchTimeoutMillis;
 
 	@PostMapping("/analyze")
 	public ResponseEntity<?> analyzePronunciation(
 		@RequestParam("audioFile") MultipartFile audioFile,
 		@RequestParam(value = "lang", defaultValue = "en") String lang,
-		@RequestParam(value = "text", required = false) String targetText) {
+		@RequestParam(value = "text", required = false) String targetText,
+		@RequestParam(value = "userId", required = false) String userId) {
 
 		try {
 			log.info("발음 분석 요청 수신: 파일명={}, 언어={}", audioFile.getOriginalFilename(), lang);
@@ -38,22 +70,35 @@ public class PronunciationController {
 				return ResponseEntity.badRequest()
 					.body(new ErrorResponse("업로드된 파일이 비어있습니다."));
 			}
+			if (!AnalysisRequest.isSupportedLanguage(lang)) {
+				return ResponseEntity.badRequest()
+					.body(new ErrorResponse(AnalysisRequest.unsupportedLanguageMessage(lang)));
+			}
 
 			// 2. WebM을 WAV로 변환
 			String wavFilePath = audioConversionService.convertWebmToWav(audioFile);
 			log.info("오디오 변환 완료: {}", wavFilePath);
 
-			// 3. AI 모델을 통한 발음 분석
-			PronunciationResult result = pronunciationAnalysisService.analyzePronunciation(
-				wavFilePath, lang, targetText);
+			try {
+				// 3. AI 모델을 통한 발음 분석
+				PronunciationResult result = pronunciationAnalysisService.analyzePronunciation(
+					wavFilePath, lang, targetText, userId);
 
-			log.info("발음 분석 완료: 점수={}", result.getScore());
+				log.info("발음 분석 완료: 점수={}", result.getScore());
+				eventPublisher.publishEvent(PronunciationAnalyzedEvent.of(userId, lang, targetText, result));
 
-			// 4. 임시 파일 정리
-			audioConversionService.cleanupTempFile(wavFilePath);
-
-			return ResponseEntity.ok(result);
+				return ResponseEntity.ok(result);
+			} finally {
+				// 4. 임시 파일 정리 (분석 실패 시에도)
+				audioConversionService.cleanupTempFile(wavFilePath);
+			}
 
+		} catch (AnalysisRejectedException e) {
+			log.warn("발음 분석 요청 거절: {}", e.getMessage());
+			return rejected(e);
+		} catch (SilentRecordingException e) {
+			return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+				.body(new ErrorResponse(e.getMessage()));
 		} catch (IOException | InterruptedException e) {
 			log.error("오디오 변환 중 오류 발생", e);
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -65,6 +110,270 @@ public class PronunciationController {
 		}
 	}
 
+	/**
+	 * 비동기 발음 분석 요청
+	 * 업로드 직후 202 Accepted와 작업 ID를 반환하고, 변환과 분석은 백그라운드에서 진행한다.
+	 */
+	@PostMapping("/analyze/async")
+	public ResponseEntity<?> submitPronunciationAnalysis(
+		@RequestParam("audioFile") MultipartFile audioFile,
+		@RequestParam(value = "lang", defaultValue = "en") String lang,
+		@RequestParam(value = "text", required = false) String targetText,
+		@RequestParam(value = "userId", required = false) String userId) {
+
+		try {
+			AnalysisJob job = submitJob(audioFile, lang, targetText, userId);
+
+			return ResponseEntity.accepted()
+				.location(URI.create("/api/pronunciation/jobs/" + job.getId()))
+				.body(AnalysisJobResponse.from(job));
+
+		} catch (AnalysisRejectedException e) {
+			log.warn("비동기 발음 분석 요청 거절: {}", e.getMessage());
+			return rejected(e);
+		} catch (AnalysisRequestException e) {
+			return ResponseEntity.status(e.getStatus())
+				.body(new ErrorResponse(e.getMessage()));
+		}
+	}
+
+	/**
+	 * 업로드를 비동기 분석 작업으로 등록
+	 * @throws AnalysisRejectedException 변환·분석 용량이 가득 찬 경우
+	 * @throws AnalysisRequestException 빈 파일·지원하지 않는 언어(400), 업로드 파일 읽기 실패(500)
+	 */
+	private AnalysisJob submitJob(MultipartFile audioFile, String lang, String targetText, String userId) {
+		log.info("비동기 발음 분석 요청 수신: 파일명={}, 언어={}", audioFile.getOriginalFilename(), lang);
+
+		if (audioFile.isEmpty()) {
+			throw new AnalysisRequestException("업로드된 파일이 비어있습니다.", HttpStatus.BAD_REQUEST);
+		}
+		if (!AnalysisRequest.isSupportedLanguage(lang)) {
+			throw new AnalysisRequestException(AnalysisRequest.unsupportedLanguageMessage(lang), HttpStatus.BAD_REQUEST);
+		}
+
+		// 이미 포화 상태면 업로드를 작업으로 등록하지 않고 바로 거절
+		admissionController.ensureCapacity(AdmissionController.Stage.CONVERSION, lang);
+		admissionController.ensureCapacity(AdmissionController.Stage.ANALYSIS, lang);
+
+		try {
+			return pronunciationPipeline.submit(audioFile.getBytes(), lang, targetText, userId);
+		} catch (IOException e) {
+			log.error("업로드 파일 읽기 중 오류 발생", e);
+			throw new AnalysisRequestException("오디오 파일 처리 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+		}
+	}
+
+	/**
+	 * 일괄 발음 분석 (NDJSON 스트리밍)
+	 * 오디오 파트 여러 개(audioFiles) 또는 zip(archive)을 받아 병렬로 변환하고 BULK 우선순위로 분석하여,
+	 * 항목이 끝나는 순서대로 BatchItemResult를 한 줄씩 전달한다.
+	 * 항목별 언어·목표 텍스트는 manifest([{"file", "lang", "text"}], zip이면 manifest.json도 가능)로 지정한다.
+	 * 클라이언트가 연결을 끊으면 남은 항목도 취소된다.
+	 * 스트림을 열기 전의 오류는 AnalysisRequestException으로 던져 JSON 에러 응답으로 변환된다.
+	 */
+	@PostMapping("/analyze/batch")
+	public ResponseEntity<ResponseBodyEmitter> analyzePronunciationBatch(
+		@RequestParam(value = "audioFiles", required = false) List<MultipartFile> audioFiles,
+		@RequestParam(value = "archive", required = false) MultipartFile archive,
+		@RequestParam(value = "manifest", required = false) String manifest,
+		@RequestParam(value = "lang", defaultValue = "en") String lang,
+		@RequestParam(value = "userId", required = false) String userId) {
+
+		// 파트를 읽기 전에 요청 자리를 확보 (자리가 없으면 AnalysisRejectedException으로 503)
+		PronunciationBatchService.BatchUpload upload;
+		List<PronunciationBatchService.BatchItem> items;
+		try {
+			upload = pronunciationBatchService.openUpload();
+		} catch (IOException e) {
+			log.error("일괄 분석 임시 디렉토리 생성 중 오류 발생", e);
+			throw new AnalysisRequestException("오디오 파일 처리 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+		}
+		try {
+			if (archive != null && !archive.isEmpty()) {
+				try (InputStream archiveStream = archive.getInputStream()) {
+					upload.addArchive(archiveStream);
+				}
+			} else {
+				for (MultipartFile audioFile : audioFiles != null ? audioFiles : List.<MultipartFile>of()) {
+					if (!audioFile.isEmpty()) {
+						try (InputStream audio = audioFile.getInputStream()) {
+							upload.add(audioFile.getOriginalFilename(), audio);
+						}
+					}
+				}
+			}
+			items = upload.items(manifest, lang);
+		} catch (IllegalArgumentException e) {
+			upload.close();
+			throw new AnalysisRequestException(e.getMessage(), HttpStatus.BAD_REQUEST);
+		} catch (IOException | RuntimeException e) {
+			upload.close();
+			log.error("일괄 분석 업로드 파일 읽기 중 오류 발생", e);
+			throw new AnalysisRequestException("오디오 파일 처리 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+		}
+
+		log.info("일괄 발음 분석 요청 수신: 항목={}개, 기본 언어={}", items.size(), lang);
+
+		ResponseBodyEmitter emitter = new ResponseBodyEmitter(batchTimeoutMillis);
+		CompletableFuture<Void> batch = pronunciationBatchService.analyze(upload, items, userId,
+			item -> sendLine(emitter, item));
+
+		batch.whenComplete((result, e) -> {
+			if (!batch.isCancelled()) {
+				emitter.complete();
+			}
+		});
+		emitter.onTimeout(() -> batch.cancel(false));
+		emitter.onError(e -> batch.cancel(false));
+
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_NDJSON)
+			.body(emitter);
+	}
+
+	/**
+	 * NDJSON 한 줄 전송 (실패 시 클라이언트 연결 종료로 보고 예외를 던져 남은 항목을 취소)
+	 */
+	private void sendLine(ResponseBodyEmitter emitter, BatchItemResult item) {
+		synchronized (emitter) {
+			try {
+				emitter.send(item, MediaType.APPLICATION_JSON);
+				emitter.send("\n", MediaType.TEXT_PLAIN);
+			} catch (IOException e) {
+				emitter.completeWithError(e);
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	/**
+	 * 비동기 분석 작업 조회
+	 * wait(초)를 지정하면 작업이 끝나거나 대기 시간이 지날 때까지 응답을 보류한다 (long-poll).
+	 * 대기 중에도 요청 스레드는 반환된다.
+	 */
+	@GetMapping("/jobs/{jobId}")
+	public DeferredResult<ResponseEntity<?>> getAnalysisJob(
+		@PathVariable String jobId,
+		@RequestParam(value = "wait", defaultValue = "0") long waitSeconds) {
+
+		long timeoutMillis = TimeUnit.SECONDS.toMillis(Math.min(Math.max(waitSeconds, 0), MAX_LONG_POLL_SECONDS));
+		DeferredResult<ResponseEntity<?>> deferredResult = new DeferredResult<>(timeoutMillis);
+
+		AnalysisJob job = jobRegistry.find(jobId).orElse(null);
+		if (job == null) {
+			deferredResult.setResult(ResponseEntity.status(HttpStatus.NOT_FOUND)
+				.body(new ErrorResponse("분석 작업을 찾을 수 없습니다: " + jobId)));
+			return deferredResult;
+		}
+
+		if (job.isDone() || timeoutMillis == 0) {
+			deferredResult.setResult(ResponseEntity.ok(AnalysisJobResponse.from(job)));
+			return deferredResult;
+		}
+
+		deferredResult.onTimeout(() -> deferredResult.setResult(ResponseEntity.ok(AnalysisJobResponse.from(job))));
+		job.getResultFuture().whenComplete((result, e) ->
+			deferredResult.setResult(ResponseEntity.ok(AnalysisJobResponse.from(job))));
+		return deferredResult;
+	}
+
+	/**
+	 * 비동기 분석 작업 취소
+	 * 진행 중인 변환(ffmpeg)과 모델 결과 대기를 중단한다. 이미 끝난 작업은 409를 반환한다.
+	 */
+	@DeleteMapping("/jobs/{jobId}")
+	public ResponseEntity<?> cancelAnalysisJob(@PathVariable String jobId) {
+		AnalysisJob job = jobRegistry.find(jobId).orElse(null);
+		if (job == null) {
+			return ResponseEntity.status(HttpStatus.NOT_FOUND)
+				.body(new ErrorResponse("분석 작업을 찾을 수 없습니다: " + jobId));
+		}
+
+		if (!job.cancel()) {
+			return ResponseEntity.status(HttpStatus.CONFLICT)
+				.body(AnalysisJobResponse.from(job));
+		}
+
+		log.info("비동기 발음 분석 취소 요청: jobId={}", jobId);
+		return ResponseEntity.ok(AnalysisJobResponse.from(job));
+	}
+
+	/**
+	 * 발음 분석 요청 후 진행 이벤트를 바로 스트리밍
+	 * 업로드 수신부터 최종 결과(DONE)까지 단계별 이벤트를 SSE로 전달한다.
+	 * 클라이언트가 연결을 끊으면 작업도 취소된다.
+	 * 작업 등록 전의 거절·오류는 예외 처리기에서 JSON 에러 응답으로 변환된다.
+	 */
+	@PostMapping("/analyze/stream")
+	public ResponseEntity<SseEmitter> analyzePronunciationStream(
+		@RequestParam("audioFile") MultipartFile audioFile,
+		@RequestParam(value = "lang", defaultValue = "en") String lang,
+		@RequestParam(value = "text", required = false) String targetText,
+		@RequestParam(value = "userId", required = false) String userId) {
+
+		AnalysisJob job = submitJob(audioFile, lang, targetText, userId);
+		return ResponseEntity.ok(analysisEventStreamer.stream(List.of(job), true));
+	}
+
+	/**
+	 * 분석 작업 진행 이벤트 스트리밍 (SSE)
+	 */
+	@GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public ResponseEntity<SseEmitter> streamAnalysisJobEvents(@PathVariable String jobId) {
+		return streamAnalysisEvents(List.of(jobId));
+	}
+
+	/**
+	 * 여러 분석 작업의 진행 이벤트를 연결 하나로 스트리밍 (SSE)
+	 * 각 이벤트의 jobId로 작업을 구분하며, 모든 작업이 끝나면 스트림이 닫힌다.
+	 */
+	@GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public ResponseEntity<SseEmitter> streamAnalysisEvents(@RequestParam("jobIds") List<String> jobIds) {
+		List<AnalysisJob> jobs = jobIds.stream()
+			.distinct()
+			.map(jobRegistry::find)
+			.flatMap(Optional::stream)
+			.toList();
+
+		if (jobs.isEmpty()) {
+			return ResponseEntity.notFound().build();
+		}
+
+		return ResponseEntity.ok(analysisEventStreamer.stream(jobs));
+	}
+
+	/**
+	 * 스트림을 반환하는 요청이 스트림을 열기 전에 실패한 경우의 에러 응답 (400, 500)
+	 */
+	@ExceptionHandler(AnalysisRequestException.class)
+	public ResponseEntity<ErrorResponse> handleAnalysisRequestException(AnalysisRequestException e) {
+		return ResponseEntity.status(e.getStatus())
+			.contentType(MediaType.APPLICATION_JSON)
+			.body(new ErrorResponse(e.getMessage()));
+	}
+
+	/**
+	 * 스트림을 반환하는 요청이 입장 제한으로 거절된 경우의 에러 응답
+	 */
+	@ExceptionHandler(AnalysisRejectedException.class)
+	public ResponseEntity<ErrorResponse> handleAnalysisRejectedException(AnalysisRejectedException e) {
+		log.warn("발음 분석 요청 거절: {}", e.getMessage());
+		return ResponseEntity.status(e.getStatus())
+			.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+			.contentType(MediaType.APPLICATION_JSON)
+			.body(new ErrorResponse(e.getMessage()));
+	}
+
+	/**
+	 * 입장 거절 응답 (429/503 + Retry-After)
+	 */
+	private ResponseEntity<ErrorResponse> rejected(AnalysisRejectedException e) {
+		return ResponseEntity.status(e.getStatus())
+			.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+			.body(new ErrorResponse(e.getMessage()));
+	}
+
 	/**
 	 * 에러 응답 DTO
 	 */
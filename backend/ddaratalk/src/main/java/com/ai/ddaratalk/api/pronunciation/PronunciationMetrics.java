@@ -0,0 +1,200 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 발음 분석 단계별 메트릭과 트레이스
+ * 각 단계는 Observation으로 기록되어 pronunciation.stage 타이머(stage 태그)와 트레이스 스팬이 함께 생성된다.
+ * 작업 ID(job.id)와 파일 ID(file.id)는 스팬에만 기록한다 (메트릭 태그로 쓰면 카디널리티가 폭증).
+ */
+@Component
+public class PronunciationMetrics {
+
+	private static final Logger logger = LoggerFactory.getLogger(PronunciationMetrics.class);
+
+	/**
+	 * 측정 단계
+	 */
+	public enum Stage {
+		/**
+		 * 업로드 스트림 → 임시 파일 복사
+		 */
+		UPLOAD_COPY("upload_copy"),
+
+		/**
+		 * ffmpeg 실행 (파이프 방식은 업로드 스트림 공급 포함)
+		 */
+		FFMPEG("ffmpeg"),
+
+		/**
+		 * ffmpeg 없이 PCM WAV 복사 또는 다운믹스·리샘플링
+		 */
+		PCM_DECODE("pcm_decode"),
+
+		/**
+		 * 음성 구간 검출 및 앞뒤 무음 제거
+		 */
+		SILENCE_TRIM("silence_trim"),
+
+		/**
+		 * 모델 요청 파일(또는 소켓 요청) 쓰기
+		 */
+		REQUEST_WRITE("request_write"),
+
+		/**
+		 * 요청부터 결과 수신까지 (대기열 + 추론)
+		 */
+		MODEL_WAIT("model_wait"),
+
+		/**
+		 * 결과 JSON 파싱
+		 */
+		RESULT_PARSE("result_parse");
+
+		private final String tagValue;
+
+		Stage(String tagValue) {
+			this.tagValue = tagValue;
+		}
+	}
+
+	private final MeterRegistry meterRegistry;
+	private final ObservationRegistry observationRegistry;
+	private final AnalysisJobRegistry jobRegistry;
+
+	public PronunciationMetrics(MeterRegistry meterRegistry, ObservationRegistry observationRegistry,
+		AnalysisJobRegistry jobRegistry) {
+		this.meterRegistry = meterRegistry;
+		this.observationRegistry = observationRegistry;
+		this.jobRegistry = jobRegistry;
+	}
+
+	@PostConstruct
+	public void registerGauges() {
+		Gauge.builder("pronunciation.jobs.in.flight", jobRegistry, AnalysisJobRegistry::getActiveJobCount)
+			.description("진행 중인 비동기 분석 작업 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 작업 전체 스팬 생성 (하위 단계 스팬의 부모)
+	 */
+	public Observation startJob(String jobId, String language) {
+		return Observation.createNotStarted("pronunciation.job", observationRegistry)
+			.contextualName("pronunciation-job")
+			.lowCardinalityKeyValue("lang", language)
+			.highCardinalityKeyValue("job.id", jobId)
+			.start();
+	}
+
+	/**
+	 * 단계 관찰 생성 (현재 스코프의 관찰이 있으면 그 하위 스팬이 됨)
+	 * @param fileId 요청 파일 ID (uuid), 없으면 null
+	 */
+	public Observation stage(Stage stage, String fileId) {
+		Observation observation = Observation.createNotStarted("pronunciation.stage", observationRegistry)
+			.contextualName("pronunciation-" + stage.tagValue)
+			.lowCardinalityKeyValue("stage", stage.tagValue);
+		if (fileId != null) {
+			observation.highCardinalityKeyValue("file.id", fileId);
+		}
+		return observation;
+	}
+
+	/**
+	 * 분석 시간 초과
+	 */
+	public void recordTimeout(String language) {
+		Counter.builder("pronunciation.analysis.timeouts")
+			.tag("lang", String.valueOf(language))
+			.register(meterRegistry)
+			.increment();
+	}
+
+	/**
+	 * 모델이 status=error로 응답
+	 */
+	public void recordModelError(String language) {
+		Counter.builder("pronunciation.analysis.model.errors")
+			.tag("lang", String.valueOf(language))
+			.register(meterRegistry)
+			.increment();
+	}
+
+	/**
+	 * ffmpeg 비정상 종료 (exit code != 0)
+	 */
+	public void recordFFmpegFailure(AudioConversionService.ConversionMode mode) {
+		Counter.builder("pronunciation.ffmpeg.failures")
+			.tag("mode", mode.name().toLowerCase())
+			.register(meterRegistry)
+			.increment();
+	}
+
+	/**
+	 * 업로드 변환 경로 (passthrough: 그대로 복사, resample: Java 리샘플링, ffmpeg: 외부 프로세스)
+	 */
+	public void recordConversionPath(String path) {
+		Counter.builder("pronunciation.conversion.path")
+			.description("업로드 형식별 변환 경로")
+			.tag("path", path)
+			.register(meterRegistry)
+			.increment();
+	}
+
+	/**
+	 * 무음 제거로 줄어든 길이 (모델 입력과 공유 폴더 I/O 절감량)
+	 */
+	public void recordSilenceTrim(double trimmedSeconds) {
+		DistributionSummary.builder("pronunciation.audio.trimmed")
+			.description("앞뒤 무음 제거로 줄어든 녹음 길이")
+			.baseUnit("seconds")
+			.register(meterRegistry)
+			.record(trimmedSeconds);
+	}
+
+	/**
+	 * 음성이 없어 모델 호출 전에 거절한 녹음
+	 */
+	public void recordSilentRecording() {
+		Counter.builder("pronunciation.audio.silent")
+			.description("음성 구간이 없어 거절한 녹음 수")
+			.register(meterRegistry)
+			.increment();
+	}
+
+	/**
+	 * 모델 측 추론 시간과 그 외 대기 시간을 나누어 기록
+	 * @param wait 요청부터 결과 수신까지 백엔드가 기다린 시간
+	 * @param processing 결과 파일의 processing_time (모델 추론 시간)
+	 */
+	public void recordModelTiming(String language, Duration wait, Duration processing) {
+		Timer.builder("pronunciation.model.processing")
+			.description("모델이 보고한 추론 시간 (processing_time)")
+			.tag("lang", String.valueOf(language))
+			.publishPercentileHistogram()
+			.register(meterRegistry)
+			.record(processing);
+
+		Duration queueing = wait.minus(processing);
+		Timer.builder("pronunciation.model.queueing")
+			.description("모델 대기 시간 중 추론을 제외한 부분 (파일 감시, 모니터 폴링, 대기열)")
+			.tag("lang", String.valueOf(language))
+			.publishPercentileHistogram()
+			.register(meterRegistry)
+			.record(queueing.isNegative() ? Duration.ZERO : queueing);
+	}
+}
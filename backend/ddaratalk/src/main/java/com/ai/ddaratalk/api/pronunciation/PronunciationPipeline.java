@@ -0,0 +1,170 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.ai.ddaratalk.api.pronunciation.dto.PronunciationResult;
+
+import io.micrometer.observation.Observation;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 비동기 발음 분석 파이프라인
+ * 변환은 분석 실행기에서 수행하고, 모델 결과 대기는 스레드를 점유하지 않는 Future로 연결한다.
+ * 작업이 취소되면 변환 중인 ffmpeg와 모델 대기를 함께 중단한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PronunciationPipeline {
+
+	private static final Logger logger = LoggerFactory.getLogger(PronunciationPipeline.class);
+
+	private final AudioConversionService audioConversionService;
+	private final PronunciationAnalysisService pronunciationAnalysisService;
+	private final AnalysisJobRegistry jobRegistry;
+	private final LateResultRegistry lateResults;
+	private final PronunciationMetrics pronunciationMetrics;
+	private final ApplicationEventPublisher eventPublisher;
+
+	@Qualifier("analysisExecutor")
+	private final AsyncTaskExecutor analysisExecutor;
+
+	/**
+	 * 분석 작업 제출
+	 * @param audioData 업로드된 WebM 오디오
+	 * @param language 분석할 언어
+	 * @param targetText 목표 텍스트 (선택적)
+	 * @param userId 요청 사용자 (선택적, 분석 이력 저장용)
+	 * @return 등록된 작업
+	 * @throws AnalysisRejectedException 작업 저장소나 실행기 대기열이 가득 찬 경우
+	 */
+	public AnalysisJob submit(byte[] audioData, String language, String targetText, String userId) {
+		AnalysisJob job = jobRegistry.register(language, targetText, userId);
+		job.recordStage(AnalysisStage.UPLOAD_RECEIVED);
+
+		// 작업 전체 스팬 (변환·모델 대기·파싱 스팬이 그 하위에 연결됨)
+		Observation jobObservation = pronunciationMetrics.startJob(job.getId(), language);
+
+		CompletableFuture<String> converted = new CompletableFuture<>();
+		try {
+			// 취소 시 변환 스레드를 인터럽트하여 ffmpeg 프로세스까지 종료
+			Future<?> conversion = analysisExecutor.submit(() -> {
+				try (Observation.Scope scope = jobObservation.openScope()) {
+					job.markRunning();
+					String wavFilePath = convert(audioData);
+					job.recordStage(AnalysisStage.WAV_CONVERTED);
+					converted.complete(wavFilePath);
+				} catch (Throwable e) {
+					converted.completeExceptionally(e);
+				}
+			});
+			job.onCancel(() -> conversion.cancel(true));
+		} catch (RejectedExecutionException e) {
+			jobObservation.error(e);
+			jobObservation.stop();
+			job.fail(e);
+			throw new AnalysisRejectedException("분석 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.", 1);
+		}
+
+		analyzeWhenConverted(job, jobObservation, converted);
+
+		logger.info("비동기 발음 분석 작업 등록: jobId={}, 언어={}", job.getId(), language);
+		return job;
+	}
+
+	/**
+	 * 이미 변환된 WAV로 분석 작업 제출 (청크 업로드처럼 녹음 중에 변환을 마친 경우)
+	 * @param wavFilePath 공유 폴더 내 WAV 파일 경로 (분석 후 삭제됨)
+	 * @return 등록된 작업
+	 * @throws AnalysisRejectedException 작업 저장소가 가득 찬 경우
+	 */
+	public AnalysisJob submitConverted(String wavFilePath, String language, String targetText, String userId) {
+		AnalysisJob job = jobRegistry.register(language, targetText, userId);
+		job.recordStage(AnalysisStage.UPLOAD_RECEIVED);
+		job.markRunning();
+		job.recordStage(AnalysisStage.WAV_CONVERTED);
+
+		Observation jobObservation = pronunciationMetrics.startJob(job.getId(), language);
+		analyzeWhenConverted(job, jobObservation, CompletableFuture.completedFuture(wavFilePath));
+
+		logger.info("변환된 오디오 분석 작업 등록: jobId={}, 언어={}", job.getId(), language);
+		return job;
+	}
+
+	private void analyzeWhenConverted(AnalysisJob job, Observation jobObservation,
+		CompletableFuture<String> converted) {
+		String language = job.getLanguage();
+		String targetText = job.getTargetText();
+		String userId = job.getUserId();
+
+		converted
+			.thenCompose(wavFilePath -> {
+				CompletableFuture<PronunciationResult> analysis = jobObservation.scoped(() ->
+					pronunciationAnalysisService.analyzePronunciationAsync(wavFilePath, language, targetText,
+						AnalysisPriority.INTERACTIVE, userId, job.progressListener()));
+				job.onCancel(() -> analysis.cancel(true));
+				return analysis.whenComplete((result, e) -> {
+					if (e != null) {
+						awaitLateResult(job, audioConversionService.getFileNameWithoutExtension(wavFilePath));
+					}
+					audioConversionService.cleanupTempFile(wavFilePath);
+				});
+			})
+			.whenComplete((result, e) -> {
+				if (e != null) {
+					jobObservation.error(e);
+				}
+				jobObservation.stop();
+
+				if (job.getStatus() == AnalysisJob.Status.CANCELLED) {
+					logger.info("비동기 발음 분석 취소: jobId={}", job.getId());
+				} else if (e == null) {
+					logger.info("비동기 발음 분석 완료: jobId={}, 점수={}", job.getId(), result.getScore());
+					eventPublisher.publishEvent(PronunciationAnalyzedEvent.of(userId, language, targetText, result));
+					job.complete(result);
+				} else {
+					logger.error("비동기 발음 분석 실패: jobId={}", job.getId(), e);
+					job.fail(e);
+				}
+			});
+	}
+
+	/**
+	 * 시간 초과된 요청이 보관 중이면 늦게 도착한 결과를 작업에 기록 (클라이언트는 작업 조회로 결과 확인)
+	 */
+	private void awaitLateResult(AnalysisJob job, String requestId) {
+		lateResults.findLateResult(requestId).ifPresent(lateResult -> {
+			job.awaitLateResult();
+			lateResult.whenComplete((result, e) -> {
+				if (job.recoverLateResult(e == null ? result : null)) {
+					logger.info("시간 초과 작업의 늦은 결과 기록: jobId={}, 점수={}", job.getId(), result.getScore());
+					eventPublisher.publishEvent(PronunciationAnalyzedEvent.of(job.getUserId(), job.getLanguage(),
+						job.getTargetText(), result));
+				}
+			});
+		});
+	}
+
+	private String convert(byte[] audioData) {
+		try {
+			return audioConversionService.convertWebmToWav(new ByteArrayInputStream(audioData));
+		} catch (IOException e) {
+			throw new UncheckedIOException("오디오 파일 처리 중 오류가 발생했습니다.", e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CompletionException("오디오 변환 중 인터럽트 발생", e);
+		}
+	}
+}
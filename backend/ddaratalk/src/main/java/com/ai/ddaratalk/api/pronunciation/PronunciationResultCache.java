@@ -0,0 +1,294 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ai.ddaratalk.api.pronunciation.dto.PronunciationResult;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 발음 분석 결과 캐시
+ * 변환된 PCM 해시 + 언어 + 정규화된 목표 텍스트를 키로 결과를 보관하여,
+ * 같은 녹음을 다시 제출하면 요청 파일을 만들거나 모델을 깨우지 않고 바로 결과를 반환한다.
+ * 결과는 직렬화된 JSON으로 보관하며 총 바이트 수 기준 LRU와 TTL로 제거한다.
+ * 같은 키에 대한 동시 요청은 하나의 모델 호출 결과를 공유한다 (single-flight).
+ */
+@Component
+public class PronunciationResultCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(PronunciationResultCache.class);
+
+	@Value("${app.analysis.cache.enabled:true}")
+	private boolean enabled;
+
+	@Value("${app.analysis.cache.max-bytes:16777216}")
+	private long maxBytes;
+
+	@Value("${app.analysis.cache.ttl-seconds:3600}")
+	private long ttlSeconds;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final ObjectReader resultReader = objectMapper.readerFor(PronunciationResult.class)
+		.without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+	/**
+	 * 접근 순서 기준 LRU (entries 잠금으로 보호)
+	 */
+	private final LinkedHashMap<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private long currentBytes;
+
+	/**
+	 * 진행 중인 모델 호출 (single-flight)
+	 */
+	private final Map<String, Flight> inFlight = new ConcurrentHashMap<>();
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong sharedLoads = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+
+	private record CacheEntry(byte[] json, long expiresAt) {
+	}
+
+	/**
+	 * 진행 중인 모델 호출과 이를 기다리는 호출자 수
+	 */
+	private static final class Flight {
+
+		private final CompletableFuture<PronunciationResult> shared = new CompletableFuture<>();
+		private final AtomicInteger waiters = new AtomicInteger();
+		private volatile CompletableFuture<PronunciationResult> loading;
+
+		/**
+		 * 호출자 전용 Future 생성 (취소해도 다른 호출자에게 영향 없음)
+		 */
+		CompletableFuture<PronunciationResult> join(Function<PronunciationResult, PronunciationResult> mapper) {
+			waiters.incrementAndGet();
+			CompletableFuture<PronunciationResult> view = shared.thenApply(mapper);
+			view.whenComplete((result, e) -> {
+				if (view.isCancelled() && waiters.decrementAndGet() == 0 && loading != null) {
+					loading.cancel(true);
+				}
+			});
+			return view;
+		}
+	}
+
+	public PronunciationResultCache(MeterRegistry meterRegistry) {
+		FunctionCounter.builder("pronunciation.cache.requests", hits, AtomicLong::get)
+			.tag("result", "hit").register(meterRegistry);
+		FunctionCounter.builder("pronunciation.cache.requests", misses, AtomicLong::get)
+			.tag("result", "miss").register(meterRegistry);
+		FunctionCounter.builder("pronunciation.cache.requests", sharedLoads, AtomicLong::get)
+			.tag("result", "shared").register(meterRegistry);
+		FunctionCounter.builder("pronunciation.cache.evictions", evictions, AtomicLong::get)
+			.register(meterRegistry);
+		Gauge.builder("pronunciation.cache.size", this, cache -> cache.getEntryCount())
+			.register(meterRegistry);
+		Gauge.builder("pronunciation.cache.bytes", this, cache -> cache.getCurrentBytes())
+			.baseUnit("bytes").register(meterRegistry);
+	}
+
+	/**
+	 * 캐시 키 생성
+	 * @param wavPath 변환된 WAV 파일 경로
+	 * @param language 언어 코드
+	 * @param targetText 목표 텍스트 (선택적)
+	 * @return 캐시 키 (캐시 비활성 또는 WAV 읽기 실패 시 null)
+	 */
+	public String keyFor(Path wavPath, String language, String targetText) {
+		if (!enabled) {
+			return null;
+		}
+		try (InputStream in = Files.newInputStream(wavPath)) {
+			long dataLength = WavHeader.skipToData(in);
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			try (DigestInputStream pcm = new DigestInputStream(in, digest)) {
+				pcm.transferTo(OutputStream.nullOutputStream());
+			}
+			return HexFormat.of().formatHex(digest.digest()) + ":" + dataLength
+				+ "|" + language + "|" + normalizeText(targetText);
+		} catch (IOException | NoSuchAlgorithmException e) {
+			logger.warn("캐시 키 생성 실패, 캐시 없이 분석합니다: {}", wavPath, e);
+			return null;
+		}
+	}
+
+	/**
+	 * 캐시된 결과 반환, 없으면 loader로 계산 후 저장
+	 * 같은 키를 계산 중인 요청이 있으면 그 결과를 함께 기다린다.
+	 * 호출자마다 별도 Future를 반환하며, 기다리는 호출자가 모두 취소하면 모델 호출도 취소한다.
+	 */
+	public CompletableFuture<PronunciationResult> getOrLoad(String key,
+		Supplier<CompletableFuture<PronunciationResult>> loader) {
+		PronunciationResult cached = get(key);
+		if (cached != null) {
+			hits.incrementAndGet();
+			logger.info("발음 분석 캐시 적중: 점수={}", cached.getScore());
+			return CompletableFuture.completedFuture(cached);
+		}
+
+		Flight flight = new Flight();
+		Flight existing = inFlight.putIfAbsent(key, flight);
+		if (existing != null) {
+			sharedLoads.incrementAndGet();
+			return existing.join(this::copyOf);
+		}
+
+		misses.incrementAndGet();
+		CompletableFuture<PronunciationResult> view = flight.join(Function.identity());
+		try {
+			flight.loading = loader.get();
+		} catch (RuntimeException e) {
+			flight.loading = CompletableFuture.failedFuture(e);
+		}
+
+		flight.loading.whenComplete((result, e) -> {
+			if (e == null) {
+				put(key, result);
+			}
+			inFlight.remove(key, flight);
+			if (e == null) {
+				flight.shared.complete(result);
+			} else {
+				flight.shared.completeExceptionally(e);
+			}
+		});
+		return view;
+	}
+
+	public int getEntryCount() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	public long getCurrentBytes() {
+		synchronized (entries) {
+			return currentBytes;
+		}
+	}
+
+	private PronunciationResult get(String key) {
+		CacheEntry entry;
+		synchronized (entries) {
+			entry = entries.get(key);
+			if (entry == null) {
+				return null;
+			}
+			if (entry.expiresAt() < System.currentTimeMillis()) {
+				removeEntry(key, entry);
+				return null;
+			}
+		}
+		return deserialize(entry.json());
+	}
+
+	/**
+	 * 결과 저장 (시간 초과 후 늦게 도착한 결과처럼 getOrLoad를 거치지 않은 결과)
+	 */
+	public void put(String key, PronunciationResult result) {
+		byte[] json;
+		try {
+			json = objectMapper.writeValueAsBytes(result);
+		} catch (IOException e) {
+			logger.warn("캐시 저장 실패: {}", e.getMessage());
+			return;
+		}
+		if (json.length > maxBytes) {
+			return;
+		}
+
+		synchronized (entries) {
+			CacheEntry previous = entries.put(key, new CacheEntry(json, System.currentTimeMillis() + ttlSeconds * 1000));
+			if (previous != null) {
+				currentBytes -= previous.json().length;
+			}
+			currentBytes += json.length;
+			evictIfNeeded();
+		}
+	}
+
+	/**
+	 * 만료 항목과 용량 초과분을 오래 사용하지 않은 순서로 제거 (entries 잠금 안에서 호출)
+	 */
+	private void evictIfNeeded() {
+		long now = System.currentTimeMillis();
+		Iterator<Map.Entry<String, CacheEntry>> iterator = entries.entrySet().iterator();
+		while (iterator.hasNext()) {
+			CacheEntry entry = iterator.next().getValue();
+			if (currentBytes <= maxBytes && entry.expiresAt() >= now) {
+				break;
+			}
+			iterator.remove();
+			currentBytes -= entry.json().length;
+			evictions.incrementAndGet();
+		}
+	}
+
+	private void removeEntry(String key, CacheEntry entry) {
+		if (entries.remove(key, entry)) {
+			currentBytes -= entry.json().length;
+			evictions.incrementAndGet();
+		}
+	}
+
+	PronunciationResult copyOf(PronunciationResult result) {
+		try {
+			return deserialize(objectMapper.writeValueAsBytes(result));
+		} catch (IOException e) {
+			return result;
+		}
+	}
+
+	private PronunciationResult deserialize(byte[] json) {
+		try {
+			return resultReader.readValue(json);
+		} catch (IOException e) {
+			throw new IllegalStateException("캐시 결과 복원 실패", e);
+		}
+	}
+
+	/**
+	 * 목표 텍스트 정규화 (유니코드 호환 정규화, 소문자, 문장부호 제거, 공백 정리)
+	 */
+	public static String normalizeText(String targetText) {
+		if (targetText == null) {
+			return "";
+		}
+		String normalized = Normalizer.normalize(targetText, Normalizer.Form.NFKC)
+			.toLowerCase(Locale.ROOT)
+			.replaceAll("\\p{P}+", " ")
+			.replaceAll("\\s+", " ");
+		return normalized.trim();
+	}
+}
@@ -0,0 +1,400 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 여러 모델 워커로 분석 요청 분배
+ * 워커마다 자체 공유 디렉토리(input/output 스풀)와 처리 가능한 언어가 있으며,
+ * 요청 언어를 처리할 수 있는 워커 중 예상 대기 시간((대기 요청 수 + 1) × 최근 응답 시간)이 가장 짧은 워커로 보낸다.
+ * 워커 목록은 JSON 설정 파일에서 읽고 파일이 바뀌면 재시작 없이 반영한다.
+ * 목록에서 빠지거나 draining으로 표시된 워커는 새 요청을 받지 않고, 진행 중인 요청이 끝나면 정리된다.
+ * 하트비트가 끊기거나 연속으로 실패한 워커는 회로 차단기가 열려 복구될 때까지 분배 대상에서 빠진다.
+ *
+ * 설정 파일: {"workers": [{"id", "directory", "languages": ["en", ...], "max_in_flight", "draining"}]}
+ * 설정 파일이 없으면 app.shared.directory 하나를 모든 언어 워커로 사용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.analysis.transport", havingValue = "routed")
+public class RoutedAnalysisTransport implements AnalysisTransport {
+
+	private static final Logger logger = LoggerFactory.getLogger(RoutedAnalysisTransport.class);
+
+	private static final String DEFAULT_WORKER_ID = "default";
+
+	@Value("${app.shared.directory:/tmp/shared_data}")
+	private String sharedDirectory;
+
+	@Value("${app.analysis.workers.config-file:}")
+	private String configFile;
+
+	@Value("${app.analysis.workers.initial-latency-ms:1000}")
+	private double initialLatencyMillis;
+
+	@Value("${app.analysis.poll-interval-ms:1000}")
+	private long pollIntervalMillis;
+
+	private final AnalysisResultWatcher sharedResultWatcher;
+	private final PronunciationMetrics pronunciationMetrics;
+	private final SharedDirectoryJanitor sharedDirectoryJanitor;
+	private final Executor analysisExecutor;
+	private final MeterRegistry meterRegistry;
+	private final ModelHealthMonitor modelHealth;
+	private final ObjectMapper objectMapper = new ObjectMapper()
+		.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+	/**
+	 * 요청을 받을 수 있는 워커 (ID별)
+	 */
+	private final Map<String, ModelWorker> workers = new ConcurrentHashMap<>();
+
+	/**
+	 * 목록에서 빠져 진행 중인 요청이 끝나기를 기다리는 워커
+	 */
+	private final List<ModelWorker> retiringWorkers = new CopyOnWriteArrayList<>();
+
+	/**
+	 * 요청 ID → 요청을 보낸 워커 (결과 수신, 늦은 결과 대기 또는 포기까지 유지)
+	 */
+	private final Map<String, ModelWorker> assignments = new ConcurrentHashMap<>();
+
+	private volatile long configModifiedAt = -1;
+
+	/**
+	 * 워커 설정 파일 형식
+	 */
+	record WorkersConfig(List<WorkerSpec> workers) {
+	}
+
+	/**
+	 * 워커 설정
+	 * @param id 워커 ID (메트릭 태그로도 사용)
+	 * @param directory 워커 공유 디렉토리 (input/output 포함)
+	 * @param languages 처리 가능한 언어 (생략 시 전체)
+	 * @param maxInFlight 동시에 보낼 수 있는 최대 요청 수 (생략 또는 0이면 무제한)
+	 * @param draining true면 새 요청을 받지 않음
+	 */
+	record WorkerSpec(String id, String directory, List<String> languages,
+		@JsonProperty("max_in_flight") Integer maxInFlight, Boolean draining) {
+	}
+
+	public RoutedAnalysisTransport(AnalysisResultWatcher sharedResultWatcher,
+		PronunciationMetrics pronunciationMetrics, SharedDirectoryJanitor sharedDirectoryJanitor,
+		@Qualifier("analysisExecutor") Executor analysisExecutor, MeterRegistry meterRegistry,
+		ModelHealthMonitor modelHealth) {
+		this.sharedResultWatcher = sharedResultWatcher;
+		this.pronunciationMetrics = pronunciationMetrics;
+		this.sharedDirectoryJanitor = sharedDirectoryJanitor;
+		this.analysisExecutor = analysisExecutor;
+		this.meterRegistry = meterRegistry;
+		this.modelHealth = modelHealth;
+	}
+
+	@PostConstruct
+	public void start() {
+		refresh();
+		if (workers.isEmpty()) {
+			apply(List.of(new WorkerSpec(DEFAULT_WORKER_ID, sharedDirectory, null, null, null)));
+		}
+	}
+
+	@PreDestroy
+	public void stop() {
+		workers.values().forEach(ModelWorker::stop);
+		retiringWorkers.forEach(ModelWorker::stop);
+	}
+
+	@Override
+	public CompletableFuture<byte[]> exchange(AnalysisRequest request, Consumer<AnalysisStage> progressListener) {
+		ModelWorker worker = acquireWorker(request.language());
+		ModelCircuitBreaker breaker = worker.getBreaker();
+		ModelCircuitBreaker.Permit breakerPermit = breaker != null ? breaker.tryAcquire() : null;
+		if (breaker != null && breakerPermit == null) {
+			// 선택 직후 다른 요청이 반열림 시험 요청을 가져간 경우
+			worker.release();
+			modelHealth.recordRejection(breaker);
+			throw new AnalysisRejectedException("AI 모델이 응답하지 않습니다. 잠시 후 다시 시도해주세요.",
+				breaker.getRetryAfterSeconds());
+		}
+		assignments.put(request.id(), worker);
+		logger.debug("분석 요청 분배: {} → {} (대기 {}건, 응답 {}ms)", request.id(), worker.getId(),
+			worker.getQueueDepth(), Math.round(worker.getLatencyMillis()));
+
+		long startedAt = System.nanoTime();
+		CompletableFuture<byte[]> result;
+		try {
+			result = worker.getTransport().exchange(request, progressListener);
+		} catch (RuntimeException e) {
+			release(request.id());
+			if (breakerPermit != null) {
+				breakerPermit.release();
+			}
+			throw e;
+		}
+		result.whenComplete((json, e) -> {
+			if (breakerPermit != null) {
+				recordModelOutcome(breakerPermit, result, json, e);
+			}
+			if (e == null) {
+				worker.recordLatency(Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+			} else if (isTimeout(e)) {
+				// 시간 초과한 워커는 느린 것으로 반영하고, 요청은 awaitLateResult 또는 abandon까지 워커에 남김
+				worker.recordLatency(request.timeout().toMillis());
+				return;
+			}
+			release(request.id());
+		});
+		return result;
+	}
+
+	@Override
+	public CompletableFuture<byte[]> awaitLateResult(AnalysisRequest request, Duration gracePeriod) {
+		ModelWorker worker = assignments.get(request.id());
+		if (worker == null) {
+			return null;
+		}
+		CompletableFuture<byte[]> lateResult = worker.getTransport().awaitLateResult(request, gracePeriod);
+		lateResult.whenComplete((json, e) -> release(request.id()));
+		return lateResult;
+	}
+
+	@Override
+	public void abandon(AnalysisRequest request) {
+		ModelWorker worker = assignments.get(request.id());
+		if (worker != null) {
+			worker.getTransport().abandon(request);
+			release(request.id());
+		}
+	}
+
+	/**
+	 * 워커 응답 결과를 회로 차단기에 반영 (시간 초과, status=error 결과, 전송 실패는 실패로 집계)
+	 */
+	private void recordModelOutcome(ModelCircuitBreaker.Permit breakerPermit, CompletableFuture<byte[]> result,
+		byte[] json, Throwable e) {
+		if (result.isCancelled()) {
+			breakerPermit.release();
+		} else if (e != null || isModelError(json)) {
+			breakerPermit.recordFailure();
+		} else {
+			breakerPermit.recordSuccess();
+		}
+	}
+
+	private boolean isModelError(byte[] json) {
+		try {
+			return "error".equals(objectMapper.readTree(json).path("status").asText());
+		} catch (IOException e) {
+			return true;
+		}
+	}
+
+	/**
+	 * 워커를 골라 요청 자리 확보 (고른 사이 다른 요청이 자리를 채웠으면 그 워커를 빼고 다시 선택)
+	 * @throws AnalysisRejectedException 처리 가능한 워커가 없거나 모두 한도에 도달한 경우
+	 */
+	private ModelWorker acquireWorker(String language) {
+		Set<ModelWorker> contended = new HashSet<>();
+		while (true) {
+			ModelWorker worker = selectWorker(language, contended);
+			if (worker.tryAcquire()) {
+				return worker;
+			}
+			contended.add(worker);
+		}
+	}
+
+	/**
+	 * 언어를 처리할 수 있는 워커 중 예상 대기 시간이 가장 짧은 워커 선택
+	 * @param excluded 자리 확보에 실패한 워커
+	 * @throws AnalysisRejectedException 처리 가능한 워커가 없거나 모두 한도에 도달한 경우
+	 */
+	private ModelWorker selectWorker(String language, Set<ModelWorker> excluded) {
+		return workers.values().stream()
+			.filter(worker -> !excluded.contains(worker) && worker.accepts(language))
+			.min(Comparator.comparingDouble(ModelWorker::expectedWaitMillis))
+			.orElseThrow(() -> new AnalysisRejectedException(
+				"분석 가능한 모델 워커가 없습니다 (언어: " + language + "). 잠시 후 다시 시도해주세요.", 1));
+	}
+
+	private void release(String requestId) {
+		ModelWorker worker = assignments.remove(requestId);
+		if (worker != null) {
+			worker.release();
+		}
+	}
+
+	/**
+	 * 설정 파일 변경 반영, 워커별 대기 요청 수 측정, 요청이 모두 끝난 퇴역 워커 정리
+	 */
+	@Scheduled(fixedDelayString = "${app.analysis.workers.refresh-interval-ms:2000}")
+	public void refresh() {
+		reloadIfModified();
+		workers.values().forEach(ModelWorker::sampleQueueDepth);
+
+		for (ModelWorker worker : retiringWorkers) {
+			if (worker.getInFlight() == 0) {
+				retiringWorkers.remove(worker);
+				worker.stop();
+				sharedDirectoryJanitor.unregisterDirectory(worker.getDirectory());
+				logger.info("모델 워커 제거 완료: {}", worker.getId());
+			}
+		}
+	}
+
+	private void reloadIfModified() {
+		if (configFile == null || configFile.isBlank()) {
+			return;
+		}
+		Path path = Paths.get(configFile);
+		try {
+			long modifiedAt = Files.getLastModifiedTime(path).toMillis();
+			if (modifiedAt == configModifiedAt) {
+				return;
+			}
+			WorkersConfig config = objectMapper.readValue(path.toFile(), WorkersConfig.class);
+			configModifiedAt = modifiedAt;
+			apply(config.workers() != null ? config.workers() : List.of());
+		} catch (NoSuchFileException e) {
+			if (configModifiedAt != -1) {
+				logger.warn("모델 워커 설정 파일이 없습니다. 현재 워커 목록을 유지합니다: {}", path);
+				configModifiedAt = -1;
+			}
+		} catch (IOException e) {
+			logger.warn("모델 워커 설정 읽기 실패, 현재 워커 목록을 유지합니다: {} ({})", path, e.getMessage());
+		}
+	}
+
+	/**
+	 * 워커 목록 반영 (추가, 설정 변경, 제거)
+	 */
+	private synchronized void apply(List<WorkerSpec> specs) {
+		Set<String> configuredIds = new HashSet<>();
+		for (WorkerSpec spec : specs) {
+			if (spec.id() == null || spec.directory() == null || !configuredIds.add(spec.id())) {
+				logger.warn("잘못된 모델 워커 설정 무시: {}", spec);
+				continue;
+			}
+
+			ModelWorker worker = workers.get(spec.id());
+			if (worker != null && !worker.getDirectory().equals(spec.directory())) {
+				retire(worker);
+				worker = null;
+			}
+			boolean added = worker == null;
+			if (added) {
+				worker = createWorker(spec);
+			}
+			worker.configure(
+				spec.languages() != null ? Set.copyOf(spec.languages()) : Set.of(),
+				spec.maxInFlight() != null ? spec.maxInFlight() : 0,
+				Boolean.TRUE.equals(spec.draining()));
+			if (added) {
+				workers.put(spec.id(), worker);
+				logger.info("모델 워커 추가: {} ({})", spec.id(), spec.directory());
+			}
+		}
+
+		for (ModelWorker worker : new ArrayList<>(workers.values())) {
+			if (!configuredIds.contains(worker.getId())) {
+				retire(worker);
+			}
+		}
+	}
+
+	private ModelWorker createWorker(WorkerSpec spec) {
+		boolean sharedDefault = Paths.get(spec.directory()).toAbsolutePath().normalize()
+			.equals(Paths.get(sharedDirectory).toAbsolutePath().normalize());
+		AnalysisResultWatcher resultWatcher = sharedDefault
+			? sharedResultWatcher
+			: new AnalysisResultWatcher(spec.directory(), pollIntervalMillis);
+		if (!sharedDefault) {
+			resultWatcher.start();
+		}
+
+		FileAnalysisTransport transport = new FileAnalysisTransport(resultWatcher, pronunciationMetrics,
+			sharedDirectoryJanitor, analysisExecutor, spec.directory());
+		ModelCircuitBreaker breaker = modelHealth.create(spec.id(), spec.directory());
+		ModelWorker worker = new ModelWorker(spec.id(), spec.directory(), resultWatcher, !sharedDefault, transport,
+			breaker, initialLatencyMillis);
+		// 워커 스풀의 고아 파일도 정리 (기본 공유 디렉토리는 정리기가 이미 관리)
+		sharedDirectoryJanitor.registerDirectory(spec.directory());
+
+		List<Meter> meters = List.of(
+			Gauge.builder("pronunciation.worker.in.flight", worker, ModelWorker::getInFlight)
+				.description("모델 워커에 보낸 미완료 요청 수")
+				.tag("worker", spec.id())
+				.register(meterRegistry),
+			Gauge.builder("pronunciation.worker.queue", worker, ModelWorker::getQueueDepth)
+				.description("모델 워커 대기 요청 수 (스풀의 요청 파일 포함)")
+				.tag("worker", spec.id())
+				.register(meterRegistry),
+			Gauge.builder("pronunciation.worker.latency", worker, ModelWorker::getLatencyMillis)
+				.description("모델 워커 최근 응답 시간 (EWMA)")
+				.tag("worker", spec.id())
+				.baseUnit("milliseconds")
+				.register(meterRegistry));
+		worker.setMeters(meters);
+		return worker;
+	}
+
+	/**
+	 * 새 요청을 받지 않도록 목록에서 제외 (진행 중인 요청이 끝나면 refresh에서 정리)
+	 * 같은 ID로 다시 추가될 수 있으므로 메트릭은 바로 해제한다.
+	 */
+	private void retire(ModelWorker worker) {
+		workers.remove(worker.getId(), worker);
+		worker.drain();
+		worker.getMeters().forEach(meterRegistry::remove);
+		if (worker.getBreaker() != null) {
+			worker.getBreaker().getMeters().forEach(meterRegistry::remove);
+		}
+		retiringWorkers.add(worker);
+		logger.info("모델 워커 제외, 진행 중인 요청 {}건 완료 후 제거: {}", worker.getInFlight(), worker.getId());
+	}
+
+	@Override
+	public boolean managesModelHealth() {
+		return true;
+	}
+
+	private static boolean isTimeout(Throwable e) {
+		Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+		return cause instanceof TimeoutException;
+	}
+}
@@ -0,0 +1,261 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 공유 디렉토리(input/output) 정리기
+ * app.shared.directory와 registerDirectory로 등록된 다른 공유 디렉토리(모델 워커 스풀)를 함께 정리한다.
+ * 시간 초과·예외로 정리되지 못한 .wav, .request, .result, .batch, .cancel, .tmp 파일을 수정 시각 기준으로 회수한다.
+ * 처리 중인 파일 ID(uuid)는 track/release로 등록되며, 등록된 ID의 파일은 나이와 관계없이 지우지 않는다.
+ * 등록을 해제하지 못한 ID도 in-flight-max-seconds가 지나면 고아로 본다.
+ * 백로그 파일 수와 가장 오래된 파일 나이는 정리 주기마다 한 번만 측정해 (등록된 디렉토리 합계) 메트릭으로 내보낸다.
+ */
+@Component
+public class SharedDirectoryJanitor {
+
+	private static final Logger logger = LoggerFactory.getLogger(SharedDirectoryJanitor.class);
+
+	private static final List<String> RECLAIMABLE_SUFFIXES = List.of(".wav", ".request", ".result", ".batch", ".cancel",
+		".tmp");
+	private static final List<String> DIRECTORIES = List.of("input", "output");
+
+	@Value("${app.shared.directory:/tmp/shared_data}")
+	private String sharedDirectory;
+
+	@Value("${app.janitor.enabled:true}")
+	private boolean enabled;
+
+	/**
+	 * 처리 중이 아닌 파일을 고아로 판단하는 나이
+	 */
+	@Value("${app.janitor.orphan-age-seconds:600}")
+	private long orphanAgeSeconds;
+
+	/**
+	 * 등록된 처리 중 ID를 신뢰하는 최대 시간 (해제 누락 대비)
+	 */
+	@Value("${app.janitor.in-flight-max-seconds:3600}")
+	private long inFlightMaxSeconds;
+
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * 처리 중인 파일 ID → 등록 시각
+	 */
+	private final Map<String, Long> inFlight = new ConcurrentHashMap<>();
+
+	/**
+	 * 추가로 정리할 공유 디렉토리 → 등록 수 (같은 디렉토리를 여러 워커가 쓸 수 있음)
+	 */
+	private final Map<Path, Integer> extraDirectories = new ConcurrentHashMap<>();
+
+	private final Map<String, AtomicLong> backlogCounts = new ConcurrentHashMap<>();
+	private final Map<String, AtomicLong> oldestAges = new ConcurrentHashMap<>();
+	private final Map<String, Counter> reclaimedCounters = new ConcurrentHashMap<>();
+
+	public SharedDirectoryJanitor(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@PostConstruct
+	public void registerMetrics() {
+		Gauge.builder("pronunciation.shared.in.flight", inFlight, Map::size)
+			.description("처리 중으로 등록된 공유 파일 ID 수")
+			.register(meterRegistry);
+
+		for (String directory : DIRECTORIES) {
+			AtomicLong count = backlogCounts.computeIfAbsent(directory, key -> new AtomicLong());
+			AtomicLong oldestAge = oldestAges.computeIfAbsent(directory, key -> new AtomicLong());
+			Gauge.builder("pronunciation.shared.backlog", count, AtomicLong::get)
+				.description("공유 디렉토리에 남아있는 파일 수 (마지막 정리 시점)")
+				.tag("dir", directory)
+				.register(meterRegistry);
+			Gauge.builder("pronunciation.shared.backlog.age", oldestAge, AtomicLong::get)
+				.description("공유 디렉토리에서 가장 오래된 파일의 나이 (마지막 정리 시점)")
+				.tag("dir", directory)
+				.baseUnit("seconds")
+				.register(meterRegistry);
+			reclaimedCounters.put(directory, Counter.builder("pronunciation.shared.reclaimed")
+				.description("정리기가 회수한 고아 파일 수")
+				.tag("dir", directory)
+				.register(meterRegistry));
+		}
+	}
+
+	/**
+	 * 처리 중인 파일 ID 등록 (WAV, 요청·결과 파일이 같은 ID를 공유)
+	 */
+	public void track(String fileId) {
+		inFlight.put(fileId, System.currentTimeMillis());
+	}
+
+	/**
+	 * 처리 완료된 파일 ID 해제 (이후 남은 파일은 나이가 차면 회수됨)
+	 */
+	public void release(String fileId) {
+		inFlight.remove(fileId);
+	}
+
+	/**
+	 * 정리할 공유 디렉토리 추가 (모델 워커 생성 시, app.shared.directory와 같으면 무시)
+	 */
+	public void registerDirectory(String directory) {
+		Path root = normalize(directory);
+		if (!root.equals(normalize(sharedDirectory))) {
+			extraDirectories.merge(root, 1, Integer::sum);
+		}
+	}
+
+	/**
+	 * registerDirectory로 추가한 공유 디렉토리 제외 (모델 워커 제거 시)
+	 */
+	public void unregisterDirectory(String directory) {
+		extraDirectories.computeIfPresent(normalize(directory), (root, count) -> count > 1 ? count - 1 : null);
+	}
+
+	/**
+	 * 취소 표시 기록 (input/fileId.cancel, 모델 측은 이 표시가 있는 요청을 분석하지 않고 표시를 삭제함)
+	 */
+	public void markCancelled(String fileId) {
+		markCancelled(sharedDirectory, fileId);
+	}
+
+	/**
+	 * 다른 공유 디렉토리(모델 워커 스풀)에 취소 표시 기록
+	 */
+	public void markCancelled(String directory, String fileId) {
+		Path marker = Paths.get(directory, "input", fileId + ".cancel");
+		try {
+			Files.createDirectories(marker.getParent());
+			Files.write(marker, new byte[0]);
+			logger.debug("취소 표시 기록: {}", marker);
+		} catch (IOException e) {
+			logger.warn("취소 표시 기록 실패: {}", marker, e);
+		}
+	}
+
+	/**
+	 * 공유 디렉토리 정리 및 백로그 측정
+	 */
+	@Scheduled(fixedDelayString = "${app.janitor.interval-ms:60000}", initialDelayString = "${app.janitor.initial-delay-ms:10000}")
+	public void sweep() {
+		long now = System.currentTimeMillis();
+		inFlight.values().removeIf(trackedAt -> now - trackedAt > inFlightMaxSeconds * 1000);
+
+		List<Path> roots = new ArrayList<>();
+		roots.add(normalize(sharedDirectory));
+		roots.addAll(extraDirectories.keySet());
+
+		for (String directory : DIRECTORIES) {
+			long remaining = 0;
+			long oldestModified = now;
+			int reclaimed = 0;
+			boolean measured = false;
+			for (Path root : roots) {
+				Backlog backlog = sweepDirectory(root.resolve(directory), now);
+				if (backlog != null) {
+					remaining += backlog.remaining();
+					oldestModified = Math.min(oldestModified, backlog.oldestModified());
+					reclaimed += backlog.reclaimed();
+					measured = true;
+				}
+			}
+			if (!measured) {
+				continue;
+			}
+
+			backlogCounts.get(directory).set(remaining);
+			oldestAges.get(directory).set((now - oldestModified) / 1000);
+			if (reclaimed > 0) {
+				reclaimedCounters.get(directory).increment(reclaimed);
+				logger.info("고아 공유 파일 회수: {} {}건 (남은 파일 {}건)", directory, reclaimed, remaining);
+			}
+		}
+	}
+
+	/**
+	 * 디렉토리 하나의 정리 결과
+	 */
+	private record Backlog(long remaining, long oldestModified, int reclaimed) {
+	}
+
+	/**
+	 * @return 정리 결과, 디렉토리가 없거나 읽지 못했으면 null
+	 */
+	private Backlog sweepDirectory(Path path, long now) {
+		if (!Files.isDirectory(path)) {
+			return null;
+		}
+
+		long remaining = 0;
+		long oldestModified = now;
+		int reclaimed = 0;
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(path)) {
+			for (Path file : files) {
+				String fileName = file.getFileName().toString();
+				if (!isReclaimable(fileName)) {
+					continue;
+				}
+
+				BasicFileAttributes attributes;
+				try {
+					attributes = Files.readAttributes(file, BasicFileAttributes.class);
+				} catch (NoSuchFileException e) {
+					continue;   // 정리 도중 정상 처리로 삭제됨
+				}
+				long modifiedAt = attributes.lastModifiedTime().toMillis();
+
+				if (enabled && now - modifiedAt > orphanAgeSeconds * 1000 && !inFlight.containsKey(fileIdOf(fileName))
+					&& Files.deleteIfExists(file)) {
+					reclaimed++;
+					logger.debug("고아 공유 파일 삭제: {}", file);
+					continue;
+				}
+				remaining++;
+				oldestModified = Math.min(oldestModified, modifiedAt);
+			}
+		} catch (IOException e) {
+			logger.warn("공유 디렉토리 정리 실패: {}", path, e);
+			return null;
+		}
+		return new Backlog(remaining, oldestModified, reclaimed);
+	}
+
+	private static Path normalize(String directory) {
+		return Paths.get(directory).toAbsolutePath().normalize();
+	}
+
+	private static boolean isReclaimable(String fileName) {
+		return RECLAIMABLE_SUFFIXES.stream().anyMatch(fileName::endsWith);
+	}
+
+	/**
+	 * 파일명에서 ID 추출 (uuid.wav, uuid.request, uuid.wav.result, batch-uuid.batch.result 등)
+	 */
+	static String fileIdOf(String fileName) {
+		int dot = fileName.indexOf('.');
+		return dot > 0 ? fileName.substring(0, dot) : fileName;
+	}
+}
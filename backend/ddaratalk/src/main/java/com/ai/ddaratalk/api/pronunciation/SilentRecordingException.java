@@ -0,0 +1,12 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+/**
+ * 음성 구간이 없는 녹음
+ * 모델에 보내기 전에 무음·잡음만 있는 녹음을 거절할 때 발생한다.
+ */
+public class SilentRecordingException extends RuntimeException {
+
+	public SilentRecordingException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,167 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Unix 도메인 소켓 기반 분석 요청 전달
+ * 요청마다 모델 측 소켓(shared_data/socket_ai_monitor.py)에 연결하여 파일시스템을 거치지 않고 PCM을 직접 전달한다.
+ *
+ * 프레임 형식 (길이는 모두 4바이트 big-endian):
+ * 요청 = [헤더 길이][헤더 JSON (pcm_length 포함)][PCM 바이트]
+ * 응답 = [결과 길이][결과 JSON (.wav.result 파일과 동일한 형식)]
+ */
+@Component
+@ConditionalOnProperty(name = "app.analysis.transport", havingValue = "socket")
+@RequiredArgsConstructor
+public class UnixSocketAnalysisTransport implements AnalysisTransport {
+
+	private static final Logger logger = LoggerFactory.getLogger(UnixSocketAnalysisTransport.class);
+
+	private static final int MAX_RESULT_BYTES = 1024 * 1024;
+	private static final int PCM_BUFFER_SIZE = 64 * 1024;
+
+	@Value("${app.analysis.socket.path:/tmp/ddaratalk-model.sock}")
+	private String socketPath;
+
+	private final PronunciationMetrics pronunciationMetrics;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	/**
+	 * 추론 시간 동안 블로킹 대기하므로 요청마다 가상 스레드 사용
+	 */
+	private final ExecutorService exchangeExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+	@PreDestroy
+	public void stop() {
+		exchangeExecutor.shutdownNow();
+	}
+
+	@Override
+	public CompletableFuture<byte[]> exchange(AnalysisRequest request, Consumer<AnalysisStage> progressListener) {
+		AtomicReference<SocketChannel> channelRef = new AtomicReference<>();
+
+		CompletableFuture<byte[]> result = CompletableFuture
+			.supplyAsync(() -> {
+				try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+					channelRef.set(channel);
+					channel.connect(UnixDomainSocketAddress.of(socketPath));
+
+					pronunciationMetrics.stage(PronunciationMetrics.Stage.REQUEST_WRITE, request.id())
+						.observeChecked(() -> sendRequest(channel, request));
+					progressListener.accept(AnalysisStage.REQUEST_WRITTEN);
+					logger.info("소켓 분석 요청 전송: {}", request.id());
+
+					return receiveResult(channel);
+				} catch (IOException e) {
+					throw new UncheckedIOException("모델 소켓 통신 실패: " + e.getMessage(), e);
+				}
+			}, exchangeExecutor)
+			.orTimeout(request.timeout().toMillis(), TimeUnit.MILLISECONDS);
+		result.whenComplete((json, e) -> {
+			// 시간 초과 또는 취소 시 소켓을 닫아 대기 중인 읽기를 중단
+			if (e != null) {
+				closeQuietly(channelRef.get());
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * 헤더와 PCM 데이터 전송
+	 */
+	private void sendRequest(SocketChannel channel, AnalysisRequest request) throws IOException {
+		try (InputStream wav = Files.newInputStream(request.wavPath())) {
+			long pcmLength = WavHeader.skipToData(wav);
+
+			Map<String, Object> header = new HashMap<>();
+			header.put("id", request.id());
+			header.put("lang", request.language());
+			header.put("label_type1", "pron");
+			header.put("label_type2", "articulation");
+			header.put("sample_rate", 16000);
+			header.put("channels", 1);
+			header.put("bits_per_sample", 16);
+			header.put("pcm_length", pcmLength);
+			header.put("timestamp", System.currentTimeMillis());
+			if (request.trimmedTargetText() != null) {
+				header.put("target_text", request.trimmedTargetText());
+			}
+			byte[] headerBytes = objectMapper.writeValueAsBytes(header);
+
+			// 스트림을 닫으면 채널도 닫히므로 flush만 수행
+			DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(Channels.newOutputStream(channel), PCM_BUFFER_SIZE));
+			out.writeInt(headerBytes.length);
+			out.write(headerBytes);
+
+			byte[] buffer = new byte[PCM_BUFFER_SIZE];
+			long remaining = pcmLength;
+			while (remaining > 0) {
+				int read = wav.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+				if (read < 0) {
+					throw new IOException("WAV 데이터가 헤더에 기록된 길이보다 짧습니다.");
+				}
+				out.write(buffer, 0, read);
+				remaining -= read;
+			}
+			out.flush();
+		}
+	}
+
+	/**
+	 * 결과 프레임 수신
+	 */
+	private byte[] receiveResult(SocketChannel channel) throws IOException {
+		DataInputStream in = new DataInputStream(Channels.newInputStream(channel));
+		int length = in.readInt();
+		if (length <= 0 || length > MAX_RESULT_BYTES) {
+			throw new IOException("잘못된 결과 프레임 길이: " + length);
+		}
+		byte[] result = in.readNBytes(length);
+		if (result.length < length) {
+			throw new IOException("결과 프레임이 중간에 끊겼습니다.");
+		}
+		return result;
+	}
+
+	private void closeQuietly(SocketChannel channel) {
+		if (channel == null) {
+			return;
+		}
+		try {
+			channel.close();
+		} catch (IOException e) {
+			logger.debug("소켓 종료 실패: {}", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+
+/**
+ * 업로드 오디오 형식 (파일 앞부분의 시그니처로 판별)
+ */
+public enum UploadFormat {
+
+	/**
+	 * RIFF/WAVE (PCM이면 ffmpeg 없이 처리)
+	 */
+	WAV,
+
+	/**
+	 * 그 외 컨테이너 (WebM, Ogg, MP4/M4A, MP3 등은 ffmpeg가 판별)
+	 */
+	OTHER;
+
+	private static final int SIGNATURE_LENGTH = 12;
+
+	/**
+	 * 스트림을 소비하지 않고 형식 판별
+	 * @param in mark/reset을 지원하는 스트림
+	 */
+	public static UploadFormat detect(BufferedInputStream in) throws IOException {
+		in.mark(SIGNATURE_LENGTH);
+		byte[] head = in.readNBytes(SIGNATURE_LENGTH);
+		in.reset();
+
+		return WavHeader.isWav(head) ? WAV : OTHER;
+	}
+}
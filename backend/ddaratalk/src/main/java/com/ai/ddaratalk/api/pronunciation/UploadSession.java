@@ -0,0 +1,257 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+import org.springframework.http.HttpStatus;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * 청크 업로드 세션
+ * 청크는 순번(0부터)으로 식별하며, 받은 순번은 길이와 CRC32를 기록해 재전송을 같은 청크로 판별한다 (멱등).
+ * 순서대로 도착한 청크는 즉시 변환 ffmpeg에 공급하고, 앞 순번이 빠진 청크는 빈자리가 채워질 때까지 보관한다.
+ * 상태 변경은 세션 단위로 직렬화된다.
+ */
+@Getter
+public class UploadSession {
+
+	public enum Status {
+		/**
+		 * 청크 수신 중
+		 */
+		RECEIVING,
+
+		/**
+		 * 변환 완료, 분석 작업 등록 대기 (등록이 거절되면 완료 요청을 다시 보낼 수 있음)
+		 */
+		CONVERTED,
+
+		/**
+		 * 분석 작업 등록 완료
+		 */
+		COMPLETED,
+
+		/**
+		 * 변환 실패
+		 */
+		FAILED,
+
+		/**
+		 * 클라이언트 중단 또는 유휴 시간 초과
+		 */
+		ABORTED;
+
+		public boolean isOpen() {
+			return this == RECEIVING || this == CONVERTED;
+		}
+	}
+
+	private final String id;
+	private final String language;
+	private final String targetText;
+	private final String userId;
+	private final long createdAt;
+
+	private volatile Status status = Status.RECEIVING;
+	private volatile long receivedBytes;
+	private volatile long lastActivityAt;
+	private volatile String jobId;
+	private volatile String error;
+
+	@Getter(AccessLevel.NONE)
+	private final AudioConversionService.StreamingConversion conversion;
+
+	/**
+	 * 열린 상태에서 닫힌 상태(COMPLETED, FAILED, ABORTED)로 바뀔 때 한 번 실행 (세션 자리 반납)
+	 */
+	@Getter(AccessLevel.NONE)
+	private final Runnable onClosed;
+
+	/**
+	 * 순서대로 공급한 청크 (인덱스 = 순번)
+	 */
+	@Getter(AccessLevel.NONE)
+	private final List<ChunkReceipt> receipts = new ArrayList<>();
+
+	/**
+	 * 앞 순번을 기다리는 청크
+	 */
+	@Getter(AccessLevel.NONE)
+	private final NavigableMap<Integer, byte[]> pendingChunks = new TreeMap<>();
+
+	@Getter(AccessLevel.NONE)
+	private String wavFilePath;
+
+	private record ChunkReceipt(int length, long checksum) {
+	}
+
+	UploadSession(String id, String language, String targetText, String userId,
+		AudioConversionService.StreamingConversion conversion, Runnable onClosed) {
+		this.id = id;
+		this.language = language;
+		this.targetText = targetText;
+		this.userId = userId;
+		this.conversion = conversion;
+		this.onClosed = onClosed;
+		this.createdAt = System.currentTimeMillis();
+		this.lastActivityAt = createdAt;
+	}
+
+	/**
+	 * 다음에 공급할 청크 순번 (재개 시 이 순번부터 전송)
+	 */
+	public synchronized int getNextChunk() {
+		return receipts.size();
+	}
+
+	/**
+	 * 앞 순번을 기다리며 보관 중인 청크 순번
+	 */
+	public synchronized List<Integer> getPendingChunks() {
+		return List.copyOf(pendingChunks.keySet());
+	}
+
+	/**
+	 * 청크 수신
+	 * @param sequence 청크 순번
+	 * @param data WebM 청크
+	 * @param maxPendingChunks 앞 순번을 기다리며 보관할 수 있는 최대 청크 수
+	 * @param maxSessionBytes 세션 전체 최대 크기
+	 * @return 새 청크이면 true, 이미 받은 청크의 재전송이면 false
+	 * @throws UploadSessionException 세션이 닫혔거나, 같은 순번에 다른 내용이 오거나, 한도를 넘은 경우
+	 */
+	synchronized boolean accept(int sequence, byte[] data, int maxPendingChunks, long maxSessionBytes) {
+		lastActivityAt = System.currentTimeMillis();
+		long checksum = checksum(data);
+
+		// 재전송: 같은 내용이면 성공으로 응답
+		ChunkReceipt receipt = sequence < receipts.size() ? receipts.get(sequence) : null;
+		byte[] pending = pendingChunks.get(sequence);
+		if (receipt != null || pending != null) {
+			boolean same = receipt != null
+				? receipt.length() == data.length && receipt.checksum() == checksum
+				: pending.length == data.length && checksum(pending) == checksum;
+			if (!same) {
+				throw new UploadSessionException("이미 다른 내용으로 받은 청크입니다: " + sequence, HttpStatus.CONFLICT);
+			}
+			return false;
+		}
+
+		if (status != Status.RECEIVING) {
+			throw new UploadSessionException("청크를 받을 수 없는 업로드 상태입니다: " + status, HttpStatus.CONFLICT);
+		}
+		if (sequence > receipts.size() + maxPendingChunks) {
+			throw new UploadSessionException(
+				"청크 순번이 너무 앞섰습니다: " + sequence + " (다음 순번: " + receipts.size() + ")", HttpStatus.CONFLICT);
+		}
+		if (receivedBytes + data.length > maxSessionBytes) {
+			throw new UploadSessionException("업로드 최대 크기를 초과했습니다.", HttpStatus.PAYLOAD_TOO_LARGE);
+		}
+
+		receivedBytes += data.length;
+		pendingChunks.put(sequence, data);
+		feedInOrder();
+		return true;
+	}
+
+	/**
+	 * 수신 종료 후 변환 완료
+	 * @param totalChunks 클라이언트가 보낸 전체 청크 수 (선택적, 누락 확인용)
+	 * @return 변환된 WAV 경로 (이미 변환을 마쳤으면 같은 경로)
+	 */
+	synchronized String finishConversion(Integer totalChunks) throws IOException, InterruptedException {
+		if (status == Status.CONVERTED) {
+			return wavFilePath;
+		}
+		if (status != Status.RECEIVING) {
+			throw new UploadSessionException("완료할 수 없는 업로드 상태입니다: " + status, HttpStatus.CONFLICT);
+		}
+		if (!pendingChunks.isEmpty() || (totalChunks != null && totalChunks != receipts.size())) {
+			throw new UploadSessionException("누락된 청크가 있습니다. 다음 순번: " + receipts.size(), HttpStatus.CONFLICT);
+		}
+		if (receipts.isEmpty()) {
+			throw new UploadSessionException("업로드된 청크가 없습니다.", HttpStatus.BAD_REQUEST);
+		}
+
+		lastActivityAt = System.currentTimeMillis();
+		try {
+			wavFilePath = conversion.finish();
+		} catch (IOException | InterruptedException | RuntimeException e) {
+			fail(e);
+			throw e;
+		}
+		status = Status.CONVERTED;
+		return wavFilePath;
+	}
+
+	/**
+	 * 분석 작업 등록 완료 (WAV 소유권이 작업으로 넘어감)
+	 */
+	synchronized void markCompleted(String jobId) {
+		this.jobId = jobId;
+		this.wavFilePath = null;
+		close(Status.COMPLETED);
+		this.lastActivityAt = System.currentTimeMillis();
+	}
+
+	/**
+	 * 세션 중단 (변환 ffmpeg 종료, 변환된 WAV 삭제)
+	 * @return 열린 세션을 중단했으면 true
+	 */
+	synchronized boolean abort(AudioConversionService audioConversionService) {
+		if (status == Status.RECEIVING) {
+			conversion.abort();
+		} else if (status == Status.CONVERTED) {
+			audioConversionService.cleanupTempFile(wavFilePath);
+		} else {
+			return false;
+		}
+		pendingChunks.clear();
+		close(Status.ABORTED);
+		lastActivityAt = System.currentTimeMillis();
+		return true;
+	}
+
+	private void feedInOrder() {
+		Integer next = receipts.size();
+		byte[] data;
+		while ((data = pendingChunks.remove(next)) != null) {
+			try {
+				conversion.write(data);
+			} catch (IOException e) {
+				fail(e);
+				throw new UploadSessionException("오디오 변환이 중단되었습니다: " + e.getMessage(),
+					HttpStatus.UNPROCESSABLE_ENTITY);
+			}
+			receipts.add(new ChunkReceipt(data.length, checksum(data)));
+			next = receipts.size();
+		}
+	}
+
+	private void fail(Exception e) {
+		conversion.abort();
+		pendingChunks.clear();
+		error = e.getMessage();
+		close(Status.FAILED);
+	}
+
+	private void close(Status closed) {
+		boolean wasOpen = status.isOpen();
+		status = closed;
+		if (wasOpen) {
+			onClosed.run();
+		}
+	}
+
+	private static long checksum(byte[] data) {
+		CRC32 crc = new CRC32();
+		crc.update(data);
+		return crc.getValue();
+	}
+}
@@ -0,0 +1,21 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 청크 업로드 세션 처리 예외
+ * 없는 세션(404), 순서·내용이 맞지 않는 청크나 이미 끝난 세션(409), 크기 초과(413) 등 응답 상태를 함께 전달한다.
+ */
+public class UploadSessionException extends RuntimeException {
+
+	private final HttpStatus status;
+
+	public UploadSessionException(String message, HttpStatus status) {
+		super(message);
+		this.status = status;
+	}
+
+	public HttpStatus getStatus() {
+		return status;
+	}
+}
@@ -0,0 +1,243 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ai.ddaratalk.api.pronunciation.dto.PronunciationResult;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 음성 구간 검출(VAD) 및 앞뒤 무음 제거
+ * AudioConversionService가 만든 16kHz 모노 s16le WAV를 20ms 프레임으로 나누어 에너지와 영교차율로 음성 프레임을 판정하고,
+ * 첫 음성 프레임 앞과 마지막 음성 프레임 뒤의 무음을 잘라 WAV를 제자리에서 다시 쓴다.
+ * 잡음 기준(noise floor)은 녹음마다 하위 프레임 에너지로 추정하므로 마이크 감도 차이에 영향을 덜 받는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class VoiceActivityTrimmer {
+
+	private static final Logger logger = LoggerFactory.getLogger(VoiceActivityTrimmer.class);
+
+	private static final int SAMPLE_RATE = 16000;
+	private static final int FRAME_SAMPLES = SAMPLE_RATE / 50;   // 20ms
+	private static final double FRAME_SECONDS = (double) FRAME_SAMPLES / SAMPLE_RATE;
+	private static final int CLIPPING_LEVEL = 32700;
+	private static final double NOISE_PERCENTILE = 0.1;
+	private static final double PEAK_PERCENTILE = 0.9;
+	private static final double STEADY_SPREAD_DB = 3;            // 이보다 레벨 차이가 작으면 무음 구간이 없는 녹음
+	private static final double UNVOICED_MIN_ZCR = 0.25;         // 무성 자음(s, f 등)의 영교차율
+
+	private final PronunciationMetrics pronunciationMetrics;
+
+	@Value("${app.audio.vad.enabled:true}")
+	private boolean enabled;
+
+	/**
+	 * 잡음 기준보다 이만큼(dB) 크면 음성 프레임
+	 */
+	@Value("${app.audio.vad.threshold-db:12}")
+	private double thresholdDb;
+
+	/**
+	 * 이보다 작은 프레임(dBFS)은 잡음 기준과 무관하게 무음
+	 */
+	@Value("${app.audio.vad.min-level-dbfs:-50}")
+	private double minLevelDbfs;
+
+	/**
+	 * 음성 프레임 합계가 이보다 짧으면 빈 녹음으로 거절
+	 */
+	@Value("${app.audio.vad.min-speech-ms:200}")
+	private long minSpeechMillis;
+
+	/**
+	 * 음성 구간 앞뒤로 남겨둘 여유 (발음 시작·끝 보존)
+	 */
+	@Value("${app.audio.vad.padding-ms:150}")
+	private long paddingMillis;
+
+	/**
+	 * 음성 구간 분석 결과
+	 * @param originalDuration 원본 길이 (초)
+	 * @param duration 무음 제거 후 길이 (초)
+	 * @param snrDb 음성 프레임과 무음 프레임의 평균 에너지 비 (dB)
+	 * @param clippingRatio 음성 구간 중 최대 레벨에 닿은 샘플 비율
+	 * @param qualityScore SNR과 클리핑 비율로 계산한 품질 점수 (0.0 ~ 1.0)
+	 */
+	public record AudioProfile(double originalDuration, double duration, double snrDb, double clippingRatio,
+							   double qualityScore) {
+
+		/**
+		 * 분석 결과의 AudioInfo에 반영 (모델이 채운 값은 유지)
+		 */
+		public void applyTo(PronunciationResult result) {
+			if (result.getAnalysisDetails() == null) {
+				result.setAnalysisDetails(new PronunciationResult.AnalysisDetails());
+			}
+			PronunciationResult.AnalysisDetails details = result.getAnalysisDetails();
+			if (details.getAudioInfo() == null) {
+				details.setAudioInfo(new PronunciationResult.AudioInfo());
+			}
+			PronunciationResult.AudioInfo audioInfo = details.getAudioInfo();
+			if (audioInfo.getDuration() == null) {
+				audioInfo.setDuration(duration);
+			}
+			if (audioInfo.getSampleRate() == null) {
+				audioInfo.setSampleRate(SAMPLE_RATE);
+			}
+			if (audioInfo.getChannels() == null) {
+				audioInfo.setChannels(1);
+			}
+			if (audioInfo.getQualityScore() == null) {
+				audioInfo.setQualityScore(qualityScore);
+			}
+		}
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 앞뒤 무음을 잘라 WAV를 다시 쓰고 음성 구간 정보를 반환
+	 * @param wavPath 16kHz 모노 s16le WAV
+	 * @throws SilentRecordingException 음성 구간이 min-speech-ms보다 짧은 경우
+	 */
+	public AudioProfile trim(Path wavPath) throws IOException {
+		short[] samples = readSamples(wavPath);
+		int frameCount = samples.length / FRAME_SAMPLES;
+		double originalDuration = (double) samples.length / SAMPLE_RATE;
+		if (frameCount == 0) {
+			throw new SilentRecordingException("녹음이 너무 짧습니다. 다시 녹음해주세요.");
+		}
+
+		double[] levels = new double[frameCount];   // dBFS
+		double[] zeroCrossingRates = new double[frameCount];
+		for (int frame = 0; frame < frameCount; frame++) {
+			int offset = frame * FRAME_SAMPLES;
+			double sumSquares = 0;
+			int crossings = 0;
+			for (int i = offset; i < offset + FRAME_SAMPLES; i++) {
+				sumSquares += (double) samples[i] * samples[i];
+				if (i > offset && (samples[i] >= 0) != (samples[i - 1] >= 0)) {
+					crossings++;
+				}
+			}
+			double rms = Math.sqrt(sumSquares / FRAME_SAMPLES) / 32768.0;
+			levels[frame] = 20 * Math.log10(rms + 1e-9);
+			zeroCrossingRates[frame] = (double) crossings / (FRAME_SAMPLES - 1);
+		}
+
+		double[] sorted = levels.clone();
+		Arrays.sort(sorted);
+		double noiseFloor = sorted[(int) (frameCount * NOISE_PERCENTILE)];
+		// 무음 없이 이어진 발화나 일정한 신호는 하위 프레임도 음성이므로 잡음 기준 대신 최소 레벨만 적용
+		boolean steady = sorted[(int) (frameCount * PEAK_PERCENTILE)] - noiseFloor < STEADY_SPREAD_DB;
+		double speechLevel = steady ? minLevelDbfs : Math.max(noiseFloor + thresholdDb, minLevelDbfs);
+		double unvoicedLevel = steady ? minLevelDbfs : Math.max(noiseFloor + thresholdDb / 2, minLevelDbfs);
+
+		int first = -1;
+		int last = -1;
+		int speechFrames = 0;
+		double speechPower = 0;
+		double silencePower = 0;
+		for (int frame = 0; frame < frameCount; frame++) {
+			boolean speech = levels[frame] >= speechLevel
+				|| (levels[frame] >= unvoicedLevel && zeroCrossingRates[frame] >= UNVOICED_MIN_ZCR);
+			double power = Math.pow(10, levels[frame] / 10);
+			if (speech) {
+				if (first < 0) {
+					first = frame;
+				}
+				last = frame;
+				speechFrames++;
+				speechPower += power;
+			} else {
+				silencePower += power;
+			}
+		}
+
+		if (speechFrames * FRAME_SECONDS * 1000 < minSpeechMillis) {
+			pronunciationMetrics.recordSilentRecording();
+			throw new SilentRecordingException("음성이 감지되지 않았습니다. 마이크를 확인하고 다시 녹음해주세요.");
+		}
+
+		int paddingFrames = (int) Math.ceil(paddingMillis / (FRAME_SECONDS * 1000));
+		int startSample = Math.max(0, first - paddingFrames) * FRAME_SAMPLES;
+		int endSample = Math.min(samples.length, (last + 1 + paddingFrames) * FRAME_SAMPLES);
+
+		int clipped = 0;
+		for (int i = startSample; i < endSample; i++) {
+			if (Math.abs(samples[i]) >= CLIPPING_LEVEL) {
+				clipped++;
+			}
+		}
+		double clippingRatio = (double) clipped / (endSample - startSample);
+
+		// 무음 프레임이 없으면(처음부터 끝까지 발화) 잡음 기준으로 SNR 추정
+		int silenceFrames = frameCount - speechFrames;
+		double noisePower = silenceFrames > 0 ? silencePower / silenceFrames : Math.pow(10, noiseFloor / 10);
+		double snrDb = 10 * Math.log10((speechPower / speechFrames) / Math.max(noisePower, 1e-12));
+		double qualityScore = qualityScore(snrDb, clippingRatio);
+
+		if (startSample > 0 || endSample < samples.length) {
+			writeSamples(wavPath, samples, startSample, endSample);
+		}
+		double duration = (double) (endSample - startSample) / SAMPLE_RATE;
+		pronunciationMetrics.recordSilenceTrim(originalDuration - duration);
+		logger.debug("무음 제거: {}초 → {}초 (SNR {}dB, 클리핑 {})", String.format("%.2f", originalDuration),
+			String.format("%.2f", duration), String.format("%.1f", snrDb), String.format("%.4f", clippingRatio));
+
+		return new AudioProfile(originalDuration, duration, snrDb, clippingRatio, qualityScore);
+	}
+
+	/**
+	 * SNR 5dB 이하 0점 ~ 30dB 이상 1점, 클리핑 샘플 5% 이상이면 0점
+	 */
+	private static double qualityScore(double snrDb, double clippingRatio) {
+		double snrScore = Math.max(0, Math.min(1, (snrDb - 5) / 25));
+		double clippingPenalty = Math.min(1, clippingRatio * 20);
+		return Math.round(snrScore * (1 - clippingPenalty) * 100) / 100.0;
+	}
+
+	private static short[] readSamples(Path wavPath) throws IOException {
+		try (InputStream in = Files.newInputStream(wavPath)) {
+			long dataLength = WavHeader.skipToData(in);
+			byte[] pcm = in.readNBytes((int) Math.min(dataLength, Integer.MAX_VALUE));
+			short[] samples = new short[pcm.length / 2];
+			ByteBuffer.wrap(pcm).order(ByteOrder.LITTLE_ENDIAN).asShortBuffer().get(samples);
+			return samples;
+		}
+	}
+
+	/**
+	 * 음성 구간만 남기도록 WAV를 제자리에서 다시 쓰기 (표준 44바이트 헤더)
+	 */
+	private static void writeSamples(Path wavPath, short[] samples, int startSample, int endSample)
+		throws IOException {
+		long dataLength = (long) (endSample - startSample) * 2;
+		ByteBuffer pcm = ByteBuffer.allocate((int) dataLength).order(ByteOrder.LITTLE_ENDIAN);
+		pcm.asShortBuffer().put(samples, startSample, endSample - startSample);
+
+		try (FileChannel channel = FileChannel.open(wavPath, StandardOpenOption.WRITE)) {
+			channel.write(WavHeader.create(SAMPLE_RATE, 1, 16, dataLength), 0);
+			while (pcm.hasRemaining()) {
+				channel.write(pcm, WavHeader.HEADER_SIZE + pcm.position());
+			}
+			channel.truncate(WavHeader.HEADER_SIZE + dataLength);
+		}
+	}
+}
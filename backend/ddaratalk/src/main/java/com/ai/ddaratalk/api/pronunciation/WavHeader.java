@@ -0,0 +1,185 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * PCM WAV(RIFF) 헤더 유틸리티
+ */
+public final class WavHeader {
+
+	/**
+	 * 표준 PCM WAV 헤더 크기 (바이트)
+	 */
+	public static final int HEADER_SIZE = 44;
+
+	/**
+	 * data 청크 길이를 모르는 경우 (스트리밍으로 기록된 WAV는 0 또는 0xFFFFFFFF로 남음)
+	 */
+	public static final long UNKNOWN_LENGTH = -1;
+
+	private static final int FORMAT_PCM = 1;
+	private static final int FORMAT_IEEE_FLOAT = 3;
+	private static final int FORMAT_EXTENSIBLE = 0xFFFE;
+
+	private WavHeader() {
+	}
+
+	/**
+	 * WAV fmt 청크 정보
+	 * @param formatTag 포맷 코드 (EXTENSIBLE이면 서브포맷 코드로 치환됨)
+	 * @param dataLength data 청크 길이 (바이트), 모르면 UNKNOWN_LENGTH
+	 */
+	public record Format(int formatTag, int channels, int sampleRate, int bitsPerSample, long dataLength) {
+
+		/**
+		 * 정수 PCM(8/16/24/32bit) 또는 부동소수 PCM(32/64bit)인지 (Java로 디코딩 가능한 형식)
+		 */
+		public boolean isLinearPcm() {
+			if (channels < 1 || sampleRate <= 0) {
+				return false;
+			}
+			return switch (formatTag) {
+				case FORMAT_PCM -> bitsPerSample == 8 || bitsPerSample == 16 || bitsPerSample == 24
+					|| bitsPerSample == 32;
+				case FORMAT_IEEE_FLOAT -> bitsPerSample == 32 || bitsPerSample == 64;
+				default -> false;
+			};
+		}
+
+		public boolean isFloat() {
+			return formatTag == FORMAT_IEEE_FLOAT;
+		}
+
+		/**
+		 * 변환 없이 그대로 쓸 수 있는 형식인지 확인
+		 */
+		public boolean matches(int sampleRate, int channels, int bitsPerSample) {
+			return formatTag == FORMAT_PCM && this.sampleRate == sampleRate && this.channels == channels
+				&& this.bitsPerSample == bitsPerSample;
+		}
+
+		public int blockAlign() {
+			return channels * bitsPerSample / 8;
+		}
+	}
+
+	/**
+	 * PCM WAV 헤더 생성
+	 * @param sampleRate 샘플링 레이트
+	 * @param channels 채널 수
+	 * @param bitsPerSample 샘플당 비트 수
+	 * @param dataLength PCM 데이터 길이 (바이트)
+	 * @return 읽기 준비된 44바이트 헤더 버퍼
+	 */
+	public static ByteBuffer create(int sampleRate, int channels, int bitsPerSample, long dataLength) {
+		int blockAlign = channels * bitsPerSample / 8;
+		int byteRate = sampleRate * blockAlign;
+
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		header.put("RIFF".getBytes(StandardCharsets.US_ASCII));
+		header.putInt((int) (36 + dataLength));       // RIFF 청크 크기
+		header.put("WAVE".getBytes(StandardCharsets.US_ASCII));
+		header.put("fmt ".getBytes(StandardCharsets.US_ASCII));
+		header.putInt(16);                             // fmt 청크 크기
+		header.putShort((short) 1);                    // PCM 포맷
+		header.putShort((short) channels);
+		header.putInt(sampleRate);
+		header.putInt(byteRate);
+		header.putShort((short) blockAlign);
+		header.putShort((short) bitsPerSample);
+		header.put("data".getBytes(StandardCharsets.US_ASCII));
+		header.putInt((int) dataLength);               // data 청크 크기
+		header.flip();
+		return header;
+	}
+
+	/**
+	 * fmt 청크를 읽고 스트림을 data 청크 시작 위치로 이동
+	 * @param in WAV 스트림 (파일 처음 위치)
+	 * @return 포맷 정보
+	 */
+	public static Format readFormat(InputStream in) throws IOException {
+		readRiffHeader(in);
+
+		Format format = null;
+		while (true) {
+			byte[] chunkHeader = in.readNBytes(8);
+			if (chunkHeader.length < 8) {
+				throw new IOException("WAV data 청크를 찾을 수 없습니다.");
+			}
+			String chunkId = new String(chunkHeader, 0, 4, StandardCharsets.US_ASCII);
+			long chunkSize = ByteBuffer.wrap(chunkHeader, 4, 4).order(ByteOrder.LITTLE_ENDIAN).getInt() & 0xFFFFFFFFL;
+
+			if ("fmt ".equals(chunkId)) {
+				if (chunkSize < 16 || chunkSize > 1024) {
+					throw new IOException("WAV fmt 청크 크기가 올바르지 않습니다: " + chunkSize);
+				}
+				byte[] body = in.readNBytes((int) (chunkSize + (chunkSize & 1)));
+				if (body.length < chunkSize) {
+					throw new IOException("WAV fmt 청크가 잘렸습니다.");
+				}
+				ByteBuffer fmt = ByteBuffer.wrap(body).order(ByteOrder.LITTLE_ENDIAN);
+				int formatTag = fmt.getShort(0) & 0xFFFF;
+				int channels = fmt.getShort(2) & 0xFFFF;
+				int sampleRate = fmt.getInt(4);
+				int bitsPerSample = fmt.getShort(14) & 0xFFFF;
+				// WAVE_FORMAT_EXTENSIBLE: 서브포맷 GUID의 앞 2바이트가 실제 포맷 코드
+				if (formatTag == FORMAT_EXTENSIBLE && chunkSize >= 40) {
+					formatTag = fmt.getShort(24) & 0xFFFF;
+				}
+				format = new Format(formatTag, channels, sampleRate, bitsPerSample, UNKNOWN_LENGTH);
+			} else if ("data".equals(chunkId)) {
+				if (format == null) {
+					throw new IOException("WAV fmt 청크가 data 청크보다 뒤에 있습니다.");
+				}
+				long dataLength = chunkSize == 0 || chunkSize == 0xFFFFFFFFL ? UNKNOWN_LENGTH : chunkSize;
+				return new Format(format.formatTag(), format.channels(), format.sampleRate(),
+					format.bitsPerSample(), dataLength);
+			} else {
+				in.skipNBytes(chunkSize + (chunkSize & 1));
+			}
+		}
+	}
+
+	/**
+	 * RIFF 청크를 건너뛰어 스트림을 data 청크 시작 위치로 이동
+	 * ffmpeg가 붙이는 LIST 청크 등 헤더 길이가 44바이트가 아닌 경우도 처리한다.
+	 * @param in WAV 스트림 (파일 처음 위치)
+	 * @return data 청크 길이 (바이트)
+	 */
+	public static long skipToData(InputStream in) throws IOException {
+		readRiffHeader(in);
+
+		while (true) {
+			byte[] chunkHeader = in.readNBytes(8);
+			if (chunkHeader.length < 8) {
+				throw new IOException("WAV data 청크를 찾을 수 없습니다.");
+			}
+			String chunkId = new String(chunkHeader, 0, 4, StandardCharsets.US_ASCII);
+			long chunkSize = ByteBuffer.wrap(chunkHeader, 4, 4).order(ByteOrder.LITTLE_ENDIAN).getInt() & 0xFFFFFFFFL;
+			if ("data".equals(chunkId)) {
+				return chunkSize;
+			}
+			// 청크는 짝수 바이트 단위로 정렬됨
+			in.skipNBytes(chunkSize + (chunkSize & 1));
+		}
+	}
+
+	/**
+	 * 파일 앞부분이 WAV(RIFF/WAVE) 시그니처인지 확인
+	 */
+	public static boolean isWav(byte[] head) {
+		return head.length >= 12 && "RIFF".equals(new String(head, 0, 4, StandardCharsets.US_ASCII))
+			&& "WAVE".equals(new String(head, 8, 4, StandardCharsets.US_ASCII));
+	}
+
+	private static void readRiffHeader(InputStream in) throws IOException {
+		if (!isWav(in.readNBytes(12))) {
+			throw new IOException("WAV 형식이 아닙니다.");
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package com.ai.ddaratalk.api.pronunciation.dto;
+
+import com.ai.ddaratalk.api.pronunciation.AnalysisJob;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비동기 분석 작업 상태 DTO
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AnalysisJobResponse {
+
+	/**
+	 * 작업 ID
+	 */
+	private String jobId;
+
+	/**
+	 * 작업 상태 ("PENDING", "RUNNING", "COMPLETED", "FAILED", "CANCELLED")
+	 */
+	private String status;
+
+	/**
+	 * 분석 결과 (완료 시)
+	 */
+	private PronunciationResult result;
+
+	/**
+	 * 에러 메시지 (실패 시)
+	 */
+	private String error;
+
+	/**
+	 * 시간 초과 후 늦은 결과를 기다리는 중 (true일 때만 포함, 결과가 도착하면 COMPLETED로 바뀜)
+	 */
+	private Boolean awaitingLateResult;
+
+	/**
+	 * 예상 완료 시각 (타임스탬프, 분석 중일 때만 포함)
+	 */
+	private Long expectedCompletionAt;
+
+	/**
+	 * 모델 결과 마감 시각 (타임스탬프, 분석 중일 때만 포함)
+	 */
+	private Long deadlineAt;
+
+	/**
+	 * 작업 생성 시각 (타임스탬프)
+	 */
+	private Long createdAt;
+
+	/**
+	 * 작업 완료 시각 (타임스탬프)
+	 */
+	private Long completedAt;
+
+	public static AnalysisJobResponse from(AnalysisJob job) {
+		AnalysisJobResponse response = new AnalysisJobResponse();
+		response.setJobId(job.getId());
+		response.setStatus(job.getStatus().name());
+		response.setResult(job.getResult());
+		response.setError(job.getError());
+		response.setAwaitingLateResult(job.isAwaitingLateResult() ? Boolean.TRUE : null);
+		if (!job.isDone()) {
+			response.setExpectedCompletionAt(job.getExpectedCompletionAt());
+			response.setDeadlineAt(job.getDeadlineAt());
+		}
+		response.setCreatedAt(job.getCreatedAt());
+		response.setCompletedAt(job.getCompletedAt());
+		return response;
+	}
+}
@@ -0,0 +1,58 @@
+package com.ai.ddaratalk.api.pronunciation.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 분석 진행 이벤트 DTO
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AnalysisProgressEvent {
+
+	/**
+	 * 작업 ID
+	 */
+	private String jobId;
+
+	/**
+	 * 진행 단계 ("UPLOAD_RECEIVED", "WAV_CONVERTED", "REQUEST_WRITTEN", "RESULT_PARSED", "DONE", "FAILED")
+	 */
+	private String stage;
+
+	/**
+	 * 이벤트 발생 시각 (타임스탬프)
+	 */
+	private Long timestamp;
+
+	/**
+	 * 최종 분석 결과 (DONE 단계에서만 포함)
+	 */
+	private PronunciationResult result;
+
+	/**
+	 * 에러 메시지 (FAILED 단계에서만 포함)
+	 */
+	private String error;
+
+	/**
+	 * 예상 완료 시각 (타임스탬프, 모델 요청 이후 이벤트에만 포함)
+	 */
+	private Long expectedCompletionAt;
+
+	/**
+	 * 모델 결과 마감 시각 (타임스탬프, 모델 요청 이후 이벤트에만 포함)
+	 */
+	private Long deadlineAt;
+
+	public static AnalysisProgressEvent of(String jobId, String stage) {
+		AnalysisProgressEvent event = new AnalysisProgressEvent();
+		event.setJobId(jobId);
+		event.setStage(stage);
+		event.setTimestamp(System.currentTimeMillis());
+		return event;
+	}
+}
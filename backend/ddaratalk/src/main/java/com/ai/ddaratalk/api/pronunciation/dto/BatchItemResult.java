@@ -0,0 +1,63 @@
+package com.ai.ddaratalk.api.pronunciation.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 분석 항목별 결과 DTO (NDJSON 한 줄)
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResult {
+
+	/**
+	 * 요청 내 항목 순서 (0부터)
+	 */
+	private Integer index;
+
+	/**
+	 * 항목 이름 (업로드 파일명 또는 zip 항목 경로)
+	 */
+	private String name;
+
+	/**
+	 * 처리 상태 ("COMPLETED", "FAILED", "REJECTED")
+	 */
+	private String status;
+
+	/**
+	 * 분석 결과 (COMPLETED일 때만 포함)
+	 */
+	private PronunciationResult result;
+
+	/**
+	 * 에러 메시지 (FAILED, REJECTED일 때만 포함)
+	 */
+	private String error;
+
+	public static BatchItemResult completed(int index, String name, PronunciationResult result) {
+		BatchItemResult item = of(index, name, "COMPLETED");
+		item.setResult(result);
+		return item;
+	}
+
+	/**
+	 * @param rejected 혼잡으로 거절되었는지 여부 (같은 항목을 다시 요청하면 성공할 수 있음)
+	 */
+	public static BatchItemResult failed(int index, String name, String error, boolean rejected) {
+		BatchItemResult item = of(index, name, rejected ? "REJECTED" : "FAILED");
+		item.setError(error);
+		return item;
+	}
+
+	private static BatchItemResult of(int index, String name, String status) {
+		BatchItemResult item = new BatchItemResult();
+		item.setIndex(index);
+		item.setName(name);
+		item.setStatus(status);
+		return item;
+	}
+}
@@ -0,0 +1,72 @@
+package com.ai.ddaratalk.api.pronunciation.dto;
+
+import java.util.List;
+
+import com.ai.ddaratalk.api.pronunciation.UploadSession;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 청크 업로드 세션 상태 DTO
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UploadSessionResponse {
+
+	/**
+	 * 업로드 세션 ID
+	 */
+	private String uploadId;
+
+	/**
+	 * 세션 상태 ("RECEIVING", "CONVERTED", "COMPLETED", "FAILED", "ABORTED")
+	 */
+	private String status;
+
+	/**
+	 * 다음에 보낼 청크 순번 (연결이 끊긴 뒤 이 순번부터 재전송)
+	 */
+	private Integer nextChunk;
+
+	/**
+	 * 앞 순번을 기다리며 보관 중인 청크 순번
+	 */
+	private List<Integer> pendingChunks;
+
+	/**
+	 * 받은 전체 크기 (bytes)
+	 */
+	private Long receivedBytes;
+
+	/**
+	 * 분석 작업 ID (완료 시)
+	 */
+	private String jobId;
+
+	/**
+	 * 에러 메시지 (실패 시)
+	 */
+	private String error;
+
+	/**
+	 * 세션 생성 시각 (타임스탬프)
+	 */
+	private Long createdAt;
+
+	public static UploadSessionResponse from(UploadSession session) {
+		UploadSessionResponse response = new UploadSessionResponse();
+		response.setUploadId(session.getId());
+		response.setStatus(session.getStatus().name());
+		response.setNextChunk(session.getNextChunk());
+		List<Integer> pending = session.getPendingChunks();
+		response.setPendingChunks(pending.isEmpty() ? null : pending);
+		response.setReceivedBytes(session.getReceivedBytes());
+		response.setJobId(session.getJobId());
+		response.setError(session.getError());
+		response.setCreatedAt(session.getCreatedAt());
+		return response;
+	}
+}
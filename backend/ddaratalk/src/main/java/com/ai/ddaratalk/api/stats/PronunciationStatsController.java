@@ -0,0 +1,120 @@
+package com.ai.ddaratalk.api.stats;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ai.ddaratalk.api.pronunciation.PronunciationController.ErrorResponse;
+import com.ai.ddaratalk.api.stats.dto.WeakWordResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 발음 통계 API
+ * bucket은 daily 또는 weekly, periods는 오늘(이번 주)을 포함한 최근 구간 수.
+ */
+@RestController
+@RequestMapping("/api/pronunciation/stats")
+@RequiredArgsConstructor
+public class PronunciationStatsController {
+
+	private final PronunciationStatsService statsService;
+
+	/**
+	 * 언어별 평균 점수 추이
+	 */
+	@GetMapping("/languages")
+	public ResponseEntity<?> getLanguageTrends(
+		@RequestParam(value = "bucket", defaultValue = "weekly") String bucket,
+		@RequestParam(value = "periods", defaultValue = "12") int periods) {
+
+		RollupBucket rollupBucket = parseBucket(bucket);
+		if (rollupBucket == null) {
+			return invalidBucket(bucket);
+		}
+		return ResponseEntity.ok(statsService.findLanguageTrends(rollupBucket, periods));
+	}
+
+	/**
+	 * 한 언어의 평균 점수 추이
+	 */
+	@GetMapping("/languages/{lang}")
+	public ResponseEntity<?> getLanguageTrend(
+		@PathVariable("lang") String lang,
+		@RequestParam(value = "bucket", defaultValue = "weekly") String bucket,
+		@RequestParam(value = "periods", defaultValue = "12") int periods) {
+
+		RollupBucket rollupBucket = parseBucket(bucket);
+		if (rollupBucket == null) {
+			return invalidBucket(bucket);
+		}
+		return ResponseEntity.ok(statsService.findLanguageTrend(lang, rollupBucket, periods));
+	}
+
+	/**
+	 * 목표 문장의 평균 점수 추이
+	 */
+	@GetMapping("/sentences")
+	public ResponseEntity<?> getSentenceTrend(
+		@RequestParam("lang") String lang,
+		@RequestParam("text") String targetText,
+		@RequestParam(value = "bucket", defaultValue = "weekly") String bucket,
+		@RequestParam(value = "periods", defaultValue = "12") int periods) {
+
+		RollupBucket rollupBucket = parseBucket(bucket);
+		if (rollupBucket == null) {
+			return invalidBucket(bucket);
+		}
+		return ResponseEntity.ok(statsService.findSentenceTrend(lang, targetText, rollupBucket, periods));
+	}
+
+	/**
+	 * 사용자의 평균 점수 추이 (lang이 없으면 전체 언어 합산)
+	 */
+	@GetMapping("/users/{userId}")
+	public ResponseEntity<?> getUserTrend(
+		@PathVariable("userId") String userId,
+		@RequestParam(value = "lang", required = false) String lang,
+		@RequestParam(value = "bucket", defaultValue = "daily") String bucket,
+		@RequestParam(value = "periods", defaultValue = "30") int periods) {
+
+		RollupBucket rollupBucket = parseBucket(bucket);
+		if (rollupBucket == null) {
+			return invalidBucket(bucket);
+		}
+		return ResponseEntity.ok(statsService.findUserTrend(userId, lang, rollupBucket, periods));
+	}
+
+	/**
+	 * 최근 days일 동안 정확도가 가장 낮은 단어와 주별 추이 (userId가 없으면 전체 사용자)
+	 */
+	@GetMapping("/words/weakest")
+	public ResponseEntity<List<WeakWordResponse>> getWeakestWords(
+		@RequestParam("lang") String lang,
+		@RequestParam(value = "userId", required = false) String userId,
+		@RequestParam(value = "days", defaultValue = "28") int days,
+		@RequestParam(value = "limit", defaultValue = "10") int limit,
+		@RequestParam(value = "minAttempts", defaultValue = "3") int minAttempts) {
+
+		return ResponseEntity.ok(statsService.findWeakestWords(lang, userId, days, limit, minAttempts));
+	}
+
+	private static RollupBucket parseBucket(String bucket) {
+		try {
+			return RollupBucket.valueOf(bucket.toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private static ResponseEntity<ErrorResponse> invalidBucket(String bucket) {
+		return ResponseEntity.badRequest()
+			.body(new ErrorResponse("지원하지 않는 구간 단위입니다: " + bucket + " (daily, weekly)"));
+	}
+}
@@ -0,0 +1,198 @@
+package com.ai.ddaratalk.api.stats;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ai.ddaratalk.api.history.PronunciationAttempt;
+import com.ai.ddaratalk.api.stats.dto.ScoreBucketResponse;
+import com.ai.ddaratalk.api.stats.dto.ScoreTrendResponse;
+import com.ai.ddaratalk.api.stats.dto.WeakWordResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 발음 통계 조회
+ * 모든 조회는 StatsAggregator가 갱신한 집계 행만 읽으므로 비용이 이력 건수가 아닌 구간 수에 비례한다.
+ * 집계는 flush-interval-ms 주기로 반영되므로 직전 분석 결과는 잠시 뒤에 포함된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PronunciationStatsService {
+
+	private static final Logger logger = LoggerFactory.getLogger(PronunciationStatsService.class);
+
+	public static final int MAX_PERIODS = 366;
+	public static final int MAX_WORDS = 50;
+
+	private final ScoreRollupRepository scoreRollupRepository;
+	private final WordRollupRepository wordRollupRepository;
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${app.stats.daily-retention-days:400}")
+	private int dailyRetentionDays;
+
+	/**
+	 * 언어별 점수 추이 (시도가 있는 언어 전체)
+	 */
+	@Transactional(readOnly = true)
+	public List<ScoreTrendResponse> findLanguageTrends(RollupBucket bucket, int periods) {
+		LocalDate from = bucket.firstStart(LocalDate.now(), clampPeriods(periods));
+		Map<String, List<ScoreRollup>> byLanguage = scoreRollupRepository
+			.findByDimensionAndBucketTypeAndBucketStartGreaterThanEqualOrderByBucketStart(
+				ScoreDimension.LANGUAGE, bucket, from)
+			.stream()
+			.collect(Collectors.groupingBy(ScoreRollup::getLanguage, TreeMap::new, Collectors.toList()));
+
+		List<ScoreTrendResponse> trends = new ArrayList<>(byLanguage.size());
+		byLanguage.forEach((language, rows) -> {
+			ScoreTrendResponse trend = toTrend(ScoreDimension.LANGUAGE, bucket, from, rows);
+			trend.setLanguage(language);
+			trends.add(trend);
+		});
+		return trends;
+	}
+
+	/**
+	 * 한 언어의 점수 추이
+	 */
+	@Transactional(readOnly = true)
+	public ScoreTrendResponse findLanguageTrend(String language, RollupBucket bucket, int periods) {
+		LocalDate from = bucket.firstStart(LocalDate.now(), clampPeriods(periods));
+		ScoreTrendResponse trend = toTrend(ScoreDimension.LANGUAGE, bucket, from, scoreRollupRepository
+			.findByDimensionAndDimensionKeyAndLanguageAndBucketTypeAndBucketStartGreaterThanEqualOrderByBucketStart(
+				ScoreDimension.LANGUAGE, "", language, bucket, from));
+		trend.setLanguage(language);
+		return trend;
+	}
+
+	/**
+	 * 목표 문장의 점수 추이 (전체 사용자, 대소문자·문장부호 무시)
+	 */
+	@Transactional(readOnly = true)
+	public ScoreTrendResponse findSentenceTrend(String language, String targetText, RollupBucket bucket,
+		int periods) {
+		LocalDate from = bucket.firstStart(LocalDate.now(), clampPeriods(periods));
+		ScoreTrendResponse trend = toTrend(ScoreDimension.SENTENCE, bucket, from, scoreRollupRepository
+			.findByDimensionAndDimensionKeyAndLanguageAndBucketTypeAndBucketStartGreaterThanEqualOrderByBucketStart(
+				ScoreDimension.SENTENCE, PronunciationAttempt.hashTargetText(targetText), language, bucket, from));
+		trend.setLanguage(language);
+		trend.setTargetText(targetText);
+		return trend;
+	}
+
+	/**
+	 * 사용자의 점수 추이 (language가 없으면 전체 언어 합산)
+	 */
+	@Transactional(readOnly = true)
+	public ScoreTrendResponse findUserTrend(String userId, String language, RollupBucket bucket, int periods) {
+		LocalDate from = bucket.firstStart(LocalDate.now(), clampPeriods(periods));
+		List<ScoreRollup> rows = language != null
+			? scoreRollupRepository
+				.findByDimensionAndDimensionKeyAndLanguageAndBucketTypeAndBucketStartGreaterThanEqualOrderByBucketStart(
+					ScoreDimension.USER, userId, language, bucket, from)
+			: scoreRollupRepository
+				.findByDimensionAndDimensionKeyAndBucketTypeAndBucketStartGreaterThanEqualOrderByBucketStart(
+					ScoreDimension.USER, userId, bucket, from);
+		ScoreTrendResponse trend = toTrend(ScoreDimension.USER, bucket, from, rows);
+		trend.setUserId(userId);
+		trend.setLanguage(language);
+		return trend;
+	}
+
+	/**
+	 * 최근 days일 동안 평균 정확도가 가장 낮은 단어와 주별 추이
+	 * @param userId 사용자 ID (없으면 전체 사용자)
+	 * @param minAttempts 정확도 값이 있는 최소 등장 횟수 (우연히 한 번 틀린 단어 제외)
+	 */
+	@Transactional(readOnly = true)
+	public List<WeakWordResponse> findWeakestWords(String language, String userId, int days, int limit,
+		int minAttempts) {
+		String scopeKey = userId != null ? userId : StatsAggregator.GLOBAL_SCOPE;
+		LocalDate today = LocalDate.now();
+		LocalDate from = RollupBucket.DAILY.firstStart(today, clampPeriods(days));
+
+		List<WordRollupRepository.WordTotal> totals = wordRollupRepository.findWeakestWords(
+			scopeKey, language, RollupBucket.DAILY, from, Math.max(minAttempts, 1),
+			Limit.of(Math.min(Math.max(limit, 1), MAX_WORDS)));
+		if (totals.isEmpty()) {
+			return List.of();
+		}
+
+		Map<String, List<WordRollup>> weekly = wordRollupRepository
+			.findByScopeKeyAndLanguageAndBucketTypeAndBucketStartGreaterThanEqualAndWordInOrderByBucketStart(
+				scopeKey, language, RollupBucket.WEEKLY, RollupBucket.WEEKLY.startOf(from),
+				totals.stream().map(WordRollupRepository.WordTotal::getWord).toList())
+			.stream()
+			.collect(Collectors.groupingBy(WordRollup::getWord));
+
+		return totals.stream()
+			.map(total -> {
+				WeakWordResponse response = new WeakWordResponse();
+				response.setWord(total.getWord());
+				response.setAttempts(total.getAttempts());
+				response.setAverageAccuracy(average(total.getAccuracySum(), total.getAccuracyCount()));
+				response.setIncorrectRate(average(total.getIncorrect(), total.getAttempts()));
+				response.setTrend(weekly.getOrDefault(total.getWord(), List.of()).stream()
+					.map(row -> new WeakWordResponse.TrendPoint(row.getBucketStart().toString(),
+						row.getAttemptCount(), average(row.getAccuracySum(), row.getAccuracyCount())))
+					.toList());
+				return response;
+			})
+			.toList();
+	}
+
+	/**
+	 * 보관 기간(daily-retention-days)이 지난 일별 집계 삭제 (주별 집계는 유지)
+	 */
+	@Scheduled(cron = "${app.stats.retention-cron:0 45 3 * * *}")
+	@Transactional
+	public void purgeExpiredDailyRollups() {
+		Date threshold = Date.valueOf(LocalDate.now().minusDays(dailyRetentionDays));
+		int scores = jdbcTemplate.update(
+			"DELETE FROM score_rollup WHERE bucket_type = 'DAILY' AND bucket_start < ?", threshold);
+		int words = jdbcTemplate.update(
+			"DELETE FROM word_rollup WHERE bucket_type = 'DAILY' AND bucket_start < ?", threshold);
+
+		if (scores + words > 0) {
+			logger.info("보관 기간 지난 일별 집계 삭제: 점수 {}행, 단어 {}행 (기준 {}일)", scores, words, dailyRetentionDays);
+		}
+	}
+
+	private ScoreTrendResponse toTrend(ScoreDimension dimension, RollupBucket bucket, LocalDate from,
+		List<ScoreRollup> rows) {
+		// 사용자 전체 언어 조회는 같은 구간에 언어별 행이 여러 개이므로 구간 시작일 기준으로 합산
+		Map<LocalDate, List<ScoreRollup>> byStart = rows.stream()
+			.collect(Collectors.groupingBy(ScoreRollup::getBucketStart, TreeMap::new, Collectors.toList()));
+
+		ScoreTrendResponse trend = new ScoreTrendResponse();
+		trend.setDimension(dimension.name());
+		trend.setBucket(bucket.name());
+		trend.setTotal(ScoreBucketResponse.from(from, rows));
+		trend.setBuckets(byStart.entrySet().stream()
+			.map(entry -> ScoreBucketResponse.from(entry.getKey(), entry.getValue()))
+			.toList());
+		return trend;
+	}
+
+	private static Double average(double sum, long count) {
+		return count > 0 ? sum / count : null;
+	}
+
+	private static int clampPeriods(int periods) {
+		return Math.min(Math.max(periods, 1), MAX_PERIODS);
+	}
+}
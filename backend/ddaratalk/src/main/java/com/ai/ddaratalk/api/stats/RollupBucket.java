@@ -0,0 +1,36 @@
+package com.ai.ddaratalk.api.stats;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 집계 구간 단위
+ */
+public enum RollupBucket {
+
+	/**
+	 * 일별 (해당 날짜)
+	 */
+	DAILY,
+
+	/**
+	 * 주별 (월요일 시작)
+	 */
+	WEEKLY;
+
+	/**
+	 * 날짜가 속한 구간의 시작일
+	 */
+	public LocalDate startOf(LocalDate date) {
+		return this == DAILY ? date : date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+	}
+
+	/**
+	 * 오늘을 포함한 최근 periods개 구간의 첫 구간 시작일
+	 */
+	public LocalDate firstStart(LocalDate today, int periods) {
+		LocalDate current = startOf(today);
+		return this == DAILY ? current.minusDays(periods - 1L) : current.minusWeeks(periods - 1L);
+	}
+}
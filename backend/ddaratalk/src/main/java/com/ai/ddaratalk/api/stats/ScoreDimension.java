@@ -0,0 +1,22 @@
+package com.ai.ddaratalk.api.stats;
+
+/**
+ * 점수 집계 기준
+ */
+public enum ScoreDimension {
+
+	/**
+	 * 언어별 (dimension_key는 빈 문자열)
+	 */
+	LANGUAGE,
+
+	/**
+	 * 목표 문장별 (dimension_key는 정규화한 목표 텍스트의 해시)
+	 */
+	SENTENCE,
+
+	/**
+	 * 사용자별 (dimension_key는 사용자 ID)
+	 */
+	USER
+}
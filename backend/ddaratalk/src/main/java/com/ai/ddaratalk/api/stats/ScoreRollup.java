@@ -0,0 +1,95 @@
+package com.ai.ddaratalk.api.stats;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 점수 집계 (기준·언어·구간별 누적값)
+ * StatsAggregator가 MERGE로 누적하며, 엔티티는 조회와 스키마 정의에만 사용한다.
+ */
+@Entity
+@Table(name = "score_rollup")
+@IdClass(ScoreRollup.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ScoreRollup {
+
+	@Id
+	@Enumerated(EnumType.STRING)
+	@Column(length = 16)
+	private ScoreDimension dimension;
+
+	@Id
+	@Column(name = "dimension_key", length = 64)
+	private String dimensionKey;
+
+	@Id
+	@Column(length = 8)
+	private String language;
+
+	@Id
+	@Enumerated(EnumType.STRING)
+	@Column(name = "bucket_type", length = 8)
+	private RollupBucket bucketType;
+
+	@Id
+	@Column(name = "bucket_start")
+	private LocalDate bucketStart;
+
+	@Column(name = "attempt_count", nullable = false)
+	private long attemptCount;
+
+	/**
+	 * 점수가 있는 시도 수 (평균 계산용)
+	 */
+	@Column(name = "score_count", nullable = false)
+	private long scoreCount;
+
+	@Column(name = "score_sum", nullable = false)
+	private double scoreSum;
+
+	@Column(name = "min_score")
+	private Double minScore;
+
+	@Column(name = "max_score")
+	private Double maxScore;
+
+	@Column(name = "grade_a", nullable = false)
+	private long gradeA;
+
+	@Column(name = "grade_b", nullable = false)
+	private long gradeB;
+
+	@Column(name = "grade_c", nullable = false)
+	private long gradeC;
+
+	@Column(name = "grade_d", nullable = false)
+	private long gradeD;
+
+	@Column(name = "grade_f", nullable = false)
+	private long gradeF;
+
+	@EqualsAndHashCode
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Key implements Serializable {
+		private ScoreDimension dimension;
+		private String dimensionKey;
+		private String language;
+		private RollupBucket bucketType;
+		private LocalDate bucketStart;
+	}
+}
@@ -0,0 +1,21 @@
+package com.ai.ddaratalk.api.stats;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 점수 집계 조회 (기준·구간별 기본키 범위 조회만 사용)
+ */
+public interface ScoreRollupRepository extends JpaRepository<ScoreRollup, ScoreRollup.Key> {
+
+	List<ScoreRollup> findByDimensionAndDimensionKeyAndLanguageAndBucketTypeAndBucketStartGreaterThanEqualOrderByBucketStart(
+		ScoreDimension dimension, String dimensionKey, String language, RollupBucket bucketType, LocalDate from);
+
+	List<ScoreRollup> findByDimensionAndDimensionKeyAndBucketTypeAndBucketStartGreaterThanEqualOrderByBucketStart(
+		ScoreDimension dimension, String dimensionKey, RollupBucket bucketType, LocalDate from);
+
+	List<ScoreRollup> findByDimensionAndBucketTypeAndBucketStartGreaterThanEqualOrderByBucketStart(
+		ScoreDimension dimension, RollupBucket bucketType, LocalDate from);
+}
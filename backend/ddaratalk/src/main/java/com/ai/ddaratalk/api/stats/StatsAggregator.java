@@ -0,0 +1,402 @@
+package com.ai.ddaratalk.api.stats;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ai.ddaratalk.api.history.PronunciationAttempt;
+import com.ai.ddaratalk.api.pronunciation.PronunciationAnalyzedEvent;
+import com.ai.ddaratalk.api.pronunciation.dto.PronunciationResult;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 점수/단어 정확도 집계 갱신기
+ * 분석 완료 이벤트마다 (언어, 문장, 사용자) x (일, 주) 구간의 증분을 메모리에 합산하고,
+ * flush-interval-ms마다 증분만 집계 테이블에 더한다. 통계 조회는 원본 이력을 읽지 않고 집계 행만 읽는다.
+ * 집계기는 단일 인스턴스가 유일한 writer이므로 UPDATE 후 없는 행만 INSERT 하는 방식으로 누적한다.
+ */
+@Component
+public class StatsAggregator {
+
+	private static final Logger logger = LoggerFactory.getLogger(StatsAggregator.class);
+
+	private static final Pattern WORD_EDGE_PUNCTUATION = Pattern.compile("^[\\p{P}\\s]+|[\\p{P}\\s]+$");
+
+	private static final String UPDATE_SCORE = """
+		UPDATE score_rollup SET
+			attempt_count = attempt_count + ?, score_count = score_count + ?, score_sum = score_sum + ?,
+			min_score = LEAST(COALESCE(min_score, ?), COALESCE(?, min_score)),
+			max_score = GREATEST(COALESCE(max_score, ?), COALESCE(?, max_score)),
+			grade_a = grade_a + ?, grade_b = grade_b + ?, grade_c = grade_c + ?, grade_d = grade_d + ?,
+			grade_f = grade_f + ?
+		WHERE dimension = ? AND dimension_key = ? AND language = ? AND bucket_type = ? AND bucket_start = ?""";
+
+	private static final String INSERT_SCORE = """
+		INSERT INTO score_rollup
+			(dimension, dimension_key, language, bucket_type, bucket_start, attempt_count, score_count, score_sum,
+			 min_score, max_score, grade_a, grade_b, grade_c, grade_d, grade_f)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+
+	private static final String UPDATE_WORD = """
+		UPDATE word_rollup SET
+			attempt_count = attempt_count + ?, accuracy_count = accuracy_count + ?,
+			accuracy_sum = accuracy_sum + ?, incorrect_count = incorrect_count + ?
+		WHERE scope_key = ? AND language = ? AND word = ? AND bucket_type = ? AND bucket_start = ?""";
+
+	private static final String INSERT_WORD = """
+		INSERT INTO word_rollup
+			(scope_key, language, word, bucket_type, bucket_start, attempt_count, accuracy_count, accuracy_sum,
+			 incorrect_count)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+
+	private static final int[] UPDATE_SCORE_TYPES = {
+		Types.BIGINT, Types.BIGINT, Types.DOUBLE, Types.DOUBLE, Types.DOUBLE, Types.DOUBLE, Types.DOUBLE,
+		Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.BIGINT,
+		Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.DATE
+	};
+
+	private static final int[] INSERT_SCORE_TYPES = {
+		Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.DATE, Types.BIGINT, Types.BIGINT,
+		Types.DOUBLE, Types.DOUBLE, Types.DOUBLE, Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.BIGINT,
+		Types.BIGINT
+	};
+
+	private static final int[] UPDATE_WORD_TYPES = {
+		Types.BIGINT, Types.BIGINT, Types.DOUBLE, Types.BIGINT,
+		Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.DATE
+	};
+
+	private static final int[] INSERT_WORD_TYPES = {
+		Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.DATE, Types.BIGINT, Types.BIGINT,
+		Types.DOUBLE, Types.BIGINT
+	};
+
+	/**
+	 * 전체 사용자 단어 집계의 scope_key
+	 */
+	static final String GLOBAL_SCOPE = "";
+
+	@Value("${app.stats.enabled:true}")
+	private boolean enabled;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+
+	private final Map<ScoreKey, ScoreDelta> pendingScores = new ConcurrentHashMap<>();
+	private final Map<WordKey, WordDelta> pendingWords = new ConcurrentHashMap<>();
+
+	private final Counter failedCounter;
+	private final Timer flushTimer;
+
+	record ScoreKey(ScoreDimension dimension, String dimensionKey, String language, RollupBucket bucket,
+					LocalDate bucketStart) {
+	}
+
+	record WordKey(String scopeKey, String language, String word, RollupBucket bucket, LocalDate bucketStart) {
+	}
+
+	/**
+	 * 점수 증분 (ConcurrentHashMap.compute 안에서만 변경)
+	 */
+	static final class ScoreDelta {
+		long attempts;
+		long scoreCount;
+		double scoreSum;
+		Double min;
+		Double max;
+		final long[] grades = new long[5];
+
+		void add(PronunciationResult result) {
+			attempts++;
+			Double score = result.getScore();
+			if (score == null) {
+				return;
+			}
+			scoreCount++;
+			scoreSum += score;
+			min = min == null ? score : Math.min(min, score);
+			max = max == null ? score : Math.max(max, score);
+			grades[gradeIndex(result.getScoreGrade())]++;
+		}
+
+		void merge(ScoreDelta other) {
+			attempts += other.attempts;
+			scoreCount += other.scoreCount;
+			scoreSum += other.scoreSum;
+			if (other.min != null) {
+				min = min == null ? other.min : Math.min(min, other.min);
+			}
+			if (other.max != null) {
+				max = max == null ? other.max : Math.max(max, other.max);
+			}
+			for (int i = 0; i < grades.length; i++) {
+				grades[i] += other.grades[i];
+			}
+		}
+
+		private static int gradeIndex(String grade) {
+			return switch (grade) {
+				case "A" -> 0;
+				case "B" -> 1;
+				case "C" -> 2;
+				case "D" -> 3;
+				default -> 4;
+			};
+		}
+	}
+
+	/**
+	 * 단어 정확도 증분 (ConcurrentHashMap.compute 안에서만 변경)
+	 */
+	static final class WordDelta {
+		long attempts;
+		long accuracyCount;
+		double accuracySum;
+		long incorrect;
+
+		void add(PronunciationResult.WordAccuracy word) {
+			attempts++;
+			if (word.getAccuracy() != null) {
+				accuracyCount++;
+				accuracySum += word.getAccuracy();
+			}
+			if (!"correct".equals(word.getStatus())) {
+				incorrect++;
+			}
+		}
+
+		void merge(WordDelta other) {
+			attempts += other.attempts;
+			accuracyCount += other.accuracyCount;
+			accuracySum += other.accuracySum;
+			incorrect += other.incorrect;
+		}
+	}
+
+	public StatsAggregator(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+		MeterRegistry meterRegistry) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+
+		Gauge.builder("pronunciation.stats.pending", pendingScores, Map::size)
+			.tag("kind", "score")
+			.description("반영 대기 중인 점수 집계 행 수")
+			.register(meterRegistry);
+		Gauge.builder("pronunciation.stats.pending", pendingWords, Map::size)
+			.tag("kind", "word")
+			.description("반영 대기 중인 단어 집계 행 수")
+			.register(meterRegistry);
+		this.failedCounter = Counter.builder("pronunciation.stats.flush.failed")
+			.description("집계 반영 실패 횟수")
+			.register(meterRegistry);
+		this.flushTimer = Timer.builder("pronunciation.stats.flush")
+			.description("집계 반영 시간")
+			.register(meterRegistry);
+	}
+
+	@EventListener
+	public void onAnalyzed(PronunciationAnalyzedEvent event) {
+		PronunciationResult result = event.result();
+		if (!enabled || result == null || result.hasError() || event.language() == null) {
+			return;
+		}
+
+		LocalDate date = event.analyzedAt().toLocalDate();
+		String language = event.language();
+		for (RollupBucket bucket : RollupBucket.values()) {
+			LocalDate start = bucket.startOf(date);
+			addScore(new ScoreKey(ScoreDimension.LANGUAGE, "", language, bucket, start), result);
+			if (event.targetText() != null) {
+				String textHash = PronunciationAttempt.hashTargetText(event.targetText());
+				addScore(new ScoreKey(ScoreDimension.SENTENCE, textHash, language, bucket, start), result);
+			}
+			if (event.userId() != null) {
+				addScore(new ScoreKey(ScoreDimension.USER, truncate(event.userId()), language, bucket, start), result);
+			}
+			addWords(GLOBAL_SCOPE, language, bucket, start, result);
+			if (event.userId() != null) {
+				addWords(truncate(event.userId()), language, bucket, start, result);
+			}
+		}
+	}
+
+	/**
+	 * 대기 중인 증분을 집계 테이블에 반영
+	 * 키 단위로 remove 하므로 반영 중에 들어온 증분은 다음 주기에 반영된다.
+	 */
+	@Scheduled(fixedDelayString = "${app.stats.flush-interval-ms:5000}")
+	public synchronized void flush() {
+		if (pendingScores.isEmpty() && pendingWords.isEmpty()) {
+			return;
+		}
+
+		Map<ScoreKey, ScoreDelta> scores = new HashMap<>();
+		for (ScoreKey key : pendingScores.keySet()) {
+			ScoreDelta delta = pendingScores.remove(key);
+			if (delta != null) {
+				scores.put(key, delta);
+			}
+		}
+		Map<WordKey, WordDelta> words = new HashMap<>();
+		for (WordKey key : pendingWords.keySet()) {
+			WordDelta delta = pendingWords.remove(key);
+			if (delta != null) {
+				words.put(key, delta);
+			}
+		}
+
+		try {
+			flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+				writeScores(scores);
+				writeWords(words);
+			}));
+			logger.debug("통계 집계 반영: 점수 {}행, 단어 {}행", scores.size(), words.size());
+		} catch (RuntimeException e) {
+			// 트랜잭션이 롤백되었으므로 증분을 되돌려 다음 주기에 다시 반영
+			failedCounter.increment();
+			scores.forEach((key, delta) -> pendingScores.merge(key, delta, (a, b) -> {
+				a.merge(b);
+				return a;
+			}));
+			words.forEach((key, delta) -> pendingWords.merge(key, delta, (a, b) -> {
+				a.merge(b);
+				return a;
+			}));
+			logger.error("통계 집계 반영 실패 (점수 {}행, 단어 {}행)", scores.size(), words.size(), e);
+		}
+	}
+
+	@PreDestroy
+	public void stop() {
+		flush();
+	}
+
+	private void addScore(ScoreKey key, PronunciationResult result) {
+		pendingScores.compute(key, (k, delta) -> {
+			ScoreDelta target = delta != null ? delta : new ScoreDelta();
+			target.add(result);
+			return target;
+		});
+	}
+
+	private void addWords(String scopeKey, String language, RollupBucket bucket, LocalDate start,
+		PronunciationResult result) {
+		if (result.getWordAccuracies() == null) {
+			return;
+		}
+		for (PronunciationResult.WordAccuracy word : result.getWordAccuracies()) {
+			String normalized = normalizeWord(word.getWord());
+			if (normalized.isEmpty()) {
+				continue;
+			}
+			pendingWords.compute(new WordKey(scopeKey, language, normalized, bucket, start), (k, delta) -> {
+				WordDelta target = delta != null ? delta : new WordDelta();
+				target.add(word);
+				return target;
+			});
+		}
+	}
+
+	private void writeScores(Map<ScoreKey, ScoreDelta> scores) {
+		if (scores.isEmpty()) {
+			return;
+		}
+		List<ScoreKey> keys = new ArrayList<>(scores.keySet());
+		List<Object[]> updates = new ArrayList<>(keys.size());
+		for (ScoreKey key : keys) {
+			ScoreDelta d = scores.get(key);
+			updates.add(new Object[] {
+				d.attempts, d.scoreCount, d.scoreSum, d.min, d.min, d.max, d.max,
+				d.grades[0], d.grades[1], d.grades[2], d.grades[3], d.grades[4],
+				key.dimension().name(), key.dimensionKey(), key.language(), key.bucket().name(),
+				Date.valueOf(key.bucketStart())
+			});
+		}
+		int[] updated = jdbcTemplate.batchUpdate(UPDATE_SCORE, updates, UPDATE_SCORE_TYPES);
+
+		List<Object[]> inserts = new ArrayList<>();
+		for (int i = 0; i < keys.size(); i++) {
+			if (updated[i] > 0) {
+				continue;
+			}
+			ScoreKey key = keys.get(i);
+			ScoreDelta d = scores.get(key);
+			inserts.add(new Object[] {
+				key.dimension().name(), key.dimensionKey(), key.language(), key.bucket().name(),
+				Date.valueOf(key.bucketStart()), d.attempts, d.scoreCount, d.scoreSum, d.min, d.max,
+				d.grades[0], d.grades[1], d.grades[2], d.grades[3], d.grades[4]
+			});
+		}
+		if (!inserts.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_SCORE, inserts, INSERT_SCORE_TYPES);
+		}
+	}
+
+	private void writeWords(Map<WordKey, WordDelta> words) {
+		if (words.isEmpty()) {
+			return;
+		}
+		List<WordKey> keys = new ArrayList<>(words.keySet());
+		List<Object[]> updates = new ArrayList<>(keys.size());
+		for (WordKey key : keys) {
+			WordDelta d = words.get(key);
+			updates.add(new Object[] {
+				d.attempts, d.accuracyCount, d.accuracySum, d.incorrect,
+				key.scopeKey(), key.language(), key.word(), key.bucket().name(), Date.valueOf(key.bucketStart())
+			});
+		}
+		int[] updated = jdbcTemplate.batchUpdate(UPDATE_WORD, updates, UPDATE_WORD_TYPES);
+
+		List<Object[]> inserts = new ArrayList<>();
+		for (int i = 0; i < keys.size(); i++) {
+			if (updated[i] > 0) {
+				continue;
+			}
+			WordKey key = keys.get(i);
+			WordDelta d = words.get(key);
+			inserts.add(new Object[] {
+				key.scopeKey(), key.language(), key.word(), key.bucket().name(), Date.valueOf(key.bucketStart()),
+				d.attempts, d.accuracyCount, d.accuracySum, d.incorrect
+			});
+		}
+		if (!inserts.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_WORD, inserts, INSERT_WORD_TYPES);
+		}
+	}
+
+	/**
+	 * 단어 집계 키 정규화 (소문자, 앞뒤 문장부호 제거)
+	 */
+	static String normalizeWord(String word) {
+		if (word == null) {
+			return "";
+		}
+		String normalized = WORD_EDGE_PUNCTUATION.matcher(word.toLowerCase(Locale.ROOT)).replaceAll("");
+		return normalized.length() > 100 ? normalized.substring(0, 100) : normalized;
+	}
+
+	private static String truncate(String userId) {
+		return userId.length() > 64 ? userId.substring(0, 64) : userId;
+	}
+}
@@ -0,0 +1,81 @@
+package com.ai.ddaratalk.api.stats;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 단어 정확도 집계 (전체 또는 사용자별, 언어·단어·구간별 누적값)
+ */
+@Entity
+@Table(name = "word_rollup")
+@IdClass(WordRollup.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WordRollup {
+
+	/**
+	 * 전체 집계는 빈 문자열, 사용자별 집계는 사용자 ID
+	 */
+	@Id
+	@Column(name = "scope_key", length = 64)
+	private String scopeKey;
+
+	@Id
+	@Column(length = 8)
+	private String language;
+
+	@Id
+	@Column(length = 100)
+	private String word;
+
+	@Id
+	@Enumerated(EnumType.STRING)
+	@Column(name = "bucket_type", length = 8)
+	private RollupBucket bucketType;
+
+	@Id
+	@Column(name = "bucket_start")
+	private LocalDate bucketStart;
+
+	@Column(name = "attempt_count", nullable = false)
+	private long attemptCount;
+
+	/**
+	 * 정확도 값이 있는 시도 수 (평균 계산용)
+	 */
+	@Column(name = "accuracy_count", nullable = false)
+	private long accuracyCount;
+
+	@Column(name = "accuracy_sum", nullable = false)
+	private double accuracySum;
+
+	/**
+	 * correct가 아닌 상태(incorrect, missing 등)로 판정된 횟수
+	 */
+	@Column(name = "incorrect_count", nullable = false)
+	private long incorrectCount;
+
+	@EqualsAndHashCode
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Key implements Serializable {
+		private String scopeKey;
+		private String language;
+		private String word;
+		private RollupBucket bucketType;
+		private LocalDate bucketStart;
+	}
+}
@@ -0,0 +1,47 @@
+package com.ai.ddaratalk.api.stats;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 단어 정확도 집계 조회
+ */
+public interface WordRollupRepository extends JpaRepository<WordRollup, WordRollup.Key> {
+
+	/**
+	 * 기간 내 단어별 합계 (평균 정확도 오름차순)
+	 */
+	interface WordTotal {
+		String getWord();
+
+		long getAttempts();
+
+		long getAccuracyCount();
+
+		double getAccuracySum();
+
+		long getIncorrect();
+	}
+
+	@Query("""
+		SELECT w.word AS word, SUM(w.attemptCount) AS attempts, SUM(w.accuracyCount) AS accuracyCount,
+			SUM(w.accuracySum) AS accuracySum, SUM(w.incorrectCount) AS incorrect
+		FROM WordRollup w
+		WHERE w.scopeKey = :scopeKey AND w.language = :language AND w.bucketType = :bucketType
+			AND w.bucketStart >= :from
+		GROUP BY w.word
+		HAVING SUM(w.accuracyCount) >= :minAttempts
+		ORDER BY SUM(w.accuracySum) / SUM(w.accuracyCount), SUM(w.attemptCount) DESC""")
+	List<WordTotal> findWeakestWords(@Param("scopeKey") String scopeKey, @Param("language") String language,
+		@Param("bucketType") RollupBucket bucketType, @Param("from") LocalDate from,
+		@Param("minAttempts") long minAttempts, Limit limit);
+
+	List<WordRollup> findByScopeKeyAndLanguageAndBucketTypeAndBucketStartGreaterThanEqualAndWordInOrderByBucketStart(
+		String scopeKey, String language, RollupBucket bucketType, LocalDate from, Collection<String> words);
+}
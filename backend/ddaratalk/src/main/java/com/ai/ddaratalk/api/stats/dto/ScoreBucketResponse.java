@@ -0,0 +1,114 @@
+package com.ai.ddaratalk.api.stats.dto;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ai.ddaratalk.api.pronunciation.dto.PronunciationResult;
+import com.ai.ddaratalk.api.stats.ScoreRollup;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 구간별 점수 통계 DTO
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ScoreBucketResponse {
+
+	/**
+	 * 구간 시작일 (yyyy-MM-dd, 주별 구간은 월요일)
+	 */
+	private String bucketStart;
+
+	/**
+	 * 분석 시도 수
+	 */
+	private Long attempts;
+
+	/**
+	 * 평균 점수 (0.0 ~ 5.0)
+	 */
+	private Double averageScore;
+
+	/**
+	 * 평균 점수 백분율 (0 ~ 100)
+	 */
+	private Double averagePercentage;
+
+	/**
+	 * 평균 점수 등급 (A, B, C, D, F)
+	 */
+	private String grade;
+
+	/**
+	 * 최저 점수
+	 */
+	private Double minScore;
+
+	/**
+	 * 최고 점수
+	 */
+	private Double maxScore;
+
+	/**
+	 * 시도별 등급 분포 (A ~ F)
+	 */
+	private Map<String, Long> gradeCounts;
+
+	/**
+	 * 같은 구간의 집계 행을 합산 (사용자 전체 언어 합산 등)
+	 * @param bucketStart 구간 시작일 (기간 합계는 기간 시작일)
+	 * @param rows 합산할 집계 행
+	 */
+	public static ScoreBucketResponse from(LocalDate bucketStart, List<ScoreRollup> rows) {
+		long attempts = 0;
+		long scoreCount = 0;
+		double scoreSum = 0;
+		Double min = null;
+		Double max = null;
+		long[] grades = new long[5];
+		for (ScoreRollup row : rows) {
+			attempts += row.getAttemptCount();
+			scoreCount += row.getScoreCount();
+			scoreSum += row.getScoreSum();
+			if (row.getMinScore() != null) {
+				min = min == null ? row.getMinScore() : Math.min(min, row.getMinScore());
+			}
+			if (row.getMaxScore() != null) {
+				max = max == null ? row.getMaxScore() : Math.max(max, row.getMaxScore());
+			}
+			grades[0] += row.getGradeA();
+			grades[1] += row.getGradeB();
+			grades[2] += row.getGradeC();
+			grades[3] += row.getGradeD();
+			grades[4] += row.getGradeF();
+		}
+
+		// 평균 점수의 백분율/등급은 분석 결과 DTO와 같은 규칙 사용
+		PronunciationResult average = new PronunciationResult();
+		average.setScore(scoreCount > 0 ? scoreSum / scoreCount : null);
+
+		Map<String, Long> gradeCounts = new LinkedHashMap<>();
+		gradeCounts.put("A", grades[0]);
+		gradeCounts.put("B", grades[1]);
+		gradeCounts.put("C", grades[2]);
+		gradeCounts.put("D", grades[3]);
+		gradeCounts.put("F", grades[4]);
+
+		ScoreBucketResponse response = new ScoreBucketResponse();
+		response.setBucketStart(bucketStart.toString());
+		response.setAttempts(attempts);
+		response.setAverageScore(average.getScore());
+		response.setAveragePercentage(average.getScoreAsPercentage());
+		response.setGrade(average.getScoreGrade());
+		response.setMinScore(min);
+		response.setMaxScore(max);
+		response.setGradeCounts(gradeCounts);
+		return response;
+	}
+}
@@ -0,0 +1,52 @@
+package com.ai.ddaratalk.api.stats.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 점수 추이 DTO (언어/문장/사용자별)
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ScoreTrendResponse {
+
+	/**
+	 * 집계 기준 (LANGUAGE, SENTENCE, USER)
+	 */
+	private String dimension;
+
+	/**
+	 * 사용자 ID
+	 */
+	private String userId;
+
+	/**
+	 * 목표 텍스트
+	 */
+	private String targetText;
+
+	/**
+	 * 언어 코드 (사용자 전체 언어 합산이면 없음)
+	 */
+	private String language;
+
+	/**
+	 * 구간 단위 (DAILY, WEEKLY)
+	 */
+	private String bucket;
+
+	/**
+	 * 조회 기간 전체 합계
+	 */
+	private ScoreBucketResponse total;
+
+	/**
+	 * 구간별 통계 (시도가 있는 구간만, 오래된 순)
+	 */
+	private List<ScoreBucketResponse> buckets;
+}
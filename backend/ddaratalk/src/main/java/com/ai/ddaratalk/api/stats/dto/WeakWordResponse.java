@@ -0,0 +1,64 @@
+package com.ai.ddaratalk.api.stats.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 취약 단어 통계 DTO
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WeakWordResponse {
+
+	/**
+	 * 단어 (소문자, 앞뒤 문장부호 제거)
+	 */
+	private String word;
+
+	/**
+	 * 조회 기간 내 등장 횟수
+	 */
+	private Long attempts;
+
+	/**
+	 * 평균 정확도
+	 */
+	private Double averageAccuracy;
+
+	/**
+	 * correct가 아닌 판정 비율 (0.0 ~ 1.0)
+	 */
+	private Double incorrectRate;
+
+	/**
+	 * 구간별 평균 정확도 추이 (오래된 순)
+	 */
+	private List<TrendPoint> trend;
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class TrendPoint {
+
+		/**
+		 * 구간 시작일 (yyyy-MM-dd)
+		 */
+		private String bucketStart;
+
+		/**
+		 * 등장 횟수
+		 */
+		private Long attempts;
+
+		/**
+		 * 평균 정확도
+		 */
+		private Double averageAccuracy;
+	}
+}
@@ -0,0 +1,41 @@
+package com.ai.ddaratalk.common;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableScheduling
+public class AsyncConfig {
+
+	/**
+	 * 발음 분석 파이프라인 실행기
+	 * 모델 결과 대기는 스레드를 점유하지 않으므로 변환과 결과 파싱에 필요한 만큼만 크기를 잡는다.
+	 * app.pipeline.virtual-threads=true이면 작업마다 가상 스레드를 사용한다 (파이프라인 대부분이 블로킹 I/O).
+	 */
+	@Bean(name = "analysisExecutor")
+	public AsyncTaskExecutor analysisExecutor(
+		@Value("${app.pipeline.virtual-threads:false}") boolean virtualThreads,
+		@Value("${app.analysis.executor.core-size:4}") int coreSize,
+		@Value("${app.analysis.executor.max-size:8}") int maxSize,
+		@Value("${app.analysis.executor.queue-capacity:1000}") int queueCapacity) {
+
+		if (virtualThreads) {
+			SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("analysis-vt-");
+			executor.setVirtualThreads(true);
+			return executor;
+		}
+
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(coreSize); // 기본 스레드 수
+		executor.setMaxPoolSize(maxSize); // 큐가 가득 찼을 때 늘어날 최대 스레드 수
+		executor.setQueueCapacity(queueCapacity); // 대기 작업 수 상한 (초과 시 RejectedExecutionException)
+		executor.setThreadNamePrefix("analysis-");
+		executor.initialize();
+		return executor;
+	}
+}
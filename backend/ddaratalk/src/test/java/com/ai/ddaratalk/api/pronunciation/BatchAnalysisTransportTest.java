@@ -0,0 +1,205 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+
+class BatchAnalysisTransportTest {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	@TempDir
+	Path sharedDirectory;
+
+	private AnalysisResultWatcher resultWatcher;
+	private SharedDirectoryJanitor sharedDirectoryJanitor;
+	private BatchAnalysisTransport transport;
+
+	/**
+	 * 결과 파일명별 결과 대기 Future
+	 */
+	private final Map<String, CompletableFuture<Path>> watches = new ConcurrentHashMap<>();
+	private final List<AnalysisStage> stages = new CopyOnWriteArrayList<>();
+
+	@BeforeEach
+	void setUp() throws IOException {
+		Files.createDirectories(sharedDirectory.resolve("input"));
+		Files.createDirectories(sharedDirectory.resolve("output"));
+
+		resultWatcher = mock(AnalysisResultWatcher.class);
+		when(resultWatcher.watchResult(anyString(), any())).thenAnswer(invocation -> {
+			CompletableFuture<Path> watch = new CompletableFuture<>();
+			watches.put(invocation.getArgument(0), watch);
+			return watch;
+		});
+		PronunciationMetrics pronunciationMetrics = mock(PronunciationMetrics.class);
+		when(pronunciationMetrics.stage(any(), any())).thenReturn(Observation.NOOP);
+		sharedDirectoryJanitor = mock(SharedDirectoryJanitor.class);
+
+		transport = new BatchAnalysisTransport(resultWatcher, Runnable::run, new SimpleMeterRegistry(),
+			pronunciationMetrics, sharedDirectoryJanitor);
+		ReflectionTestUtils.setField(transport, "sharedDirectory", sharedDirectory.toString());
+		ReflectionTestUtils.setField(transport, "maxBatchSize", 2);
+		ReflectionTestUtils.setField(transport, "lingerMillis", 60_000L);
+		ReflectionTestUtils.setField(transport, "maxQueueDepth", 4);
+	}
+
+	@AfterEach
+	void tearDown() {
+		transport.stop();
+	}
+
+	@Test
+	void flushesImmediatelyWhenBatchIsFull() throws IOException {
+		exchange("a", "en", " hello ");
+		assertThat(manifests()).isEmpty();
+
+		exchange("b", "en", null);
+
+		JsonNode manifest = onlyManifest();
+		assertThat(manifest.path("lang").asText()).isEqualTo("en");
+		assertThat(manifest.path("items")).hasSize(2);
+		assertThat(manifest.path("items").get(0).path("id").asText()).isEqualTo("a");
+		assertThat(manifest.path("items").get(0).path("wav_file").asText()).isEqualTo("a.wav");
+		assertThat(manifest.path("items").get(0).path("target_text").asText()).isEqualTo("hello");
+		assertThat(manifest.path("items").get(1).has("target_text")).isFalse();
+		assertThat(stages).containsExactly(AnalysisStage.REQUEST_WRITTEN, AnalysisStage.REQUEST_WRITTEN);
+	}
+
+	@Test
+	void flushesPartialBatchAfterLinger() throws IOException {
+		ReflectionTestUtils.setField(transport, "lingerMillis", 20L);
+
+		exchange("a", "en", null);
+
+		// 매니페스트를 쓴 뒤 결과 대기를 시작함
+		verify(resultWatcher, timeout(5000)).watchResult(anyString(), any());
+		assertThat(onlyManifest().path("items")).hasSize(1);
+	}
+
+	@Test
+	void batchesEachLanguageSeparately() throws IOException {
+		exchange("a", "en", null);
+		exchange("b", "de", null);
+		exchange("c", "en", null);
+
+		JsonNode manifest = onlyManifest();
+		assertThat(manifest.path("lang").asText()).isEqualTo("en");
+		assertThat(manifest.path("items").findValuesAsText("id")).containsExactly("a", "c");
+	}
+
+	@Test
+	void deliversEachRequestItsOwnResult() throws IOException {
+		CompletableFuture<byte[]> first = exchange("a", "en", null);
+		CompletableFuture<byte[]> second = exchange("b", "en", null);
+		String batchId = onlyManifest().path("batch_id").asText();
+
+		completeBatch(batchId, "{\"batch_id\": \"" + batchId + "\", \"results\": ["
+			+ "{\"id\": \"b\", \"score\": 2.0}, {\"id\": \"a\", \"score\": 1.0}, {\"id\": \"x\", \"score\": 3.0}]}");
+
+		assertThat(OBJECT_MAPPER.readTree(first.join()).path("score").asDouble()).isEqualTo(1.0);
+		assertThat(OBJECT_MAPPER.readTree(second.join()).path("score").asDouble()).isEqualTo(2.0);
+		assertThat(manifests()).isEmpty();
+		assertThat(sharedDirectory.resolve("output").resolve(batchId + ".batch.result")).doesNotExist();
+		verify(sharedDirectoryJanitor).release(batchId);
+	}
+
+	@Test
+	void failsRequestMissingFromBatchResult() throws IOException {
+		CompletableFuture<byte[]> first = exchange("a", "en", null);
+		CompletableFuture<byte[]> second = exchange("b", "en", null);
+		String batchId = onlyManifest().path("batch_id").asText();
+
+		completeBatch(batchId, "{\"batch_id\": \"" + batchId + "\", \"results\": [{\"id\": \"a\", \"score\": 1.0}]}");
+
+		assertThat(first).isCompleted();
+		assertThatThrownBy(second::join).hasMessageContaining("b");
+	}
+
+	@Test
+	void failsWholeBatchWhenResultNeverArrives() throws IOException {
+		CompletableFuture<byte[]> first = exchange("a", "en", null);
+		CompletableFuture<byte[]> second = exchange("b", "en", null);
+		String batchId = onlyManifest().path("batch_id").asText();
+
+		watches.get(batchId + ".batch.result").completeExceptionally(new IllegalStateException("결과 대기 시간 초과"));
+
+		assertThat(first).isCompletedExceptionally();
+		assertThat(second).isCompletedExceptionally();
+		verify(sharedDirectoryJanitor).release(batchId);
+	}
+
+	@Test
+	void rejectsWhenLanguageQueueIsFull() {
+		ReflectionTestUtils.setField(transport, "maxBatchSize", 8);
+		for (int i = 0; i < 4; i++) {
+			exchange("r" + i, "en", null);
+		}
+
+		assertThatThrownBy(() -> exchange("r4", "en", null)).isInstanceOf(AnalysisRejectedException.class);
+		exchange("d0", "de", null);
+	}
+
+	@Test
+	void marksCancelledRequestForModel() {
+		CompletableFuture<byte[]> future = exchange("a", "en", null);
+
+		future.cancel(true);
+
+		verify(sharedDirectoryJanitor).markCancelled("a");
+	}
+
+	private CompletableFuture<byte[]> exchange(String id, String language, String targetText) {
+		AnalysisRequest request = new AnalysisRequest(id, sharedDirectory.resolve(id + ".wav"), language, targetText,
+			Duration.ofSeconds(30));
+		return transport.exchange(request, stages::add);
+	}
+
+	private void completeBatch(String batchId, String resultJson) throws IOException {
+		Path resultPath = sharedDirectory.resolve("output").resolve(batchId + ".batch.result");
+		Files.writeString(resultPath, resultJson);
+		watches.get(batchId + ".batch.result").complete(resultPath);
+	}
+
+	private List<Path> manifests() throws IOException {
+		List<Path> manifests = new ArrayList<>();
+		try (var files = Files.list(sharedDirectory.resolve("input"))) {
+			files.filter(path -> path.getFileName().toString().endsWith(".batch")).forEach(manifests::add);
+		}
+		return manifests;
+	}
+
+	private JsonNode onlyManifest() throws IOException {
+		List<Path> manifests = manifests();
+		assertThat(manifests).hasSize(1);
+		return OBJECT_MAPPER.readTree(manifests.get(0).toFile());
+	}
+}
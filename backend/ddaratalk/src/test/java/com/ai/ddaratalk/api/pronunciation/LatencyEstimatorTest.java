@@ -0,0 +1,136 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LatencyEstimatorTest {
+
+	private static final Duration MAX_DEADLINE = Duration.ofSeconds(30);
+
+	private SimpleMeterRegistry meterRegistry;
+	private LatencyEstimator estimator;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		estimator = new LatencyEstimator(meterRegistry);
+		ReflectionTestUtils.setField(estimator, "adaptive", true);
+		ReflectionTestUtils.setField(estimator, "minSamples", 5);
+		ReflectionTestUtils.setField(estimator, "deviationFactor", 4.0);
+		ReflectionTestUtils.setField(estimator, "minDeadlineSeconds", 1L);
+		ReflectionTestUtils.setField(estimator, "rejectHopeless", true);
+		ReflectionTestUtils.setField(estimator, "rejectWindowSeconds", 60L);
+	}
+
+	@Test
+	void usesFixedTimeoutUntilEnoughSamples() {
+		recordTimes("en", 3.0, 1000, 4);
+
+		LatencyEstimator.Estimate estimate = estimator.estimate("en", 3.0, MAX_DEADLINE);
+
+		assertThat(estimate.expectedWait()).isNull();
+		assertThat(estimate.deadline()).isEqualTo(MAX_DEADLINE);
+		assertThat(estimate.hopeless()).isFalse();
+	}
+
+	@Test
+	void deadlineIsMeanPlusScaledDeviation() {
+		recordTimes("en", 3.0, 1000, 5);
+
+		LatencyEstimator.Estimate estimate = estimator.estimate("en", 3.0, MAX_DEADLINE);
+
+		// 편차: 첫 표본 500ms에서 매번 0.8배 → 204.8ms, 마감 1000 + 4 × 204.8
+		assertThat(estimate.expectedWait()).isEqualTo(Duration.ofMillis(1000));
+		assertThat(estimate.deadline()).isEqualTo(Duration.ofMillis(1819));
+		assertThat(estimate.hopeless()).isFalse();
+	}
+
+	@Test
+	void clampsDeadlineToMinimum() {
+		ReflectionTestUtils.setField(estimator, "minDeadlineSeconds", 5L);
+		recordTimes("en", 3.0, 1000, 5);
+
+		assertThat(estimator.estimate("en", 3.0, MAX_DEADLINE).deadline()).isEqualTo(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void clampsDeadlineToMaximum() {
+		recordTimes("en", 3.0, 1000, 5);
+
+		LatencyEstimator.Estimate estimate = estimator.estimate("en", 3.0, Duration.ofMillis(1500));
+
+		assertThat(estimate.deadline()).isEqualTo(Duration.ofMillis(1500));
+		assertThat(estimate.hopeless()).isFalse();
+	}
+
+	@Test
+	void marksRequestHopelessWhenMeanExceedsMaximum() {
+		recordTimes("en", 3.0, 40_000, 5);
+
+		LatencyEstimator.Estimate estimate = estimator.estimate("en", 3.0, MAX_DEADLINE);
+
+		assertThat(estimate.hopeless()).isTrue();
+		assertThat(estimate.deadline()).isEqualTo(MAX_DEADLINE);
+	}
+
+	@Test
+	void doesNotMarkHopelessWhenDisabled() {
+		ReflectionTestUtils.setField(estimator, "rejectHopeless", false);
+		recordTimes("en", 3.0, 40_000, 5);
+
+		assertThat(estimator.estimate("en", 3.0, MAX_DEADLINE).hopeless()).isFalse();
+	}
+
+	@Test
+	void doesNotMarkHopelessWhenEstimateIsOutdated() {
+		ReflectionTestUtils.setField(estimator, "rejectWindowSeconds", 0L);
+		recordTimes("en", 3.0, 40_000, 5);
+
+		assertThat(estimator.estimate("en", 3.0, MAX_DEADLINE).hopeless()).isFalse();
+	}
+
+	@Test
+	void keepsFixedDeadlineWhenNotAdaptive() {
+		ReflectionTestUtils.setField(estimator, "adaptive", false);
+		recordTimes("en", 3.0, 40_000, 5);
+
+		LatencyEstimator.Estimate estimate = estimator.estimate("en", 3.0, MAX_DEADLINE);
+
+		assertThat(estimate.expectedWait()).isEqualTo(Duration.ofSeconds(40));
+		assertThat(estimate.deadline()).isEqualTo(MAX_DEADLINE);
+		assertThat(estimate.hopeless()).isFalse();
+	}
+
+	@Test
+	void keepsSeparateEstimatesPerLanguageAndDuration() {
+		recordTimes("en", 3.0, 1000, 5);
+
+		assertThat(estimator.estimate("en", 4.9, MAX_DEADLINE).expectedWait()).isEqualTo(Duration.ofMillis(1000));
+		assertThat(estimator.estimate("en", 5.0, MAX_DEADLINE).expectedWait()).isNull();
+		assertThat(estimator.estimate("de", 3.0, MAX_DEADLINE).expectedWait()).isNull();
+		assertThat(meterRegistry.get("pronunciation.latency.estimate").tag("lang", "en").tag("duration", "0-5s")
+			.gauge().value()).isEqualTo(1000.0);
+	}
+
+	@Test
+	void bucketsByAudioDuration() {
+		assertThat(LatencyEstimator.bucketOf(0)).isEqualTo("0-5s");
+		assertThat(LatencyEstimator.bucketOf(5)).isEqualTo("5-10s");
+		assertThat(LatencyEstimator.bucketOf(19.9)).isEqualTo("10-20s");
+		assertThat(LatencyEstimator.bucketOf(39.9)).isEqualTo("20-40s");
+		assertThat(LatencyEstimator.bucketOf(40)).isEqualTo("40s+");
+	}
+
+	private void recordTimes(String language, double audioSeconds, long millis, int times) {
+		for (int i = 0; i < times; i++) {
+			estimator.record(language, audioSeconds, Duration.ofMillis(millis));
+		}
+	}
+}
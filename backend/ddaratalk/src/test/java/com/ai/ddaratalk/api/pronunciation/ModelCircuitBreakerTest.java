@@ -0,0 +1,198 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ModelCircuitBreakerTest {
+
+	private static final long STALE_MILLIS = 10_000;
+
+	@TempDir
+	Path sharedDirectory;
+
+	@Test
+	void closedCircuitIssuesRegularPermits() {
+		ModelCircuitBreaker breaker = breaker(3, 60_000);
+
+		ModelCircuitBreaker.Permit permit = breaker.tryAcquire();
+
+		assertThat(permit).isNotNull();
+		assertThat(permit.isProbe()).isFalse();
+		assertThat(breaker.getState()).isEqualTo(ModelCircuitBreaker.State.CLOSED);
+		assertThat(breaker.isAvailable()).isTrue();
+	}
+
+	@Test
+	void opensAfterConsecutiveFailures() {
+		ModelCircuitBreaker breaker = breaker(3, 60_000);
+
+		for (int i = 0; i < 3; i++) {
+			breaker.tryAcquire().recordFailure();
+		}
+
+		assertThat(breaker.getState()).isEqualTo(ModelCircuitBreaker.State.OPEN);
+		assertThat(breaker.tryAcquire()).isNull();
+		assertThat(breaker.isAvailable()).isFalse();
+		assertThat(breaker.getRetryAfterSeconds()).isBetween(1L, 60L);
+	}
+
+	@Test
+	void successResetsConsecutiveFailures() {
+		ModelCircuitBreaker breaker = breaker(3, 60_000);
+
+		breaker.tryAcquire().recordFailure();
+		breaker.tryAcquire().recordFailure();
+		breaker.tryAcquire().recordSuccess();
+		breaker.tryAcquire().recordFailure();
+		breaker.tryAcquire().recordFailure();
+
+		assertThat(breaker.getState()).isEqualTo(ModelCircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	void repeatedReportsFromOnePermitCountOnce() {
+		ModelCircuitBreaker breaker = breaker(2, 60_000);
+
+		ModelCircuitBreaker.Permit permit = breaker.tryAcquire();
+		permit.recordFailure();
+		permit.recordFailure();
+
+		assertThat(breaker.getState()).isEqualTo(ModelCircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	void halfOpenAllowsSingleProbeThatClosesOnSuccess() {
+		ModelCircuitBreaker breaker = breaker(1, 0);
+		breaker.tryAcquire().recordFailure();
+
+		ModelCircuitBreaker.Permit probe = breaker.tryAcquire();
+
+		assertThat(probe).isNotNull();
+		assertThat(probe.isProbe()).isTrue();
+		assertThat(breaker.getState()).isEqualTo(ModelCircuitBreaker.State.HALF_OPEN);
+		assertThat(breaker.tryAcquire()).isNull();
+		assertThat(breaker.isAvailable()).isFalse();
+
+		probe.recordSuccess();
+
+		assertThat(breaker.getState()).isEqualTo(ModelCircuitBreaker.State.CLOSED);
+		assertThat(breaker.tryAcquire().isProbe()).isFalse();
+	}
+
+	@Test
+	void probeFailureReopensCircuit() {
+		ModelCircuitBreaker breaker = breaker(3, 0);
+		tripByFailures(breaker, 3);
+
+		breaker.tryAcquire().recordFailure();
+
+		assertThat(breaker.getState()).isEqualTo(ModelCircuitBreaker.State.OPEN);
+	}
+
+	@Test
+	void releasedProbeLetsNextProbeThrough() {
+		ModelCircuitBreaker breaker = breaker(1, 0);
+		breaker.tryAcquire().recordFailure();
+
+		breaker.tryAcquire().release();
+
+		ModelCircuitBreaker.Permit next = breaker.tryAcquire();
+		assertThat(next).isNotNull();
+		assertThat(next.isProbe()).isTrue();
+		assertThat(breaker.getState()).isEqualTo(ModelCircuitBreaker.State.HALF_OPEN);
+	}
+
+	@Test
+	void lateSuccessFromBeforeTripDoesNotCloseOrFreeProbe() {
+		ModelCircuitBreaker breaker = breaker(1, 0);
+		ModelCircuitBreaker.Permit late = breaker.tryAcquire();
+		breaker.tryAcquire().recordFailure();
+		ModelCircuitBreaker.Permit probe = breaker.tryAcquire();
+
+		late.recordSuccess();
+
+		// 시험 요청이 아직 진행 중이므로 반열림 유지, 새 시험 요청도 허가하지 않음
+		assertThat(breaker.getState()).isEqualTo(ModelCircuitBreaker.State.HALF_OPEN);
+		assertThat(breaker.tryAcquire()).isNull();
+
+		probe.recordSuccess();
+		assertThat(breaker.getState()).isEqualTo(ModelCircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	void lateFailureFromBeforeTripDoesNotReopen() {
+		ModelCircuitBreaker breaker = breaker(1, 0);
+		ModelCircuitBreaker.Permit late = breaker.tryAcquire();
+		breaker.tryAcquire().recordFailure();
+		ModelCircuitBreaker.Permit probe = breaker.tryAcquire();
+
+		late.recordFailure();
+		late.release();
+
+		assertThat(breaker.getState()).isEqualTo(ModelCircuitBreaker.State.HALF_OPEN);
+		probe.recordSuccess();
+		assertThat(breaker.getState()).isEqualTo(ModelCircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	void outcomeFromBeforeRecoveryDoesNotCountAfterClose() {
+		ModelCircuitBreaker breaker = breaker(1, 0);
+		ModelCircuitBreaker.Permit late = breaker.tryAcquire();
+		breaker.tryAcquire().recordFailure();
+		breaker.tryAcquire().recordSuccess();
+
+		late.recordFailure();
+
+		assertThat(breaker.getState()).isEqualTo(ModelCircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	void staleHeartbeatOpensCircuit() throws IOException {
+		writeHeartbeat(System.currentTimeMillis() - STALE_MILLIS * 2, "running");
+		ModelCircuitBreaker breaker = breaker(3, 60_000);
+
+		assertThat(breaker.isAvailable()).isFalse();
+		assertThat(breaker.tryAcquire()).isNull();
+		assertThat(breaker.getState()).isEqualTo(ModelCircuitBreaker.State.OPEN);
+	}
+
+	@Test
+	void stoppedHeartbeatOpensCircuit() throws IOException {
+		writeHeartbeat(System.currentTimeMillis(), "stopped");
+		ModelCircuitBreaker breaker = breaker(3, 60_000);
+
+		assertThat(breaker.tryAcquire()).isNull();
+		assertThat(breaker.getState()).isEqualTo(ModelCircuitBreaker.State.OPEN);
+	}
+
+	@Test
+	void freshHeartbeatKeepsCircuitClosed() throws IOException {
+		writeHeartbeat(System.currentTimeMillis(), "running");
+		ModelCircuitBreaker breaker = breaker(3, 60_000);
+
+		assertThat(breaker.tryAcquire()).isNotNull();
+		assertThat(breaker.getHeartbeatAgeSeconds()).isBetween(0.0, 5.0);
+	}
+
+	private ModelCircuitBreaker breaker(int failureThreshold, long openMillis) {
+		return new ModelCircuitBreaker("test", sharedDirectory.toString(), STALE_MILLIS, failureThreshold,
+			openMillis);
+	}
+
+	private static void tripByFailures(ModelCircuitBreaker breaker, int failures) {
+		for (int i = 0; i < failures; i++) {
+			breaker.tryAcquire().recordFailure();
+		}
+	}
+
+	private void writeHeartbeat(long timestampMillis, String status) throws IOException {
+		Files.writeString(sharedDirectory.resolve("heartbeat.json"),
+			"{\"timestamp\": " + timestampMillis / 1000.0 + ", \"status\": \"" + status + "\"}");
+	}
+}
@@ -0,0 +1,219 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ModelJobSchedulerTest {
+
+	private static final long MIN_REMAINING_MILLIS = 500;
+
+	private SimpleMeterRegistry meterRegistry;
+	private ModelJobScheduler scheduler;
+
+	/**
+	 * 모델에 전달된 요청 (전달 순서대로)
+	 */
+	private final List<AnalysisRequest> dispatched = new CopyOnWriteArrayList<>();
+	private final Map<String, CompletableFuture<byte[]>> exchanges = new ConcurrentHashMap<>();
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		scheduler = new ModelJobScheduler(Runnable::run, meterRegistry);
+		ReflectionTestUtils.setField(scheduler, "enabled", true);
+		ReflectionTestUtils.setField(scheduler, "maxInFlight", 1);
+		ReflectionTestUtils.setField(scheduler, "minRemainingMillis", MIN_REMAINING_MILLIS);
+		ReflectionTestUtils.setField(scheduler, "retryAfterSeconds", 2L);
+	}
+
+	@Test
+	void queuesRequestsBeyondMaxInFlight() {
+		ReflectionTestUtils.setField(scheduler, "maxInFlight", 2);
+
+		submit("a", AnalysisPriority.INTERACTIVE, "u1", 30);
+		submit("b", AnalysisPriority.INTERACTIVE, "u2", 30);
+		submit("c", AnalysisPriority.INTERACTIVE, "u3", 30);
+
+		assertThat(dispatchedIds()).containsExactly("a", "b");
+		assertThat(gauge("pronunciation.scheduler.in.flight")).isEqualTo(2);
+		assertThat(gauge("pronunciation.scheduler.pending")).isEqualTo(1);
+
+		exchanges.get("a").complete(new byte[0]);
+
+		assertThat(dispatchedIds()).containsExactly("a", "b", "c");
+		assertThat(gauge("pronunciation.scheduler.pending")).isZero();
+	}
+
+	@Test
+	void completesWithModelResult() {
+		CompletableFuture<byte[]> result = submit("a", AnalysisPriority.INTERACTIVE, "u1", 30);
+
+		exchanges.get("a").complete(new byte[] {1, 2});
+
+		assertThat(result.join()).containsExactly(1, 2);
+		assertThat(gauge("pronunciation.scheduler.in.flight")).isZero();
+	}
+
+	@Test
+	void dispatchesInteractiveBeforeBulk() {
+		submit("blocker", AnalysisPriority.INTERACTIVE, "u1", 30);
+		submit("bulk", AnalysisPriority.BULK, "u2", 10);
+		submit("interactive", AnalysisPriority.INTERACTIVE, "u3", 60);
+
+		exchanges.get("blocker").complete(new byte[0]);
+
+		assertThat(dispatchedIds()).containsExactly("blocker", "interactive");
+	}
+
+	@Test
+	void dispatchesEarliestDeadlineFirst() {
+		submit("blocker", AnalysisPriority.INTERACTIVE, "u1", 30);
+		submit("late", AnalysisPriority.INTERACTIVE, "u2", 60);
+		submit("early", AnalysisPriority.INTERACTIVE, "u2", 20);
+
+		exchanges.get("blocker").complete(new byte[0]);
+		exchanges.get("early").complete(new byte[0]);
+
+		assertThat(dispatchedIds()).containsExactly("blocker", "early", "late");
+	}
+
+	@Test
+	void prefersTenantWithFewerRequestsInFlight() {
+		ReflectionTestUtils.setField(scheduler, "maxInFlight", 2);
+		submit("u1-first", AnalysisPriority.INTERACTIVE, "u1", 30);
+		submit("u1-second", AnalysisPriority.INTERACTIVE, "u1", 30);
+		submit("u1-third", AnalysisPriority.INTERACTIVE, "u1", 10);
+		submit("u2-first", AnalysisPriority.INTERACTIVE, "u2", 60);
+
+		exchanges.get("u1-first").complete(new byte[0]);
+
+		// u1은 아직 하나를 진행 중이므로 마감 시각이 늦어도 u2의 요청을 먼저 전달
+		assertThat(dispatchedIds()).containsExactly("u1-first", "u1-second", "u2-first");
+	}
+
+	@Test
+	void passesRemainingTimeToDispatcher() {
+		submit("blocker", AnalysisPriority.INTERACTIVE, "u1", 30);
+		submit("queued", AnalysisPriority.INTERACTIVE, "u1", 30);
+
+		exchanges.get("blocker").complete(new byte[0]);
+
+		Duration timeout = dispatched.get(1).timeout();
+		assertThat(timeout).isLessThanOrEqualTo(Duration.ofSeconds(30));
+		assertThat(timeout).isGreaterThan(Duration.ofSeconds(29));
+	}
+
+	@Test
+	void expiresQueuedRequestPastDeadline() {
+		submit("blocker", AnalysisPriority.INTERACTIVE, "u1", 30);
+		CompletableFuture<byte[]> queued = submit("queued", AnalysisPriority.INTERACTIVE, "u2",
+			Duration.ofMillis(MIN_REMAINING_MILLIS + 50));
+
+		assertThatThrownBy(() -> queued.get(5, TimeUnit.SECONDS))
+			.isInstanceOf(ExecutionException.class)
+			.hasCauseInstanceOf(AnalysisRejectedException.class);
+		assertThat(gauge("pronunciation.scheduler.pending")).isZero();
+		assertThat(meterRegistry.get("pronunciation.scheduler.dropped").tag("reason", "expired").counter().count())
+			.isEqualTo(1);
+
+		exchanges.get("blocker").complete(new byte[0]);
+		assertThat(dispatchedIds()).containsExactly("blocker");
+	}
+
+	@Test
+	void removesCancelledRequestFromQueue() {
+		submit("blocker", AnalysisPriority.INTERACTIVE, "u1", 30);
+		CompletableFuture<byte[]> queued = submit("queued", AnalysisPriority.INTERACTIVE, "u2", 30);
+
+		queued.cancel(true);
+
+		assertThat(gauge("pronunciation.scheduler.pending")).isZero();
+		assertThat(meterRegistry.get("pronunciation.scheduler.dropped").tag("reason", "cancelled").counter().count())
+			.isEqualTo(1);
+
+		exchanges.get("blocker").complete(new byte[0]);
+		assertThat(dispatchedIds()).containsExactly("blocker");
+	}
+
+	@Test
+	void cancellingDispatchedRequestCancelsExchangeAndFreesSlot() {
+		CompletableFuture<byte[]> running = submit("running", AnalysisPriority.INTERACTIVE, "u1", 30);
+		submit("queued", AnalysisPriority.INTERACTIVE, "u2", 30);
+
+		running.cancel(true);
+
+		assertThat(exchanges.get("running")).isCancelled();
+		assertThat(dispatchedIds()).containsExactly("running", "queued");
+	}
+
+	@Test
+	void dispatcherFailureFailsRequestAndFreesSlot() {
+		CompletableFuture<byte[]> failing = scheduler.submit(request("failing", Duration.ofSeconds(30)),
+			AnalysisPriority.INTERACTIVE, "u1", request -> {
+				throw new IllegalStateException("전송 실패");
+			});
+
+		assertThat(failing).isCompletedExceptionally();
+		assertThatThrownBy(failing::join).hasCauseInstanceOf(IllegalStateException.class);
+		assertThat(gauge("pronunciation.scheduler.in.flight")).isZero();
+
+		submit("next", AnalysisPriority.INTERACTIVE, "u1", 30);
+		assertThat(dispatchedIds()).containsExactly("next");
+	}
+
+	@Test
+	void passesThroughWhenDisabled() {
+		ReflectionTestUtils.setField(scheduler, "enabled", false);
+
+		submit("a", AnalysisPriority.BULK, "u1", 30);
+		submit("b", AnalysisPriority.BULK, "u1", 30);
+
+		assertThat(dispatchedIds()).containsExactly("a", "b");
+		assertThat(dispatched.get(1).timeout()).isEqualTo(Duration.ofSeconds(30));
+	}
+
+	private CompletableFuture<byte[]> submit(String id, AnalysisPriority priority, String tenantId,
+		long timeoutSeconds) {
+		return submit(id, priority, tenantId, Duration.ofSeconds(timeoutSeconds));
+	}
+
+	private CompletableFuture<byte[]> submit(String id, AnalysisPriority priority, String tenantId,
+		Duration timeout) {
+		return scheduler.submit(request(id, timeout), priority, tenantId, this::dispatch);
+	}
+
+	private CompletableFuture<byte[]> dispatch(AnalysisRequest request) {
+		CompletableFuture<byte[]> exchange = new CompletableFuture<>();
+		exchanges.put(request.id(), exchange);
+		dispatched.add(request);
+		return exchange;
+	}
+
+	private List<String> dispatchedIds() {
+		return dispatched.stream().map(AnalysisRequest::id).toList();
+	}
+
+	private double gauge(String name) {
+		return meterRegistry.get(name).gauge().value();
+	}
+
+	private static AnalysisRequest request(String id, Duration timeout) {
+		return new AnalysisRequest(id, Path.of(id + ".wav"), "en", "hello", timeout);
+	}
+}
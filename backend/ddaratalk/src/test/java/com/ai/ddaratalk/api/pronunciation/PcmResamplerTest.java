@@ -0,0 +1,96 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+class PcmResamplerTest {
+
+	@Test
+	void returnsInputForSameRate() {
+		float[] input = {0.1f, 0.2f};
+
+		assertThat(PcmResampler.resample(input, 16000, 16000)).isSameAs(input);
+	}
+
+	@Test
+	void scalesLengthByRateRatio() {
+		assertThat(PcmResampler.resample(new float[48000], 48000, 16000)).hasSize(16000);
+		assertThat(PcmResampler.resample(new float[44100], 44100, 16000)).hasSize(16000);
+		assertThat(PcmResampler.resample(new float[8000], 8000, 16000)).hasSize(16000);
+		assertThat(PcmResampler.resample(new float[10], 48000, 16000)).hasSize(4);
+	}
+
+	@Test
+	void preservesDcLevel() {
+		float[] input = new float[4800];
+		Arrays.fill(input, 0.5f);
+
+		float[] output = PcmResampler.resample(input, 48000, 16000);
+
+		// 필터가 입력 경계에 걸리지 않는 가운데 구간
+		for (int i = 200; i < output.length - 200; i++) {
+			assertThat(output[i]).isCloseTo(0.5f, within(0.005f));
+		}
+	}
+
+	@Test
+	void keepsPassbandToneAndAlignsPhase() {
+		float[] input = sine(1000, 48000, 4800);
+
+		float[] output = PcmResampler.resample(input, 48000, 16000);
+
+		assertThat(rms(output, 200, output.length - 200)).isCloseTo(Math.sqrt(0.5), within(0.01));
+		float[] expected = sine(1000, 16000, output.length);
+		// 필터 길이가 짝수면 업샘플링 레이트 기준 반 샘플 이내의 지연이 남음
+		for (int i = 200; i < output.length - 200; i++) {
+			assertThat(output[i]).isCloseTo(expected[i], within(0.08f));
+		}
+	}
+
+	@Test
+	void removesToneAboveOutputNyquist() {
+		float[] input = sine(12000, 48000, 4800);
+
+		float[] output = PcmResampler.resample(input, 48000, 16000);
+
+		assertThat(rms(output, 200, output.length - 200)).isLessThan(0.01);
+	}
+
+	@Test
+	void upsamplesWithoutLosingTone() {
+		float[] input = sine(1000, 8000, 800);
+
+		float[] output = PcmResampler.resample(input, 8000, 16000);
+
+		assertThat(rms(output, 200, output.length - 200)).isCloseTo(Math.sqrt(0.5), within(0.01));
+	}
+
+	@Test
+	void supportsOnlyReasonableRatios() {
+		assertThat(PcmResampler.supports(44100, 16000)).isTrue();
+		assertThat(PcmResampler.supports(22050, 16000)).isTrue();
+		assertThat(PcmResampler.supports(48000, 16000)).isTrue();
+		assertThat(PcmResampler.supports(16001, 16000)).isFalse();
+		assertThat(PcmResampler.supports(0, 16000)).isFalse();
+	}
+
+	private static float[] sine(double frequency, int sampleRate, int length) {
+		float[] samples = new float[length];
+		for (int i = 0; i < length; i++) {
+			samples[i] = (float) Math.sin(2 * Math.PI * frequency * i / sampleRate);
+		}
+		return samples;
+	}
+
+	private static double rms(float[] samples, int from, int to) {
+		double sum = 0;
+		for (int i = from; i < to; i++) {
+			sum += samples[i] * samples[i];
+		}
+		return Math.sqrt(sum / (to - from));
+	}
+}
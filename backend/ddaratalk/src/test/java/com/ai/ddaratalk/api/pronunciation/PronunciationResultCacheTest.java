@@ -0,0 +1,168 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.ai.ddaratalk.api.pronunciation.dto.PronunciationResult;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PronunciationResultCacheTest {
+
+	private PronunciationResultCache cache;
+
+	@BeforeEach
+	void setUp() {
+		cache = new PronunciationResultCache(new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(cache, "enabled", true);
+		ReflectionTestUtils.setField(cache, "maxBytes", 1024L * 1024);
+		ReflectionTestUtils.setField(cache, "ttlSeconds", 3600L);
+	}
+
+	@Test
+	void concurrentLoadsShareOneModelCall() {
+		AtomicInteger loads = new AtomicInteger();
+		CompletableFuture<PronunciationResult> loading = new CompletableFuture<>();
+
+		CompletableFuture<PronunciationResult> first = cache.getOrLoad("key", () -> {
+			loads.incrementAndGet();
+			return loading;
+		});
+		CompletableFuture<PronunciationResult> second = cache.getOrLoad("key", () -> {
+			loads.incrementAndGet();
+			return new CompletableFuture<>();
+		});
+
+		assertThat(loads).hasValue(1);
+		assertThat(first).isNotDone();
+		assertThat(second).isNotDone();
+
+		loading.complete(result(4.5));
+
+		assertThat(first.join().getScore()).isEqualTo(4.5);
+		assertThat(second.join().getScore()).isEqualTo(4.5);
+		// 함께 기다린 호출자는 복사본을 받음
+		assertThat(second.join()).isNotSameAs(first.join());
+		assertThat(cache.getEntryCount()).isEqualTo(1);
+	}
+
+	@Test
+	void cachedResultIsReturnedWithoutLoading() {
+		cache.put("key", result(3.0));
+		AtomicInteger loads = new AtomicInteger();
+
+		PronunciationResult cached = cache.getOrLoad("key", () -> {
+			loads.incrementAndGet();
+			return new CompletableFuture<>();
+		}).join();
+
+		assertThat(loads).hasValue(0);
+		assertThat(cached.getScore()).isEqualTo(3.0);
+	}
+
+	@Test
+	void cancellingOneWaiterKeepsModelCall() {
+		CompletableFuture<PronunciationResult> loading = new CompletableFuture<>();
+		CompletableFuture<PronunciationResult> first = cache.getOrLoad("key", () -> loading);
+		CompletableFuture<PronunciationResult> second = cache.getOrLoad("key", CompletableFuture::new);
+
+		first.cancel(true);
+		assertThat(loading).isNotCancelled();
+
+		loading.complete(result(2.0));
+		assertThat(second.join().getScore()).isEqualTo(2.0);
+	}
+
+	@Test
+	void cancellingLastWaiterCancelsModelCall() {
+		CompletableFuture<PronunciationResult> loading = new CompletableFuture<>();
+		CompletableFuture<PronunciationResult> first = cache.getOrLoad("key", () -> loading);
+		CompletableFuture<PronunciationResult> second = cache.getOrLoad("key", CompletableFuture::new);
+
+		first.cancel(true);
+		second.cancel(true);
+
+		assertThat(loading).isCancelled();
+		assertThat(cache.getEntryCount()).isZero();
+	}
+
+	@Test
+	void failedLoadIsNotCachedAndCanBeRetried() {
+		CompletableFuture<PronunciationResult> failed = cache.getOrLoad("key",
+			() -> CompletableFuture.failedFuture(new IllegalStateException("model error")));
+		assertThat(failed).isCompletedExceptionally();
+
+		PronunciationResult retried = cache.getOrLoad("key",
+			() -> CompletableFuture.completedFuture(result(1.0))).join();
+		assertThat(retried.getScore()).isEqualTo(1.0);
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedWhenOverByteLimit() {
+		cache.put("a", result(1.0));
+		long entryBytes = cache.getCurrentBytes();
+		ReflectionTestUtils.setField(cache, "maxBytes", entryBytes * 2);
+
+		cache.put("b", result(2.0));
+		// a를 사용해 b가 가장 오래 사용하지 않은 항목이 되도록
+		assertThat(loadCount("a")).isZero();
+		cache.put("c", result(3.0));
+
+		assertThat(cache.getEntryCount()).isEqualTo(2);
+		assertThat(cache.getCurrentBytes()).isLessThanOrEqualTo(entryBytes * 2);
+		assertThat(loadCount("a")).isZero();
+		assertThat(loadCount("c")).isZero();
+		assertThat(loadCount("b")).isEqualTo(1);
+	}
+
+	@Test
+	void skipsResultLargerThanCache() {
+		ReflectionTestUtils.setField(cache, "maxBytes", 8L);
+
+		cache.put("key", result(1.0));
+
+		assertThat(cache.getEntryCount()).isZero();
+		assertThat(cache.getCurrentBytes()).isZero();
+	}
+
+	@Test
+	void expiredEntryIsReloaded() throws InterruptedException {
+		ReflectionTestUtils.setField(cache, "ttlSeconds", 0L);
+		cache.put("key", result(1.0));
+		Thread.sleep(5);
+
+		assertThat(loadCount("key")).isEqualTo(1);
+	}
+
+	@Test
+	void normalizesTargetText() {
+		assertThat(PronunciationResultCache.normalizeText("  Hello,   WORLD! "))
+			.isEqualTo(PronunciationResultCache.normalizeText("hello world"));
+		assertThat(PronunciationResultCache.normalizeText(null)).isEmpty();
+	}
+
+	/**
+	 * 키를 조회하며 loader가 호출된 횟수 (적중이면 0)
+	 */
+	private int loadCount(String key) {
+		AtomicInteger loads = new AtomicInteger();
+		cache.getOrLoad(key, () -> {
+			loads.incrementAndGet();
+			return CompletableFuture.completedFuture(result(0.5));
+		}).join();
+		return loads.get();
+	}
+
+	private static PronunciationResult result(double score) {
+		PronunciationResult result = new PronunciationResult();
+		result.setScore(score);
+		result.setStatus("success");
+		return result;
+	}
+}
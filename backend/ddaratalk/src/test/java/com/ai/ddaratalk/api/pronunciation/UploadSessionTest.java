@@ -0,0 +1,187 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.http.HttpStatus;
+
+class UploadSessionTest {
+
+	private static final int MAX_PENDING_CHUNKS = 2;
+	private static final long MAX_SESSION_BYTES = 1024;
+
+	private AudioConversionService.StreamingConversion conversion;
+	private AtomicInteger closed;
+	private UploadSession session;
+
+	@BeforeEach
+	void setUp() {
+		conversion = mock(AudioConversionService.StreamingConversion.class);
+		closed = new AtomicInteger();
+		session = new UploadSession("s1", "en", "hello", "u1", conversion, closed::incrementAndGet);
+	}
+
+	@Test
+	void feedsChunksInOrder() throws IOException {
+		byte[] first = chunk(1, 10);
+		byte[] second = chunk(2, 20);
+
+		assertThat(accept(0, first)).isTrue();
+		assertThat(accept(1, second)).isTrue();
+
+		InOrder order = inOrder(conversion);
+		order.verify(conversion).write(first);
+		order.verify(conversion).write(second);
+		assertThat(session.getNextChunk()).isEqualTo(2);
+		assertThat(session.getReceivedBytes()).isEqualTo(30);
+	}
+
+	@Test
+	void buffersOutOfOrderChunksUntilGapIsFilled() throws IOException {
+		byte[] first = chunk(1, 10);
+		byte[] second = chunk(2, 10);
+		byte[] third = chunk(3, 10);
+
+		accept(2, third);
+		accept(1, second);
+
+		verify(conversion, never()).write(any());
+		assertThat(session.getNextChunk()).isZero();
+		assertThat(session.getPendingChunks()).containsExactly(1, 2);
+
+		accept(0, first);
+
+		InOrder order = inOrder(conversion);
+		order.verify(conversion).write(first);
+		order.verify(conversion).write(second);
+		order.verify(conversion).write(third);
+		assertThat(session.getNextChunk()).isEqualTo(3);
+		assertThat(session.getPendingChunks()).isEmpty();
+	}
+
+	@Test
+	void resendWithSameContentIsAcknowledgedOnce() throws IOException {
+		byte[] fed = chunk(1, 10);
+		byte[] buffered = chunk(3, 10);
+		accept(0, fed);
+		accept(2, buffered);
+
+		assertThat(accept(0, fed.clone())).isFalse();
+		assertThat(accept(2, buffered.clone())).isFalse();
+
+		verify(conversion, times(1)).write(any());
+		assertThat(session.getReceivedBytes()).isEqualTo(20);
+	}
+
+	@Test
+	void resendWithDifferentContentConflicts() {
+		accept(0, chunk(1, 10));
+		accept(2, chunk(3, 10));
+
+		assertStatus(() -> accept(0, chunk(9, 10)), HttpStatus.CONFLICT);
+		assertStatus(() -> accept(0, chunk(1, 11)), HttpStatus.CONFLICT);
+		assertStatus(() -> accept(2, chunk(9, 10)), HttpStatus.CONFLICT);
+		assertThat(session.getReceivedBytes()).isEqualTo(20);
+	}
+
+	@Test
+	void rejectsChunkTooFarAhead() {
+		assertStatus(() -> accept(MAX_PENDING_CHUNKS + 1, chunk(1, 10)), HttpStatus.CONFLICT);
+		assertThat(accept(MAX_PENDING_CHUNKS, chunk(1, 10))).isTrue();
+	}
+
+	@Test
+	void rejectsChunkOverSessionLimit() {
+		accept(0, chunk(1, (int) MAX_SESSION_BYTES - 10));
+
+		assertStatus(() -> accept(1, chunk(2, 11)), HttpStatus.PAYLOAD_TOO_LARGE);
+		assertThat(accept(1, chunk(2, 10))).isTrue();
+	}
+
+	@Test
+	void conversionFailureFailsSessionOnce() throws IOException {
+		byte[] broken = chunk(1, 10);
+		doThrow(new IOException("Broken pipe")).when(conversion).write(broken);
+
+		assertStatus(() -> accept(0, broken), HttpStatus.UNPROCESSABLE_ENTITY);
+
+		verify(conversion).abort();
+		assertThat(session.getStatus()).isEqualTo(UploadSession.Status.FAILED);
+		assertThat(session.getError()).isEqualTo("Broken pipe");
+		assertThat(closed).hasValue(1);
+		assertStatus(() -> accept(1, chunk(2, 10)), HttpStatus.CONFLICT);
+		assertThat(session.abort(mock(AudioConversionService.class))).isFalse();
+		assertThat(closed).hasValue(1);
+	}
+
+	@Test
+	void finishRequiresEveryChunk() throws Exception {
+		accept(0, chunk(1, 10));
+		accept(2, chunk(3, 10));
+
+		assertStatus(() -> session.finishConversion(null), HttpStatus.CONFLICT);
+		accept(1, chunk(2, 10));
+		assertStatus(() -> session.finishConversion(4), HttpStatus.CONFLICT);
+
+		when(conversion.finish()).thenReturn("/tmp/s1.wav");
+		assertThat(session.finishConversion(3)).isEqualTo("/tmp/s1.wav");
+		assertThat(session.finishConversion(3)).isEqualTo("/tmp/s1.wav");
+		verify(conversion, times(1)).finish();
+		assertThat(session.getStatus()).isEqualTo(UploadSession.Status.CONVERTED);
+		assertThat(closed).hasValue(0);
+
+		session.markCompleted("job-1");
+
+		assertThat(session.getStatus()).isEqualTo(UploadSession.Status.COMPLETED);
+		assertThat(session.getJobId()).isEqualTo("job-1");
+		assertThat(closed).hasValue(1);
+	}
+
+	@Test
+	void abortClosesSessionOnce() {
+		accept(0, chunk(1, 10));
+		AudioConversionService audioConversionService = mock(AudioConversionService.class);
+
+		assertThat(session.abort(audioConversionService)).isTrue();
+		assertThat(session.abort(audioConversionService)).isFalse();
+
+		verify(conversion).abort();
+		assertThat(session.getStatus()).isEqualTo(UploadSession.Status.ABORTED);
+		assertThat(closed).hasValue(1);
+		assertStatus(() -> accept(1, chunk(2, 10)), HttpStatus.CONFLICT);
+	}
+
+	private boolean accept(int sequence, byte[] data) {
+		return session.accept(sequence, data, MAX_PENDING_CHUNKS, MAX_SESSION_BYTES);
+	}
+
+	private static void assertStatus(ThrowingCallable call, HttpStatus status) {
+		assertThatThrownBy(call)
+			.isInstanceOf(UploadSessionException.class)
+			.extracting(e -> ((UploadSessionException) e).getStatus())
+			.isEqualTo(status);
+	}
+
+	private static byte[] chunk(int seed, int length) {
+		byte[] data = new byte[length];
+		for (int i = 0; i < length; i++) {
+			data[i] = (byte) (seed * 31 + i);
+		}
+		return data;
+	}
+}
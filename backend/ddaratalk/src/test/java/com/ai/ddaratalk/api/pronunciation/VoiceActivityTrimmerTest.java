@@ -0,0 +1,202 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class VoiceActivityTrimmerTest {
+
+	private static final int SAMPLE_RATE = 16000;
+
+	@TempDir
+	Path tempDir;
+
+	private PronunciationMetrics pronunciationMetrics;
+	private VoiceActivityTrimmer trimmer;
+
+	@BeforeEach
+	void setUp() {
+		pronunciationMetrics = mock(PronunciationMetrics.class);
+		trimmer = new VoiceActivityTrimmer(pronunciationMetrics);
+		ReflectionTestUtils.setField(trimmer, "enabled", true);
+		ReflectionTestUtils.setField(trimmer, "thresholdDb", 12.0);
+		ReflectionTestUtils.setField(trimmer, "minLevelDbfs", -50.0);
+		ReflectionTestUtils.setField(trimmer, "minSpeechMillis", 200L);
+		ReflectionTestUtils.setField(trimmer, "paddingMillis", 150L);
+	}
+
+	@Test
+	void trimsLeadingAndTrailingSilenceWithPadding() throws IOException {
+		Path wav = writeWav(noise(1.0), tone(1.0, 440, 8000), noise(1.0));
+
+		VoiceActivityTrimmer.AudioProfile profile = trimmer.trim(wav);
+
+		// 음성 1초 + 앞뒤 여유 150ms (20ms 프레임 단위로 올림해 160ms)
+		assertThat(profile.originalDuration()).isCloseTo(3.0, within(1e-9));
+		assertThat(profile.duration()).isCloseTo(1.32, within(1e-9));
+		assertThat(profile.snrDb()).isGreaterThan(30);
+		assertThat(profile.clippingRatio()).isZero();
+		assertThat(profile.qualityScore()).isEqualTo(1.0);
+		assertThat(readSamples(wav)).hasSize((int) Math.round(1.32 * SAMPLE_RATE));
+		verify(pronunciationMetrics).recordSilenceTrim(profile.originalDuration() - profile.duration());
+	}
+
+	@Test
+	void keepsFileWhenSilenceIsWithinPadding() throws IOException {
+		short[] edge = noise(0.1);
+		short[] speech = tone(1.0, 440, 8000);
+		Path wav = writeWav(edge, speech, edge);
+		short[] original = readSamples(wav);
+
+		VoiceActivityTrimmer.AudioProfile profile = trimmer.trim(wav);
+
+		assertThat(profile.duration()).isEqualTo(profile.originalDuration());
+		assertThat(readSamples(wav)).isEqualTo(original);
+	}
+
+	@Test
+	void keepsSteadySignalWithoutSilence() throws IOException {
+		// 앞뒤 무음 없이 일정한 소리 (약 -15dBFS)
+		Path wav = writeWav(tone(2.0, 440, 8192));
+		short[] original = readSamples(wav);
+
+		VoiceActivityTrimmer.AudioProfile profile = trimmer.trim(wav);
+
+		assertThat(profile.duration()).isEqualTo(2.0);
+		assertThat(readSamples(wav)).isEqualTo(original);
+	}
+
+	@Test
+	void rejectsSteadySignalBelowMinimumLevel() throws IOException {
+		Path wav = writeWav(tone(2.0, 440, 65));
+
+		assertThatThrownBy(() -> trimmer.trim(wav)).isInstanceOf(SilentRecordingException.class);
+	}
+
+	@Test
+	void rejectsNoiseOnlyRecording() throws IOException {
+		Path wav = writeWav(noise(2.0));
+
+		assertThatThrownBy(() -> trimmer.trim(wav)).isInstanceOf(SilentRecordingException.class);
+		verify(pronunciationMetrics).recordSilentRecording();
+	}
+
+	@Test
+	void rejectsRecordingShorterThanOneFrame() throws IOException {
+		Path wav = writeWav(new short[100]);
+
+		assertThatThrownBy(() -> trimmer.trim(wav)).isInstanceOf(SilentRecordingException.class);
+		verify(pronunciationMetrics, never()).recordSilentRecording();
+	}
+
+	@Test
+	void rejectsSpeechShorterThanMinimum() throws IOException {
+		Path wav = writeWav(noise(1.0), tone(0.1, 440, 8000), noise(1.0));
+
+		assertThatThrownBy(() -> trimmer.trim(wav)).isInstanceOf(SilentRecordingException.class);
+	}
+
+	@Test
+	void appliesMinimumLevelRegardlessOfNoiseFloor() throws IOException {
+		// 잡음보다 충분히 크지만 -50dBFS보다 작은 소리 (약 -57dBFS)
+		Path quiet = writeWav(digitalSilence(1.0), tone(1.0, 440, 65), digitalSilence(1.0));
+		// -50dBFS보다 큰 소리 (약 -43dBFS)
+		Path audible = writeWav(digitalSilence(1.0), tone(1.0, 440, 320), digitalSilence(1.0));
+
+		assertThatThrownBy(() -> trimmer.trim(quiet)).isInstanceOf(SilentRecordingException.class);
+		assertThat(trimmer.trim(audible).duration()).isCloseTo(1.32, within(1e-9));
+	}
+
+	@Test
+	void countsQuietHighZeroCrossingFramesAsUnvoicedSpeech() throws IOException {
+		ReflectionTestUtils.setField(trimmer, "minLevelDbfs", -90.0);
+		// 잡음 기준 약 -70dBFS → 음성 -58dBFS, 무성음 -64dBFS 이상
+		short[] fricative = alternating(0.5, 20);       // 약 -64dBFS 이상, 영교차율 1.0
+		short[] hum = tone(0.5, 100, 28);               // 같은 크기, 영교차율 낮음
+
+		Path withFricative = writeWav(noise(1.0), fricative, noise(1.0));
+		Path withHum = writeWav(noise(1.0), hum, noise(1.0));
+
+		assertThat(trimmer.trim(withFricative).duration()).isCloseTo(0.82, within(1e-9));
+		assertThatThrownBy(() -> trimmer.trim(withHum)).isInstanceOf(SilentRecordingException.class);
+	}
+
+	@Test
+	void penalizesClipping() throws IOException {
+		Path wav = writeWav(noise(0.5), alternating(1.0, Short.MAX_VALUE), noise(0.5));
+
+		VoiceActivityTrimmer.AudioProfile profile = trimmer.trim(wav);
+
+		assertThat(profile.clippingRatio()).isGreaterThan(0.05);
+		assertThat(profile.qualityScore()).isZero();
+	}
+
+	/**
+	 * 약 -70dBFS의 고주파 잡음
+	 */
+	private static short[] noise(double seconds) {
+		return alternating(seconds, 10);
+	}
+
+	private static short[] digitalSilence(double seconds) {
+		return new short[(int) (seconds * SAMPLE_RATE)];
+	}
+
+	private static short[] alternating(double seconds, int amplitude) {
+		short[] samples = new short[(int) (seconds * SAMPLE_RATE)];
+		for (int i = 0; i < samples.length; i++) {
+			samples[i] = (short) (i % 2 == 0 ? amplitude : -amplitude);
+		}
+		return samples;
+	}
+
+	private static short[] tone(double seconds, double frequency, int amplitude) {
+		short[] samples = new short[(int) (seconds * SAMPLE_RATE)];
+		for (int i = 0; i < samples.length; i++) {
+			samples[i] = (short) Math.round(amplitude * Math.sin(2 * Math.PI * frequency * i / SAMPLE_RATE));
+		}
+		return samples;
+	}
+
+	private Path writeWav(short[]... parts) throws IOException {
+		int length = 0;
+		for (short[] part : parts) {
+			length += part.length;
+		}
+		ByteBuffer wav = ByteBuffer.allocate(WavHeader.HEADER_SIZE + length * 2).order(ByteOrder.LITTLE_ENDIAN);
+		wav.put(WavHeader.create(SAMPLE_RATE, 1, 16, length * 2L));
+		for (short[] part : parts) {
+			for (short sample : part) {
+				wav.putShort(sample);
+			}
+		}
+		Path path = Files.createTempFile(tempDir, "vad", ".wav");
+		Files.write(path, wav.array());
+		return path;
+	}
+
+	private static short[] readSamples(Path wav) throws IOException {
+		try (InputStream in = Files.newInputStream(wav)) {
+			long dataLength = WavHeader.skipToData(in);
+			byte[] pcm = in.readNBytes((int) dataLength);
+			short[] samples = new short[pcm.length / 2];
+			ByteBuffer.wrap(pcm).order(ByteOrder.LITTLE_ENDIAN).asShortBuffer().get(samples);
+			return samples;
+		}
+	}
+}
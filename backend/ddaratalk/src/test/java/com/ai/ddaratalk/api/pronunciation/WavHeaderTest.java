@@ -0,0 +1,161 @@
+package com.ai.ddaratalk.api.pronunciation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class WavHeaderTest {
+
+	private static final byte[] PCM = {1, 2, 3, 4};
+
+	@Test
+	void readsFormatOfCreatedHeader() throws IOException {
+		ByteBuffer header = WavHeader.create(16000, 1, 16, PCM.length);
+		byte[] wav = new byte[header.remaining() + PCM.length];
+		header.get(wav, 0, WavHeader.HEADER_SIZE);
+		System.arraycopy(PCM, 0, wav, WavHeader.HEADER_SIZE, PCM.length);
+		InputStream in = new ByteArrayInputStream(wav);
+
+		WavHeader.Format format = WavHeader.readFormat(in);
+
+		assertThat(format.matches(16000, 1, 16)).isTrue();
+		assertThat(format.isLinearPcm()).isTrue();
+		assertThat(format.isFloat()).isFalse();
+		assertThat(format.blockAlign()).isEqualTo(2);
+		assertThat(format.dataLength()).isEqualTo(PCM.length);
+		// 스트림은 data 청크 시작 위치
+		assertThat(in.readAllBytes()).isEqualTo(PCM);
+	}
+
+	@Test
+	void skipsExtraChunksIncludingOddSizedPadding() throws IOException {
+		byte[] wav = riff(
+			chunk("LIST", new byte[5]),
+			chunk("fmt ", fmt(1, 2, 44100, 16)),
+			chunk("bext", new byte[3]),
+			chunk("data", PCM));
+		InputStream in = new ByteArrayInputStream(wav);
+
+		WavHeader.Format format = WavHeader.readFormat(in);
+
+		assertThat(format.channels()).isEqualTo(2);
+		assertThat(format.sampleRate()).isEqualTo(44100);
+		assertThat(format.matches(16000, 1, 16)).isFalse();
+		assertThat(in.readAllBytes()).isEqualTo(PCM);
+	}
+
+	@Test
+	void resolvesExtensibleSubformat() throws IOException {
+		ByteBuffer extensible = ByteBuffer.allocate(40).order(ByteOrder.LITTLE_ENDIAN);
+		extensible.put(fmt(0xFFFE, 1, 48000, 32));
+		extensible.putShort(16, (short) 22);
+		extensible.putShort(24, (short) 3);   // 서브포맷 IEEE float
+
+		WavHeader.Format format = WavHeader.readFormat(new ByteArrayInputStream(
+			riff(chunk("fmt ", extensible.array()), chunk("data", PCM))));
+
+		assertThat(format.formatTag()).isEqualTo(3);
+		assertThat(format.isFloat()).isTrue();
+		assertThat(format.isLinearPcm()).isTrue();
+	}
+
+	@Test
+	void treatsStreamingDataLengthAsUnknown() throws IOException {
+		for (int length : new int[] {0, 0xFFFFFFFF}) {
+			byte[] wav = riff(chunk("fmt ", fmt(1, 1, 16000, 16)), chunkHeader("data", length));
+
+			WavHeader.Format format = WavHeader.readFormat(new ByteArrayInputStream(wav));
+
+			assertThat(format.dataLength()).isEqualTo(WavHeader.UNKNOWN_LENGTH);
+		}
+	}
+
+	@Test
+	void rejectsUnsupportedSampleFormats() throws IOException {
+		WavHeader.Format alaw = WavHeader.readFormat(new ByteArrayInputStream(
+			riff(chunk("fmt ", fmt(6, 1, 8000, 8)), chunk("data", PCM))));
+		WavHeader.Format pcm12 = WavHeader.readFormat(new ByteArrayInputStream(
+			riff(chunk("fmt ", fmt(1, 1, 8000, 12)), chunk("data", PCM))));
+
+		assertThat(alaw.isLinearPcm()).isFalse();
+		assertThat(pcm12.isLinearPcm()).isFalse();
+	}
+
+	@Test
+	void failsOnMalformedFiles() {
+		assertThatThrownBy(() -> WavHeader.readFormat(new ByteArrayInputStream("OggS0000000000".getBytes(
+			StandardCharsets.US_ASCII)))).isInstanceOf(IOException.class);
+		assertThatThrownBy(() -> WavHeader.readFormat(new ByteArrayInputStream(
+			riff(chunk("data", PCM), chunk("fmt ", fmt(1, 1, 16000, 16)))))).isInstanceOf(IOException.class);
+		assertThatThrownBy(() -> WavHeader.readFormat(new ByteArrayInputStream(
+			riff(chunk("fmt ", fmt(1, 1, 16000, 16)))))).isInstanceOf(IOException.class);
+		assertThatThrownBy(() -> WavHeader.readFormat(new ByteArrayInputStream(
+			riff(chunk("fmt ", new byte[8]), chunk("data", PCM))))).isInstanceOf(IOException.class);
+	}
+
+	@Test
+	void skipToDataReturnsDataLength() throws IOException {
+		byte[] wav = riff(chunk("fmt ", fmt(1, 1, 16000, 16)), chunk("LIST", new byte[7]), chunk("data", PCM));
+		InputStream in = new ByteArrayInputStream(wav);
+
+		assertThat(WavHeader.skipToData(in)).isEqualTo(PCM.length);
+		assertThat(in.readAllBytes()).isEqualTo(PCM);
+	}
+
+	@Test
+	void detectsWavSignature() {
+		assertThat(WavHeader.isWav(riff())).isTrue();
+		assertThat(WavHeader.isWav("RIFF".getBytes(StandardCharsets.US_ASCII))).isFalse();
+	}
+
+	private static byte[] riff(byte[]... chunks) {
+		ByteArrayOutputStream body = new ByteArrayOutputStream();
+		for (byte[] chunk : chunks) {
+			body.writeBytes(chunk);
+		}
+		ByteBuffer riff = ByteBuffer.allocate(12 + body.size()).order(ByteOrder.LITTLE_ENDIAN);
+		riff.put("RIFF".getBytes(StandardCharsets.US_ASCII));
+		riff.putInt(4 + body.size());
+		riff.put("WAVE".getBytes(StandardCharsets.US_ASCII));
+		riff.put(body.toByteArray());
+		return riff.array();
+	}
+
+	/**
+	 * 청크 (홀수 길이면 패딩 1바이트 추가)
+	 */
+	private static byte[] chunk(String id, byte[] body) {
+		ByteBuffer chunk = ByteBuffer.allocate(8 + body.length + (body.length & 1)).order(ByteOrder.LITTLE_ENDIAN);
+		chunk.put(chunkHeader(id, body.length));
+		chunk.put(body);
+		return chunk.array();
+	}
+
+	private static byte[] chunkHeader(String id, int length) {
+		ByteBuffer header = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+		header.put(id.getBytes(StandardCharsets.US_ASCII));
+		header.putInt(length);
+		return header.array();
+	}
+
+	private static byte[] fmt(int formatTag, int channels, int sampleRate, int bitsPerSample) {
+		int blockAlign = channels * bitsPerSample / 8;
+		ByteBuffer fmt = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+		fmt.putShort((short) formatTag);
+		fmt.putShort((short) channels);
+		fmt.putInt(sampleRate);
+		fmt.putInt(sampleRate * blockAlign);
+		fmt.putShort((short) blockAlign);
+		fmt.putShort((short) bitsPerSample);
+		return fmt.array();
+	}
+}
@@ -4,6 +4,7 @@ import json
 import time
 import glob
 import sys
+import threading
 import traceback
 import subprocess
 
@@ -11,11 +12,29 @@ sys.path.append('/data/project/nia/pron')
 
 SHARED_INPUT_PATH = "/data/project/shared_data/input/"
 SHARED_OUTPUT_PATH = "/data/project/shared_data/output/"
+HEARTBEAT_PATH = "/data/project/shared_data/heartbeat.json"
+HEARTBEAT_INTERVAL_SECONDS = 2
 
 def log_message(message):
     timestamp = time.strftime("%Y-%m-%d %H:%M:%S")
     print(f"[{timestamp}] {message}")
 
+def write_heartbeat(status="running"):
+    """백엔드 회로 차단기가 확인하는 생존 신호 (임시 파일에 쓴 뒤 rename)"""
+    tmp_file = HEARTBEAT_PATH + ".tmp"
+    with open(tmp_file, 'w') as f:
+        json.dump({"timestamp": time.time(), "pid": os.getpid(), "status": status}, f)
+    os.replace(tmp_file, HEARTBEAT_PATH)
+
+def heartbeat_loop(stop_event):
+    """분석이 오래 걸려도 하트비트가 끊기지 않도록 별도 스레드에서 주기적으로 갱신"""
+    while not stop_event.is_set():
+        try:
+            write_heartbeat()
+        except Exception as e:
+            log_message(f"하트비트 기록 실패: {e}")
+        stop_event.wait(HEARTBEAT_INTERVAL_SECONDS)
+
 def analyze_with_original_script(wav_path, lang='en'):
     """원본 AI Hub inference_wav.py 스크립트 직접 호출"""
     try:
@@ -82,13 +101,103 @@ def analyze_with_original_script(wav_path, lang='en'):
         log_message(traceback.format_exc())
         return None
 
+def analyze_wav(wav_path, lang):
+    """WAV 하나를 분석하여 결과 딕셔너리 반환"""
+    start_time = time.time()
+
+    # 원본 AI Hub 스크립트 사용
+    score = analyze_with_original_script(wav_path, lang)
+
+    processing_time = time.time() - start_time
+
+    if score is not None:
+        log_message(f"원본 AI 분석 결과: {score} (처리시간: {processing_time:.2f}초)")
+        return {
+            "score": float(score),
+            "timestamp": time.time(),
+            "status": "success",
+            "language": lang,
+            "processing_time": processing_time,
+            "model_type": "original_ai_hub"
+        }
+
+    log_message(f"AI 분석 실패 (처리시간: {processing_time:.2f}초)")
+    return {
+        "error": "AI 분석 실패",
+        "timestamp": time.time(),
+        "status": "error",
+        "processing_time": processing_time
+    }
+
+def is_cancelled(item_id):
+    """백엔드가 더 이상 결과를 기다리지 않는 요청인지 확인 (input/<id>.cancel, 확인 후 표시 삭제)"""
+    marker = SHARED_INPUT_PATH + item_id + ".cancel"
+    if not os.path.exists(marker):
+        return False
+    try:
+        os.remove(marker)
+    except FileNotFoundError:
+        pass
+    return True
+
+def write_json_atomic(path, data):
+    """임시 파일에 쓴 뒤 rename 하여 읽는 쪽이 완성된 파일만 보도록 함"""
+    tmp_file = path + ".tmp"
+    with open(tmp_file, 'w') as f:
+        json.dump(data, f, indent=2)
+    os.replace(tmp_file, path)
+
+def process_batch_file(batch_file):
+    """배치 매니페스트 처리 (백엔드 app.analysis.transport=batch)
+
+    매니페스트의 모든 WAV를 분석하여 <batch_id>.batch.result 하나로 결과를 기록한다.
+    """
+    log_message(f"배치 파일 처리: {batch_file}")
+
+    with open(batch_file, 'r') as f:
+        manifest = json.load(f)
+
+    batch_id = manifest['batch_id']
+    lang = manifest.get('lang', 'en')
+    results = []
+
+    for item in manifest.get('items', []):
+        wav_path = SHARED_INPUT_PATH + item['wav_file']
+        if is_cancelled(item['id']):
+            log_message(f"취소된 요청 건너뜀: {item['id']}")
+            result_data = {"error": "요청 취소됨", "timestamp": time.time(), "status": "error"}
+        elif os.path.exists(wav_path):
+            result_data = analyze_wav(wav_path, lang)
+        else:
+            result_data = {"error": "WAV 파일 없음", "timestamp": time.time(), "status": "error"}
+        result_data["id"] = item['id']
+        results.append(result_data)
+
+    write_json_atomic(SHARED_OUTPUT_PATH + batch_id + ".batch.result",
+                      {"batch_id": batch_id, "results": results})
+    os.remove(batch_file)
+
+def request_mtime(path):
+    """요청 파일 생성 시각 (처리 순서 정렬용, 이미 삭제되었으면 0)"""
+    try:
+        return os.path.getmtime(path)
+    except OSError:
+        return 0
+
 def process_requests():
     log_message("=== 원본 AI Hub 스크립트 모니터링 시작 ===")
     os.makedirs(SHARED_OUTPUT_PATH, exist_ok=True)
     
     while True:
         try:
-            request_files = glob.glob(SHARED_INPUT_PATH + "*.request")
+            for batch_file in glob.glob(SHARED_INPUT_PATH + "*.batch"):
+                try:
+                    process_batch_file(batch_file)
+                except Exception as e:
+                    log_message(f"배치 처리 오류: {e}")
+
+            # 먼저 도착한 요청부터 처리 (우선순위·마감 순서는 백엔드 스케줄러가 전달 시점에 결정)
+            request_files = sorted(glob.glob(SHARED_INPUT_PATH + "*.request"), key=request_mtime)
             
             for request_file in request_files:
                 try:
@@ -101,37 +210,14 @@ def process_requests():
                     wav_path = SHARED_INPUT_PATH + wav_file
                     lang = request_data.get('lang', 'en')
                     
-                    if os.path.exists(wav_path):
-                        start_time = time.time()
-                        
-                        # 원본 AI Hub 스크립트 사용
-                        score = analyze_with_original_script(wav_path, lang)
-                        
-                        processing_time = time.time() - start_time
-                        
+                    if is_cancelled(os.path.splitext(wav_file)[0]):
+                        log_message(f"취소된 요청 건너뜀: {request_file}")
+                    elif os.path.exists(wav_path):
                         result_file = SHARED_OUTPUT_PATH + wav_file + ".result"
-                        
-                        if score is not None:
-                            result_data = {
-                                "score": float(score),
-                                "timestamp": time.time(),
-                                "status": "success",
-                                "language": lang,
-                                "processing_time": processing_time,
-                                "model_type": "original_ai_hub"
-                            }
-                            log_message(f"원본 AI 분석 결과: {score} (처리시간: {processing_time:.2f}초)")
-                        else:
-                            result_data = {
-                                "error": "AI 분석 실패",
-                                "timestamp": time.time(),
-                                "status": "error",
-                                "processing_time": processing_time
-                            }
-                            log_message(f"AI 분석 실패 (처리시간: {processing_time:.2f}초)")
-                        
-                        with open(result_file, 'w') as f:
-                            json.dump(result_data, f, indent=2)
+                        result_data = analyze_wav(wav_path, lang)
+
+                        # 임시 파일에 쓴 뒤 rename 하여 백엔드가 완성된 결과만 보도록 함
+                        write_json_atomic(result_file, result_data)
                     
                     os.remove(request_file)
                     
@@ -144,4 +230,11 @@ def process_requests():
         time.sleep(1)
 
 if __name__ == "__main__":
-    process_requests()
+    heartbeat_stop = threading.Event()
+    threading.Thread(target=heartbeat_loop, args=(heartbeat_stop,), daemon=True).start()
+    try:
+        process_requests()
+    finally:
+        # 정상 종료 시 백엔드가 시간 초과를 기다리지 않고 바로 거절하도록 표시
+        heartbeat_stop.set()
+        write_heartbeat("stopped")
@@ -4,22 +4,47 @@ import json
 import time
 import glob
 import sys
+import threading
 import traceback
 
 sys.path.append('/data/project/nia/pron')
 
-SHARED_INPUT_PATH = "/data/project/shared_data/input/"
-SHARED_OUTPUT_PATH = "/data/project/shared_data/output/"
+# 워커별 스풀로 여러 개를 띄울 때는 SHARED_DATA_DIR로 공유 디렉토리 지정 (app.analysis.transport=routed)
+SHARED_DATA_DIR = os.environ.get("SHARED_DATA_DIR", "/data/project/shared_data")
+SHARED_INPUT_PATH = os.path.join(SHARED_DATA_DIR, "input") + "/"
+SHARED_OUTPUT_PATH = os.path.join(SHARED_DATA_DIR, "output") + "/"
+HEARTBEAT_PATH = os.path.join(SHARED_DATA_DIR, "heartbeat.json")
+HEARTBEAT_INTERVAL_SECONDS = 2
+# 느린 워커 흉내 (요청당 지연 시간, 초)
+STUB_DELAY_SECONDS = float(os.environ.get("STUB_DELAY_SECONDS", "0"))
 
 def log_message(message):
     timestamp = time.strftime("%Y-%m-%d %H:%M:%S")
     print(f"[{timestamp}] {message}")
 
+def write_heartbeat(status="running"):
+    """백엔드 회로 차단기가 확인하는 생존 신호 (임시 파일에 쓴 뒤 rename)"""
+    tmp_file = HEARTBEAT_PATH + ".tmp"
+    with open(tmp_file, 'w') as f:
+        json.dump({"timestamp": time.time(), "pid": os.getpid(), "status": status}, f)
+    os.replace(tmp_file, HEARTBEAT_PATH)
+
+def heartbeat_loop(stop_event):
+    """분석이 오래 걸려도 하트비트가 끊기지 않도록 별도 스레드에서 주기적으로 갱신"""
+    while not stop_event.is_set():
+        try:
+            write_heartbeat()
+        except Exception as e:
+            log_message(f"하트비트 기록 실패: {e}")
+        stop_event.wait(HEARTBEAT_INTERVAL_SECONDS)
+
 def analyze_pronunciation_simple(wav_path, lang='en'):
     """간단한 발음 분석 (테스트용)"""
     try:
         log_message(f"발음 분석: {wav_path}")
         import random
+        if STUB_DELAY_SECONDS > 0:
+            time.sleep(STUB_DELAY_SECONDS)
         # 실제 파일 크기 기반 점수 생성
         if os.path.exists(wav_path):
             file_size = os.path.getsize(wav_path)
@@ -33,6 +58,13 @@ def analyze_pronunciation_simple(wav_path, lang='en'):
         log_message(f"분석 중 오류: {e}")
         return 2.5
 
+def request_mtime(path):
+    """요청 파일 생성 시각 (처리 순서 정렬용, 이미 삭제되었으면 0)"""
+    try:
+        return os.path.getmtime(path)
+    except OSError:
+        return 0
+
 def process_requests():
     log_message("모니터링 시작...")
     
@@ -41,7 +73,8 @@ def process_requests():
     
     while True:
         try:
-            request_files = glob.glob(SHARED_INPUT_PATH + "*.request")
+            # 먼저 도착한 요청부터 처리 (우선순위·마감 순서는 백엔드 스케줄러가 전달 시점에 결정)
+            request_files = sorted(glob.glob(SHARED_INPUT_PATH + "*.request"), key=request_mtime)
             
             for request_file in request_files:
                 try:
@@ -99,4 +132,11 @@ def process_requests():
         time.sleep(1)
 
 if __name__ == "__main__":
-    process_requests()
+    heartbeat_stop = threading.Event()
+    threading.Thread(target=heartbeat_loop, args=(heartbeat_stop,), daemon=True).start()
+    try:
+        process_requests()
+    finally:
+        # 정상 종료 시 백엔드가 시간 초과를 기다리지 않고 바로 거절하도록 표시
+        heartbeat_stop.set()
+        write_heartbeat("stopped")
@@ -0,0 +1,132 @@
+#!/usr/bin/env python3
+"""Unix 도메인 소켓 기반 모델 피어
+
+백엔드 app.analysis.transport=socket 설정과 짝을 이루는 프로세스.
+공유 디렉토리에 .request/.result 파일을 만들지 않고 소켓으로 PCM을 직접 받아 분석한다.
+
+프레임 형식 (길이는 모두 4바이트 big-endian):
+  요청 = [헤더 길이][헤더 JSON (pcm_length 포함)][PCM 바이트]
+  응답 = [결과 길이][결과 JSON]
+
+사용법:
+  python socket_ai_monitor.py                 # 원본 AI Hub 스크립트로 분석
+  python socket_ai_monitor.py --stub          # 무작위 점수로 즉시 응답 (로컬 테스트용)
+  python socket_ai_monitor.py --socket /tmp/ddaratalk-model.sock
+"""
+import argparse
+import json
+import os
+import random
+import socketserver
+import struct
+import tempfile
+import time
+import traceback
+import wave
+
+DEFAULT_SOCKET_PATH = "/tmp/ddaratalk-model.sock"
+
+
+def log_message(message):
+    timestamp = time.strftime("%Y-%m-%d %H:%M:%S")
+    print(f"[{timestamp}] {message}", flush=True)
+
+
+def read_exact(rfile, length):
+    data = rfile.read(length)
+    if data is None or len(data) < length:
+        raise EOFError("연결이 종료되었습니다")
+    return data
+
+
+def analyze_stub(wav_path, lang='en'):
+    """로컬 테스트용 무작위 점수"""
+    return round(random.uniform(2.5, 4.8), 2)
+
+
+def analyze_original(wav_path, lang='en'):
+    """원본 AI Hub 스크립트 사용 (correct_ai_monitor.py와 동일)"""
+    from correct_ai_monitor import analyze_with_original_script
+    return analyze_with_original_script(wav_path, lang)
+
+
+class AnalysisHandler(socketserver.StreamRequestHandler):
+    analyze = staticmethod(analyze_original)
+    model_type = "original_ai_hub"
+
+    def handle(self):
+        while True:
+            try:
+                header_length = struct.unpack(">I", read_exact(self.rfile, 4))[0]
+            except EOFError:
+                return
+
+            header = json.loads(read_exact(self.rfile, header_length).decode("utf-8"))
+            pcm = read_exact(self.rfile, int(header["pcm_length"]))
+            result = self.process(header, pcm)
+
+            payload = json.dumps(result).encode("utf-8")
+            self.wfile.write(struct.pack(">I", len(payload)) + payload)
+            self.wfile.flush()
+
+    def process(self, header, pcm):
+        lang = header.get("lang", "en")
+        start_time = time.time()
+        log_message(f"소켓 요청 처리: id={header.get('id')}, lang={lang}, pcm={len(pcm)}바이트")
+
+        # AI 스크립트는 WAV 경로를 입력받으므로 임시 파일로 기록
+        fd, wav_path = tempfile.mkstemp(suffix=".wav")
+        try:
+            with os.fdopen(fd, "wb") as f, wave.open(f, "wb") as wav:
+                wav.setnchannels(int(header.get("channels", 1)))
+                wav.setsampwidth(int(header.get("bits_per_sample", 16)) // 8)
+                wav.setframerate(int(header.get("sample_rate", 16000)))
+                wav.writeframes(pcm)
+
+            score = self.analyze(wav_path, lang)
+        except Exception as e:
+            log_message(f"요청 처리 오류: {e}")
+            log_message(traceback.format_exc())
+            score = None
+        finally:
+            os.remove(wav_path)
+
+        processing_time = time.time() - start_time
+        if score is not None:
+            log_message(f"AI 분석 결과: {score} (처리시간: {processing_time:.2f}초)")
+            return {
+                "score": float(score),
+                "timestamp": time.time(),
+                "status": "success",
+                "language": lang,
+                "processing_time": processing_time,
+                "model_type": self.model_type
+            }
+        return {
+            "error": "AI 분석 실패",
+            "timestamp": time.time(),
+            "status": "error",
+            "processing_time": processing_time
+        }
+
+
+def main():
+    parser = argparse.ArgumentParser()
+    parser.add_argument("--socket", default=DEFAULT_SOCKET_PATH)
+    parser.add_argument("--stub", action="store_true", help="모델 없이 무작위 점수로 응답")
+    args = parser.parse_args()
+
+    if args.stub:
+        AnalysisHandler.analyze = staticmethod(analyze_stub)
+        AnalysisHandler.model_type = "stub"
+
+    if os.path.exists(args.socket):
+        os.remove(args.socket)
+
+    with socketserver.ThreadingUnixStreamServer(args.socket, AnalysisHandler) as server:
+        log_message(f"=== 소켓 모델 피어 시작: {args.socket} (stub={args.stub}) ===")
+        server.serve_forever()
+
+
+if __name__ == "__main__":
+    main()